@@ -0,0 +1,22 @@
+package org.usyj.makgora.admin.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.usyj.makgora.ranking.service.RankingStatsService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/rankings")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+public class AdminRankingController {
+
+    private final RankingStatsService rankingStatsService;
+
+    /** ✔ 정산 이력으로 베팅 집계(user_bet_stats) + 승률 / 연승 / 포인트 랭킹 재구성 (1회성) */
+    @PostMapping("/backfill")
+    public RankingStatsService.BackfillResult backfill() {
+        return rankingStatsService.backfill();
+    }
+}
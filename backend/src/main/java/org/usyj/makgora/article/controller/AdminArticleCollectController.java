@@ -9,7 +9,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.usyj.makgora.article.dto.response.ArticleCollectResponse;
 import org.usyj.makgora.article.service.ArticleCollectByDBRssService;
+import org.usyj.makgora.article.service.ArticleScoreSyncService;
 import org.usyj.makgora.article.service.PythonAiTitleService;
+import org.usyj.makgora.article.service.SeenLinkIndex;
 import org.usyj.makgora.rssfeed.entity.RssFeedEntity;
 import org.usyj.makgora.rssfeed.service.RssFeedInfoService;
 
@@ -26,6 +28,8 @@ public class AdminArticleCollectController {
     private final ArticleCollectByDBRssService feedArticleService;
     private final PythonAiTitleService pythonAiTitleService;
     private final RssFeedInfoService rssFeedInfoService;
+    private final ArticleScoreSyncService scoreSyncService;
+    private final SeenLinkIndex seenLinkIndex;
 
     /**
      * 단일 Feed 수집 + AI 제목 생성
@@ -134,4 +138,31 @@ public class AdminArticleCollectController {
                 messages
         ));
     }
-}
\ No newline at end of file
+
+    /**
+     * 기사 점수 동기화 메트릭 (스캔 키 수 / 반영 행 수 / 지연)
+     * GET /api/admin/rss-feeds/score-sync/metrics
+     */
+    @GetMapping("/score-sync/metrics")
+    public ResponseEntity<ArticleScoreSyncService.SyncMetrics> getScoreSyncMetrics() {
+        return ResponseEntity.ok(scoreSyncService.getMetrics());
+    }
+
+    /**
+     * 수집 링크 인덱스 메트릭 (크기 / 메모리 / hit·miss)
+     * GET /api/admin/rss-feeds/seen-links/metrics
+     */
+    @GetMapping("/seen-links/metrics")
+    public ResponseEntity<SeenLinkIndex.IndexMetrics> getSeenLinkMetrics() {
+        return ResponseEntity.ok(seenLinkIndex.getMetrics());
+    }
+
+    /**
+     * 수집 링크 인덱스 재구성 (rss_articles 전체 재적재)
+     * POST /api/admin/rss-feeds/seen-links/rebuild
+     */
+    @PostMapping("/seen-links/rebuild")
+    public ResponseEntity<SeenLinkIndex.IndexMetrics> rebuildSeenLinks() {
+        return ResponseEntity.ok(seenLinkIndex.rebuild());
+    }
+}
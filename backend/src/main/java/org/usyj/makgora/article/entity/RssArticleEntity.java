@@ -11,7 +11,17 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "rss_articles")
+@Table(
+        name = "rss_articles",
+        indexes = {
+                // 홈/목록 최신순 top-N
+                @Index(name = "idx_article_published", columnList = "published_at")
+        },
+        uniqueConstraints = {
+                // 수집 중복 검사 (link IN ...) + 병렬 수집 시 같은 링크 중복 저장 차단 (INSERT IGNORE)
+                @UniqueConstraint(name = "uk_article_link", columnNames = "link")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -69,6 +79,10 @@ public class RssArticleEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 📥 일괄 수집 호출 토큰 (INSERT IGNORE 뒤 "이번 호출이 넣은 행" 판별용, 수집 외 경로는 null)
+    @Column(length = 36, updatable = false)
+    private String ingestToken;
+
     @Column(nullable = false)
     @Builder.Default
     private int viewCount = 0;
@@ -0,0 +1,8 @@
+package org.usyj.makgora.article.event;
+
+/**
+ * 📰 RSS 수집으로 새 기사가 저장됨 (저장 건수 > 0 일 때만 발행)
+ * - 홈 스냅샷 등 기사 목록 캐시 무효화 용도
+ */
+public record ArticlesCollectedEvent(Integer feedId, int saved) {
+}
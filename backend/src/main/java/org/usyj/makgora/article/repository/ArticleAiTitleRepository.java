@@ -1,8 +1,12 @@
 package org.usyj.makgora.article.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.usyj.makgora.article.entity.ArticleAiTitleEntity;
 import org.usyj.makgora.article.entity.RssArticleEntity;
@@ -25,4 +29,13 @@ public interface ArticleAiTitleRepository extends JpaRepository<ArticleAiTitleEn
 
     // AI 제목 생성 갯수 조회
     long countByStatus(String status); // 성공한 제목 개수 조회
+
+    // 🔥 기사 ID 목록의 AI 제목 일괄 조회 (기사당 1쿼리 대신 IN 1회) [articleId, aiTitle]
+    @Query("""
+        SELECT t.article.id, t.aiTitle
+        FROM ArticleAiTitleEntity t
+        WHERE t.article.id IN :articleIds
+          AND t.aiTitle IS NOT NULL
+    """)
+    List<Object[]> findTitlesByArticleIds(@Param("articleIds") Collection<Integer> articleIds);
 }
\ No newline at end of file
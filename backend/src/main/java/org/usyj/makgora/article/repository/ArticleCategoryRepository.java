@@ -1,9 +1,11 @@
 package org.usyj.makgora.article.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.usyj.makgora.article.entity.ArticleCategoryEntity;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +16,8 @@ public interface ArticleCategoryRepository extends JpaRepository<ArticleCategory
 
     // 이름이 존재하는지 확인
     boolean existsByName(String name);
+
+    // 📥 수집용 이름 → ID 맵 구성 [name, id]
+    @Query("SELECT c.name, c.id FROM ArticleCategoryEntity c")
+    List<Object[]> findAllNameIdPairs();
 }
\ No newline at end of file
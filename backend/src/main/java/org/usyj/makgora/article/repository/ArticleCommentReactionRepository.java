@@ -1,8 +1,12 @@
 package org.usyj.makgora.article.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.usyj.makgora.article.entity.ArticleCommentReactionEntity;
 
 public interface ArticleCommentReactionRepository
@@ -11,4 +15,22 @@ public interface ArticleCommentReactionRepository
     Optional<ArticleCommentReactionEntity> findByComment_IdAndUser_Id(Long commentId, Integer userId);
 
     long countByComment_IdAndReaction(Long commentId, Integer reaction);
+
+    // 댓글 목록 반응 수: [commentId, reaction, count]
+    @Query("""
+        SELECT r.comment.id, r.reaction, COUNT(r)
+        FROM ArticleCommentReactionEntity r
+        WHERE r.comment.id IN :commentIds
+        GROUP BY r.comment.id, r.reaction
+    """)
+    List<Object[]> countByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 댓글 목록 내 반응: [commentId, reaction]
+    @Query("""
+        SELECT r.comment.id, r.reaction
+        FROM ArticleCommentReactionEntity r
+        WHERE r.user.id = :userId AND r.comment.id IN :commentIds
+    """)
+    List<Object[]> findUserReactions(@Param("userId") Integer userId,
+                                     @Param("commentIds") Collection<Long> commentIds);
 }
\ No newline at end of file
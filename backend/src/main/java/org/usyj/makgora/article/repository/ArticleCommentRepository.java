@@ -32,6 +32,15 @@ public interface ArticleCommentRepository extends JpaRepository<ArticleCommentEn
     // 기사 기준 전체 댓글/대댓글 조회 (작성 시간 순)
     List<ArticleCommentEntity> findByArticle_IdOrderByCreatedAtAsc(Integer articleId);
 
+    // 댓글 트리용: 전체 댓글 + 작성자 1회 조회 (CommentTree 로 조립)
+    @Query("""
+        SELECT c FROM ArticleCommentEntity c
+        JOIN FETCH c.user
+        WHERE c.article.id = :articleId
+        ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    List<ArticleCommentEntity> findTreeByArticleId(@Param("articleId") Integer articleId);
+
     @Query("SELECT COUNT(c) FROM ArticleCommentEntity c WHERE c.article.id = :articleId")
 long countCommentsByArticle(@Param("articleId") Integer articleId);
 
@@ -7,6 +7,7 @@ import org.usyj.makgora.article.entity.ArticleReactionEntity;
 import org.usyj.makgora.article.entity.RssArticleEntity;
 import org.usyj.makgora.user.entity.UserEntity;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleReactionRepository extends JpaRepository<ArticleReactionEntity, Long> {
@@ -25,4 +26,8 @@ public interface ArticleReactionRepository extends JpaRepository<ArticleReaction
     @Query("SELECT COUNT(r) FROM ArticleReactionEntity r " +
            "WHERE r.article.id = :articleId AND r.reactionValue = -1")
     long countDisLikes(@Param("articleId") Integer articleId);
+
+    /** 기사 반응 전체 (Redis 시딩용) [userId, reactionValue] */
+    @Query("SELECT r.user.id, r.reactionValue FROM ArticleReactionEntity r WHERE r.article.id = :articleId")
+    List<Object[]> findUserReactionsByArticleId(@Param("articleId") Integer articleId);
 }
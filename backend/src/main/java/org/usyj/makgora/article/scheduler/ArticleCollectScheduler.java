@@ -1,19 +1,85 @@
 package org.usyj.makgora.article.scheduler;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.usyj.makgora.article.service.ArticleBulkWriter;
 import org.usyj.makgora.article.service.ArticleCollectByDBRssService;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.usyj.makgora.article.service.ArticleCollectByDBRssService.FeedOutcome;
+import org.usyj.makgora.article.service.RssFeedFetcher;
+import org.usyj.makgora.rssfeed.dto.response.FeedScheduleResponse;
+import org.usyj.makgora.rssfeed.entity.RssFeedEntity;
+import org.usyj.makgora.rssfeed.repository.RssFeedRepository;
+import org.usyj.makgora.rssfeed.service.RssFeedManagementService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * ⏰ RSS 피드별 적응형 폴링 스케줄러
+ *
+ * - 고정 cron(8/12/16/20시 전체 수집) 대신 피드마다 다음 폴링 시각을 따로 관리 (DelayQueue)
+ * - 간격 조정
+ *     · 새 기사 있음 → 관측된 유입 속도로 "폴링 1회당 target-new-per-poll 건" 이 되도록 (이전 간격과 평균)
+ *     · 304 / 새 기사 없음 → growth 배수로 늘림
+ *     · 실패 / 서킷 OPEN 스킵 → 2배 (백오프)
+ *     · Cache-Control max-age / Expires 보다 짧게는 폴링하지 않음
+ *     · [min-interval-sec, max-interval-sec] 로 제한 + ±10% jitter 로 부하 분산
+ * - 다음 폴링 시각 / 간격 / 적중 횟수는 rss_feeds 에 저장 → 재기동 후에도 이어서 진행
+ * - 실제 수집은 ArticleCollectByDBRssService 수집 풀에서 비동기 실행 (스케줄러 스레드 점유 없음)
+ */
 @Slf4j
 @Component // 🔹 스케줄러는 반드시 Spring Bean
 @RequiredArgsConstructor
 public class ArticleCollectScheduler {
 
+    private static final String UPDATE_SCHEDULE_SQL = """
+            UPDATE rss_feeds
+            SET next_poll_at = ?, poll_interval_sec = ?, poll_count = ?, poll_hit_count = ?
+            WHERE feed_id = ?
+            """;
+
     private final ArticleCollectByDBRssService feedArticleService;
+    private final ArticleBulkWriter bulkWriter;
+    private final RssFeedManagementService feedService;
+    private final RssFeedRepository feedRepo;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${rss.poll.default-interval-sec:1800}")
+    private long defaultIntervalSec;
+
+    @Value("${rss.poll.min-interval-sec:300}")
+    private long minIntervalSec;
+
+    @Value("${rss.poll.max-interval-sec:14400}")
+    private long maxIntervalSec;
+
+    @Value("${rss.poll.target-new-per-poll:3}")
+    private double targetNewPerPoll;
+
+    @Value("${rss.poll.growth:1.5}")
+    private double growth;
+
+    @Value("${rss.poll.max-per-tick:20}")
+    private int maxPerTick;
 
     /**
      * 🔹 애플리케이션 준비 완료 여부
@@ -23,6 +89,11 @@ public class ArticleCollectScheduler {
      */
     private volatile boolean appReady = false;
 
+    private final DelayQueue<PollTask> queue = new DelayQueue<>();
+
+    /** feedId → 폴링 상태 */
+    private final Map<Integer, PollState> states = new ConcurrentHashMap<>();
+
     /**
      * 🔹 애플리케이션 완전 기동 완료 이벤트
      *
@@ -33,36 +104,217 @@ public class ArticleCollectScheduler {
      */
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
+        resync();
         appReady = true;
-        log.info("🚀 ApplicationReadyEvent 수신 - RSS 스케줄러 실행 가능 상태");
+        log.info("🚀 ApplicationReadyEvent 수신 - RSS 적응형 스케줄러 시작 feeds={}", states.size());
     }
 
-    /**
-     * 🔹 RSS 전체 피드 자동 수집 스케줄
-     *
-     * 실행 시간:
-     * - 매일 08:00
-     * - 12:00
-     * - 16:00
-     * - 20:00
-     *
-     * cron = "0 0 8,12,16,20 * * *"
-     * └ 초 분 시 일 월 요일
-     */
-    @Scheduled(cron = "0 0 8,12,16,20 * * *")
-    public void collectAllFeedsSchedule() {
+    /* =========================================================
+       1️⃣ 피드 목록 동기화 (추가 / 비활성 피드 반영)
+       ========================================================= */
+    @Scheduled(fixedDelayString = "${rss.poll.resync-ms:300000}", initialDelayString = "${rss.poll.resync-ms:300000}")
+    public void resync() {
+        List<RssFeedEntity> feeds = feedService.getAllActiveFeeds();
+        Set<Integer> activeIds = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        for (RssFeedEntity feed : feeds) {
+            activeIds.add(feed.getId());
+            states.computeIfAbsent(feed.getId(), id -> {
+                PollState state = PollState.from(feed, defaultIntervalSec);
+
+                // 저장된 예정 시각이 없거나 지났으면 간격 안에서 무작위로 분산
+                long due = state.nextPollAt;
+                if (due <= now) {
+                    long spread = Math.min(state.intervalSec, minIntervalSec) * 1000;
+                    due = now + ThreadLocalRandom.current().nextLong(spread + 1);
+                }
+                state.nextPollAt = due;
+                queue.add(new PollTask(id, due));
+                return state;
+            });
+        }
+
+        // 비활성 / 삭제된 피드 제외 (큐에 남은 작업은 dispatch 에서 무시)
+        states.keySet().removeIf(id -> !activeIds.contains(id));
+    }
+
+    /* =========================================================
+       2️⃣ 만기 피드 실행
+       ========================================================= */
+    @Scheduled(fixedDelayString = "${rss.poll.tick-ms:5000}")
+    public void dispatch() {
 
         // 🔒 애플리케이션 준비 전 실행 차단
-        if (!appReady) {
-            log.warn("⛔ Application 준비 전 RSS 스케줄 실행 차단");
-            return;
+        if (!appReady) return;
+
+        List<PollTask> due = new ArrayList<>();
+        queue.drainTo(due, maxPerTick);
+        if (due.isEmpty()) return;
+
+        // 카테고리 맵 / 링크 인덱스 준비 (만기 피드가 있을 때만)
+        bulkWriter.prepareRun();
+
+        for (PollTask task : due) {
+            PollState state = states.get(task.feedId());
+            // 재조정으로 대체된 작업 / 제외된 피드
+            if (state == null || state.nextPollAt != task.dueAt() || state.running) continue;
+
+            RssFeedEntity feed = feedRepo.findById(task.feedId()).orElse(null);
+            if (feed == null || feed.getStatus() != RssFeedEntity.Status.ACTIVE) {
+                states.remove(task.feedId());
+                continue;
+            }
+
+            state.running = true;
+            feedArticleService.submitCollect(feed, outcome -> onPolled(state, outcome));
+        }
+    }
+
+    /** 관리자 즉시 폴링 요청 */
+    public void pollNow(Integer feedId) {
+        PollState state = states.get(feedId);
+        if (state == null) {
+            throw new IllegalArgumentException("스케줄에 없는 피드입니다. ID: " + feedId);
+        }
+        synchronized (state) {
+            state.nextPollAt = System.currentTimeMillis();
+            queue.add(new PollTask(feedId, state.nextPollAt));
+        }
+    }
+
+    /* =========================================================
+       3️⃣ 결과 반영 → 다음 폴링 예약
+       ========================================================= */
+    private void onPolled(PollState state, FeedOutcome outcome) {
+        long now = System.currentTimeMillis();
+        int saved = outcome.result().saved();
+
+        long next;
+        synchronized (state) {
+            long elapsedSec = state.lastPolledAt > 0 ? Math.max(1, (now - state.lastPolledAt) / 1000) : state.intervalSec;
+
+            double interval;
+            if (outcome.status() == RssFeedFetcher.Status.FAILED
+                    || outcome.status() == RssFeedFetcher.Status.SKIPPED) {
+                interval = state.intervalSec * 2.0;
+            } else if (saved == 0) {
+                interval = state.intervalSec * growth;
+            } else {
+                double ratePerSec = (double) saved / elapsedSec;
+                interval = (state.intervalSec + targetNewPerPoll / ratePerSec) / 2;
+            }
+
+            interval = Math.max(minIntervalSec, Math.min(maxIntervalSec, interval));
+            if (outcome.maxAgeSec() != null) {
+                // 캐시 유효 시간 안에는 다시 받아도 같은 응답
+                interval = Math.max(interval, Math.min(outcome.maxAgeSec(), maxIntervalSec));
+            }
+
+            state.intervalSec = (long) interval;
+            state.polls++;
+            if (saved > 0) state.hits++;
+            state.lastPolledAt = now;
+            state.lastStatus = outcome.status();
+            state.lastSaved = saved;
+            state.running = false;
+
+            // ±10% jitter → 같은 간격 피드들이 한 시점에 몰리지 않도록
+            double jitter = 1 + ThreadLocalRandom.current().nextDouble(-0.1, 0.1);
+            next = now + (long) (state.intervalSec * 1000 * jitter);
+            state.nextPollAt = next;
         }
 
-        log.info("⏰ RSS 전체 피드 수집 스케줄 시작");
+        try {
+            jdbcTemplate.update(UPDATE_SCHEDULE_SQL,
+                    toLocal(next), (int) state.intervalSec, (int) state.polls, (int) state.hits, state.feedId);
+        } catch (Exception e) {
+            log.warn("⚠️ 폴링 스케줄 저장 실패 | feedId:{} | {}", state.feedId, e.getMessage());
+        }
 
-        // 👉 실제 수집 로직은 서비스에 위임
-        feedArticleService.collectAllFeeds();
+        if (states.containsKey(state.feedId)) {
+            queue.add(new PollTask(state.feedId, next));
+        }
+    }
 
-        log.info("✅ RSS 전체 피드 수집 스케줄 종료");
+    /* =========================================================
+       4️⃣ 관리자 조회
+       ========================================================= */
+    public List<FeedScheduleResponse> getSchedules() {
+        return states.values().stream()
+                .sorted(Comparator.comparingLong(s -> s.nextPollAt))
+                .map(s -> {
+                    synchronized (s) {
+                        return new FeedScheduleResponse(
+                                s.feedId,
+                                s.sourceName,
+                                s.url,
+                                s.intervalSec,
+                                toLocal(s.nextPollAt),
+                                s.lastPolledAt > 0 ? toLocal(s.lastPolledAt) : null,
+                                s.lastStatus != null ? s.lastStatus.name() : null,
+                                s.lastSaved,
+                                s.polls,
+                                s.hits,
+                                s.polls > 0 ? (double) s.hits / s.polls : 0,
+                                s.running
+                        );
+                    }
+                })
+                .toList();
+    }
+
+    private static LocalDateTime toLocal(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+
+    /* ======================= 내부 구조 ======================== */
+
+    private record PollTask(Integer feedId, long dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAt, ((PollTask) other).dueAt);
+        }
+    }
+
+    /** 피드 1개 폴링 상태 (state 단위 synchronized) */
+    private static final class PollState {
+        final Integer feedId;
+        final String sourceName;
+        final String url;
+        volatile long intervalSec;
+        volatile long nextPollAt;
+        volatile long lastPolledAt;
+        volatile long polls;
+        volatile long hits;
+        volatile RssFeedFetcher.Status lastStatus;
+        volatile int lastSaved;
+        volatile boolean running;
+
+        private PollState(Integer feedId, String sourceName, String url) {
+            this.feedId = feedId;
+            this.sourceName = sourceName;
+            this.url = url;
+        }
+
+        static PollState from(RssFeedEntity feed, long defaultIntervalSec) {
+            PollState s = new PollState(feed.getId(), feed.getSourceName(), feed.getUrl());
+            s.intervalSec = feed.getPollIntervalSec() != null ? feed.getPollIntervalSec() : defaultIntervalSec;
+            s.nextPollAt = feed.getNextPollAt() != null
+                    ? feed.getNextPollAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : 0;
+            s.polls = feed.getPollCount() != null ? feed.getPollCount() : 0;
+            s.hits = feed.getPollHitCount() != null ? feed.getPollHitCount() : 0;
+            if (feed.getLastFetched() != null) {
+                s.lastPolledAt = feed.getLastFetched().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            }
+            return s;
+        }
     }
 }
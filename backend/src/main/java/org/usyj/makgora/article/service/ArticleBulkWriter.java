@@ -0,0 +1,238 @@
+package org.usyj.makgora.article.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.usyj.makgora.article.dto.RssArticleCreateDTO;
+import org.usyj.makgora.article.entity.ArticleCategoryEntity;
+import org.usyj.makgora.article.repository.ArticleCategoryRepository;
+import org.usyj.makgora.rssfeed.entity.RssFeedEntity;
+import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 📥 수집 기사 일괄 저장기
+ *
+ * - 엔트리별 existsByLink / save / 카테고리 조회 (100건 ≈ 300 round trip) 대신
+ *     1) 링크 중복 검사: SeenLinkIndex 로 걸러낸 hit 만 link IN (...) 1회 (청크 단위)
+ *     2) 카테고리: 이름 → ID 맵을 수집 실행 동안 메모리에 유지
+ *     3) rss_articles / article_categories_mapping: JDBC batch INSERT IGNORE
+ *        (IDENTITY 키라 Hibernate batch 가 꺼지므로 JdbcTemplate 사용, rewriteBatchedStatements=true)
+ * - 중복의 최종 판정은 uk_article_link (병렬 수집에서 다른 피드가 같은 링크를 먼저 넣은 경우 포함)
+ *     · 이번 호출이 넣은 행 = ingest_token 이 이번 호출의 토큰과 같은 행 → savedIds
+ *       (rewriteBatchedStatements 라 행별 update count 를 믿을 수 없어 토큰으로 판별)
+ *     · 먼저 들어간 행은 ID 만 회수해 카테고리 매핑을 붙인다
+ * - 호출하는 쪽 트랜잭션에 참여 (단독 트랜잭션 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleBulkWriter {
+
+    private static final String INSERT_ARTICLE_SQL = """
+            INSERT IGNORE INTO rss_articles
+                (feed_id, title, link, content, thumbnail_url, published_at,
+                 is_deleted, created_at, updated_at, ingest_token,
+                 view_count, like_count, dislike_count, comment_count, issue_created, ai_system_score)
+            VALUES (?, ?, ?, ?, ?, ?, false, ?, ?, ?, 0, 0, 0, 0, false, 0)
+            """;
+
+    private static final String INSERT_MAPPING_SQL =
+            "INSERT IGNORE INTO article_categories_mapping (article_id, category_id) VALUES (?, ?)";
+
+    private final RssArticleRepository articleRepo;
+    private final ArticleCategoryRepository categoryRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final SeenLinkIndex seenLinks;
+
+    @Value("${rss.collect.batch-size:500}")
+    private int batchSize;
+
+    /** 카테고리 이름 → ID (수집 실행 단위 캐시) */
+    private volatile Map<String, Integer> categoryIds;
+
+    /**
+     * 🔹 저장 결과
+     * savedIds: 새로 저장된 기사 ID / 각 단계 소요 시간(ms)
+     */
+    public record WriteResult(
+            int fetched,
+            int saved,
+            int skipped,
+            List<Integer> savedIds,
+            long dedupMs,
+            long insertMs
+    ) {}
+
+    /* =========================================================
+       1️⃣ 카테고리 맵 (실행 단위 캐시)
+       ========================================================= */
+
+    /** 수집 실행 시작 시 호출 → 카테고리 맵 1회 로딩 + 링크 인덱스 편입 */
+    public void prepareRun() {
+        refreshCategories();
+        seenLinks.catchUp();
+    }
+
+    public void refreshCategories() {
+        Map<String, Integer> map = new ConcurrentHashMap<>();
+        for (Object[] row : categoryRepo.findAllNameIdPairs()) {
+            map.put((String) row[0], (Integer) row[1]);
+        }
+        categoryIds = map;
+    }
+
+    private Map<String, Integer> categoryIds() {
+        Map<String, Integer> map = categoryIds;
+        if (map == null) {
+            refreshCategories();
+            map = categoryIds;
+        }
+        return map;
+    }
+
+    /** DB 에 존재하는 카테고리만 (없는 이름은 무시) */
+    public Function<String, Integer> existingCategories() {
+        return name -> categoryIds().get(name);
+    }
+
+    /** 없으면 생성 (생성된 카테고리도 캐시에 편입) */
+    public Function<String, Integer> orCreate(Function<String, ArticleCategoryEntity> creator) {
+        return name -> categoryIds().computeIfAbsent(name, n -> creator.apply(n).getId());
+    }
+
+    /* =========================================================
+       2️⃣ 일괄 저장
+       ========================================================= */
+    public WriteResult write(RssFeedEntity feed,
+                             List<RssArticleCreateDTO> dtos,
+                             Function<String, Integer> categoryResolver) {
+
+        long started = System.currentTimeMillis();
+
+        // 1) publishedAt 없는 항목 제외 + 배치 내 링크 중복 제거
+        Map<String, RssArticleCreateDTO> byLink = new LinkedHashMap<>();
+        for (RssArticleCreateDTO dto : dtos) {
+            if (dto.getPublishedAt() == null || dto.getLink() == null) continue;
+            byLink.putIfAbsent(dto.getLink(), dto);
+        }
+
+        // 2) 이미 저장된 링크 제외
+        //    - 다른 인스턴스 저장분은 prepareRun 의 catchUp 으로 편입 (쓰기마다 적재하지 않음)
+        //    - 링크 인덱스 miss → 신규로 보고 INSERT (놓친 중복은 INSERT IGNORE 가 건너뜀)
+        //    - hit 만 IN 청크로 DB 확인
+        List<String> links = byLink.keySet().stream()
+                .filter(seenLinks::mightContain)
+                .toList();
+        int existing = 0;
+        for (int from = 0; from < links.size(); from += batchSize) {
+            List<String> found = articleRepo.findExistingLinks(
+                    links.subList(from, Math.min(from + batchSize, links.size())));
+            found.forEach(byLink::remove);
+            existing += found.size();
+        }
+        seenLinks.recordFalsePositives(links.size() - existing);
+
+        long dedupMs = System.currentTimeMillis() - started;
+
+        if (byLink.isEmpty()) {
+            return new WriteResult(dtos.size(), 0, dtos.size(), List.of(), dedupMs, 0);
+        }
+
+        // 3) 기사 batch INSERT IGNORE (동시에 들어간 같은 링크는 unique 키로 건너뜀)
+        long insertStarted = System.currentTimeMillis();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 호출마다 고유 → 회수 시 이번 호출이 넣은 행 판별 (같은 피드의 실행이 겹쳐도 구분)
+        String ingestToken = UUID.randomUUID().toString();
+
+        List<Object[]> articleArgs = new ArrayList<>(byLink.size());
+        for (RssArticleCreateDTO dto : byLink.values()) {
+            articleArgs.add(new Object[] {
+                    feed.getId(),
+                    dto.getTitle(),
+                    dto.getLink(),
+                    dto.getContent(),
+                    dto.getThumbnailUrl(),
+                    Timestamp.valueOf(dto.getPublishedAt()),
+                    now,
+                    now,
+                    ingestToken
+            });
+        }
+        batchUpdate(INSERT_ARTICLE_SQL, articleArgs);
+
+        // 롤백돼도 인덱스에는 남지만 hit → DB 확인이므로 안전
+        seenLinks.addAll(byLink.keySet());
+
+        // 4) ID 회수 (link IN 청크) - unique 키라 링크당 1행
+        List<String> insertedLinks = new ArrayList<>(byLink.keySet());
+        Map<String, Integer> idByLink = new HashMap<>();
+        Set<Integer> ownIds = new HashSet<>();
+        for (int from = 0; from < insertedLinks.size(); from += batchSize) {
+            for (Object[] row : articleRepo.findIdsByLinks(
+                    insertedLinks.subList(from, Math.min(from + batchSize, insertedLinks.size())))) {
+                Integer articleId = (Integer) row[0];
+                idByLink.put((String) row[1], articleId);
+                if (ingestToken.equals(row[2])) ownIds.add(articleId);
+            }
+        }
+
+        // 5) 카테고리 매핑 batch INSERT IGNORE (DTO 카테고리 없으면 피드 기본 카테고리)
+        //    - 먼저 저장된 같은 링크에도 이 피드의 카테고리를 붙인다
+        Set<Integer> feedDefaults = null;   // 필요할 때만 로딩 (지연 컬렉션)
+
+        List<Object[]> mappingArgs = new ArrayList<>();
+        List<Integer> savedIds = new ArrayList<>(byLink.size());
+
+        for (RssArticleCreateDTO dto : byLink.values()) {
+            Integer articleId = idByLink.get(dto.getLink());
+            if (articleId == null) continue;
+            if (ownIds.contains(articleId)) savedIds.add(articleId);
+
+            Set<Integer> categories = new HashSet<>();
+            if (dto.getCategories() != null && !dto.getCategories().isEmpty()) {
+                for (String name : dto.getCategories()) {
+                    Integer categoryId = categoryResolver.apply(name);
+                    if (categoryId != null) categories.add(categoryId);
+                }
+            } else {
+                if (feedDefaults == null) {
+                    feedDefaults = new HashSet<>();
+                    for (ArticleCategoryEntity c : feed.getCategories()) feedDefaults.add(c.getId());
+                }
+                categories.addAll(feedDefaults);
+            }
+
+            for (Integer categoryId : categories) {
+                mappingArgs.add(new Object[] { articleId, categoryId });
+            }
+        }
+        batchUpdate(INSERT_MAPPING_SQL, mappingArgs);
+
+        long insertMs = System.currentTimeMillis() - insertStarted;
+        int saved = savedIds.size();
+
+        return new WriteResult(dtos.size(), saved, dtos.size() - saved, savedIds, dedupMs, insertMs);
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+}
@@ -1,26 +1,29 @@
 package org.usyj.makgora.article.service;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.HashSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.usyj.makgora.article.dto.RssArticleCreateDTO;
-import org.usyj.makgora.article.entity.ArticleCategoryEntity;
-import org.usyj.makgora.article.entity.RssArticleEntity;
+import org.usyj.makgora.article.event.ArticlesCollectedEvent;
 import org.usyj.makgora.rssfeed.entity.RssFeedEntity;
-import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
+import org.usyj.makgora.rssfeed.repository.RssFeedRepository;
+import org.usyj.makgora.rssfeed.service.RssFeedHealthService;
 import org.usyj.makgora.rssfeed.service.RssFeedManagementService;
 
-import com.rometools.rome.feed.synd.SyndEntry;
-import com.rometools.rome.feed.synd.SyndFeed;
-import com.rometools.rome.io.SyndFeedInput;
-import com.rometools.rome.io.XmlReader;
-
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,14 +32,25 @@ import lombok.extern.slf4j.Slf4j;
  * - DB 기반 직접 수집 버전
  * - SourceRegistry 없이 DB URL로 직접 RSS/Atom 피드 파싱
  * - Rome 라이브러리로 표준 피드 파싱 후 RssArticleCreateDTO 변환하여 저장
+ * - 전체 수집은 고정 크기 풀에서 병렬 실행, 피드별로 다운로드 → 짧은 트랜잭션 저장
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ArticleCollectByDBRssService {
 
-    private final RssArticleRepository articleRepo;
     private final RssFeedManagementService feedService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RssFeedFetcher feedFetcher;
+    private final ArticleBulkWriter bulkWriter;
+    private final RssFeedHealthService healthService;
+    private final RssFeedRepository feedRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${rss.collect.max-concurrency:8}")
+    private int maxConcurrency;
+
+    private ExecutorService collectExecutor;
 
     /**
      * 🔹 배치 저장 통계 객체
@@ -48,126 +62,116 @@ public class ArticleCollectByDBRssService {
 
     /**
      * 🔹 기사 배치 저장
-     * - DTO 리스트를 받아 DB에 저장
-     * - 중복 링크 검사 포함
-     * - DTO 카테고리가 비어있으면 feed 기본 카테고리 사용
+     * - 링크 중복 검사 IN 1회 + JDBC batch INSERT (ArticleBulkWriter)
+     * - DTO 카테고리는 DB에 존재하는 것만 사용, 비어있으면 feed 기본 카테고리 사용
      */
     @Transactional
     public BatchResult saveArticlesBatch(RssFeedEntity feed, List<RssArticleCreateDTO> dtos) {
 
-        int fetched = dtos.size();
-        int saved = 0;
-        int skipped = 0;
-
-        Set<String> savedLinks = new HashSet<>();
-
-        for (RssArticleCreateDTO dto : dtos) {
-
-            // 🔹 publishedAt 이 null이면 저장 스킵
-            if (dto.getPublishedAt() == null) {
-                // publishedAt 없는 데이터는 기사로 저장되지 않도록 제외
-                skipped++;
-                continue;
-            }
-
-            // 중복 링크 검사
-            if (articleRepo.existsByLink(dto.getLink()) || savedLinks.contains(dto.getLink())) {
-                skipped++;
-                continue;
-            }
-
-            // 🔹 자동 생성 없이, 존재하는 카테고리만 사용
-            Set<ArticleCategoryEntity> categories;
+        ArticleBulkWriter.WriteResult result = bulkWriter.write(feed, dtos, bulkWriter.existingCategories());
 
-            if (dto.getCategories() != null && !dto.getCategories().isEmpty()) {
-                // feedService에 자동 생성 로직 대신, 존재하는 카테고리만 가져오는 메서드 사용
-                categories = feedService.getExistingCategories(new HashSet<>(dto.getCategories()));
-            } else {
-                categories = new HashSet<>(feed.getCategories());
-            }
+        log.debug("⏱ 저장 | feedId:{} | 중복검사 {}ms | INSERT {}ms | 저장:{}",
+                feed.getId(), result.dedupMs(), result.insertMs(), result.saved());
 
-            // 엔티티 생성 후 저장
-            RssArticleEntity article = RssArticleEntity.builder()
-                    .feed(feed)
-                    .title(dto.getTitle())
-                    .link(dto.getLink())
-                    .content(dto.getContent())
-                    .thumbnailUrl(dto.getThumbnailUrl())
-                    .publishedAt(dto.getPublishedAt())
-                    .categories(categories)
-                    .build();
-
-            articleRepo.save(article);
-            savedLinks.add(dto.getLink());
-            saved++;
+        // 🔔 새 기사 저장 시 목록 캐시(홈 스냅샷 등) 갱신 요청 (커밋 이후 처리)
+        if (result.saved() > 0) {
+            eventPublisher.publishEvent(new ArticlesCollectedEvent(feed.getId(), result.saved()));
         }
 
-        return new BatchResult(fetched, saved, skipped);
+        return new BatchResult(result.fetched(), result.saved(), result.skipped());
     }
 
     /**
      * 🔹 단일 Feed 수집 실행
-     * - URL 유효성 검사
-     * - URL 접근성 검사 (HEAD -> GET 폴백)
-     * - Rome 라이브러리로 SyndFeed 읽기
-     * - 각 SyndEntry를 RssArticleCreateDTO 변환
-     * - saveArticlesBatch 호출
+     * - 조건부 GET (ETag / Last-Modified) → 변경 없으면 304 로 종료
+     * - Rome 라이브러리로 SyndFeed 읽기 → RssArticleCreateDTO 변환
+     * - 저장 + ETag / 마지막 수집 시간 갱신은 피드별 짧은 트랜잭션 1회
+     *   (HTTP 다운로드 동안 트랜잭션 / 커넥션을 잡지 않음)
      */
-    @Transactional
     public BatchResult collectSingleFeed(RssFeedEntity feed) {
+        return collectFeed(feed).result();
+    }
+
+    /**
+     * 🔹 단일 Feed 수집 결과 (스케줄러용)
+     * status: 다운로드 결과 (OK / 304 / 실패), maxAgeSec: 응답 캐시 헤더 기준 유효 시간
+     */
+    public record FeedOutcome(BatchResult result, RssFeedFetcher.Status status, Long maxAgeSec) {}
+
+    public FeedOutcome collectFeed(RssFeedEntity feed) {
 
         // 🔹 0) 활성화 상태 확인
         if (feed.getStatus() != RssFeedEntity.Status.ACTIVE) {
             // 로그 기록
             log.warn("⚠️ 비활성화된 피드 수집 시도 | URL: {}", feed.getUrl());
             // BatchResult 반환: 저장/스킵/전체 모두 0
-            return new BatchResult(0, 0, 0);
+            return new FeedOutcome(new BatchResult(0, 0, 0), RssFeedFetcher.Status.FAILED, null);
         }
 
-        // 1) URL 형식 체크
-        if (!isValidUrl(feed.getUrl())) {
-            log.warn("✔ URL 형식 오류: {}", feed.getUrl());
-            return new BatchResult(0, 0, 0);
+        // 🔌 피드 / 호스트 서킷 OPEN 이면 요청 없이 스킵
+        if (!healthService.tryAcquire(feed.getId(), feed.getUrl())) {
+            log.debug("🔌 서킷 OPEN → 수집 스킵 | URL: {}", feed.getUrl());
+            return new FeedOutcome(new BatchResult(0, 0, 0), RssFeedFetcher.Status.SKIPPED, null);
         }
 
-        // 2) URL 접근성 체크 (HEAD 요청 실패 시 GET 폴백)
-        if (!isUrlReachable(feed.getUrl())) {
-            log.warn("🚫 URL 접근 불가: {}", feed.getUrl());
-            return new BatchResult(0, 0, 0);
+        long started = System.currentTimeMillis();
+
+        // 1) 다운로드 (트랜잭션 밖)
+        RssFeedFetcher.FetchResult fetched = feedFetcher.fetch(
+                feed.getUrl(), feed.getEtag(), feed.getLastModified(), feed.getLastFetched());
+
+        healthService.record(feed.getId(), feed.getUrl(),
+                fetched.status() != RssFeedFetcher.Status.FAILED, fetched.latencyMs(), fetched.error());
+
+        if (fetched.status() == RssFeedFetcher.Status.FAILED) {
+            return new FeedOutcome(new BatchResult(0, 0, 0), fetched.status(), null);
         }
 
-        List<RssArticleCreateDTO> dtos;
+        long fetchMs = System.currentTimeMillis() - started;
+
+        // 2) 저장 + 피드 메타 갱신 (짧은 트랜잭션)
+        BatchResult result = transactionTemplate.execute(status -> {
+            RssFeedEntity managed = feedRepo.findByIdWithCategories(feed.getId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 피드입니다. ID: " + feed.getId()));
 
-        try {
-            URL feedUrl = new URL(feed.getUrl());
-            try (XmlReader reader = new XmlReader(feedUrl)) {
-                SyndFeedInput input = new SyndFeedInput();
-                SyndFeed syndFeed = input.build(reader);
+            managed.setLastFetched(LocalDateTime.now());
 
-                // SyndEntry -> DTO 변환
-                dtos = syndFeed.getEntries().stream()
-                        .map(entry -> RssArticleCreateDTO.from((SyndEntry) entry))
-                        .collect(Collectors.toList());
+            if (fetched.status() == RssFeedFetcher.Status.NOT_MODIFIED) {
+                return new BatchResult(0, 0, 0);
             }
-        } catch (Exception e) {
-            log.error("❌ 수집 실패 | {} | {}", feed.getUrl(), e.getMessage(), e);
-            return new BatchResult(0, 0, 0);
-        }
 
-        // 3) 배치 저장 실행
-        BatchResult result = saveArticlesBatch(feed, dtos);
+            managed.setEtag(fetched.etag());
+            managed.setLastModified(fetched.lastModified());
+            return saveArticlesBatch(managed, fetched.dtos());
+        });
+
+        long persistMs = System.currentTimeMillis() - started - fetchMs;
 
-        // 4) 마지막 수집 시간 갱신
-        try {
-            feedService.updateLastFetched(feed);
-        } catch (Exception e) {
-            log.warn("⚠️ 마지막 수집시간 갱신 실패 | {} | {}", feed.getUrl(), e.getMessage());
+        if (fetched.status() == RssFeedFetcher.Status.NOT_MODIFIED) {
+            log.debug("📌 변경 없음(304) | URL: {} | {}ms", feed.getUrl(), fetchMs);
+        } else {
+            log.info("📌 단일 수집 완료 | URL: {} | 저장:{} | 스킵:{} | 전체:{} | 다운로드 {}ms | 저장 {}ms",
+                    feed.getUrl(), result.saved(), result.skipped(), result.fetched(), fetchMs, persistMs);
         }
 
-        log.info("📌 단일 수집 완료 | URL: {} | 저장:{} | 스킵:{} | 전체:{}",
-                feed.getUrl(), result.saved(), result.skipped(), result.fetched());
+        return new FeedOutcome(result, fetched.status(), fetched.maxAgeSec());
+    }
 
-        return result;
+    /**
+     * 🔹 단일 Feed 비동기 수집 (수집 풀에서 실행, 완료 시 콜백)
+     * - 스케줄러 스레드를 HTTP 대기로 막지 않기 위함
+     */
+    public void submitCollect(RssFeedEntity feed, Consumer<FeedOutcome> onDone) {
+        collectExecutor.execute(() -> {
+            FeedOutcome outcome;
+            try {
+                outcome = collectFeed(feed);
+            } catch (Exception e) {
+                log.error("⚠️ 피드 수집 오류 | {} | {}", feed.getUrl(), e.getMessage(), e);
+                outcome = new FeedOutcome(new BatchResult(0, 0, 0), RssFeedFetcher.Status.FAILED, null);
+            }
+            onDone.accept(outcome);
+        });
     }
 
     /**
@@ -180,37 +184,23 @@ public class ArticleCollectByDBRssService {
      * @param sourceName 수집 대상 RSS 출처 이름
      * @return BatchResult 수집 통계(fetched, saved, skipped)
      */
-    @Transactional
     public BatchResult collectFeedsBySourceName(String sourceName) {
 
-        int totalFetched = 0; // 전체 수집 시도된 기사 수
-        int totalSaved = 0;   // DB에 새로 저장된 기사 수
-        int totalSkipped = 0; // 중복 또는 오류로 저장되지 않은 기사 수
-
         // 1️⃣ sourceName과 일치하며 활성화된 피드만 필터링
         List<RssFeedEntity> feeds = feedService.getAllActiveFeeds().stream()
                 .filter(f -> f.getSourceName().equals(sourceName))
                 .toList();
 
-        // 2️⃣ 각 피드 수집 반복
-        for (RssFeedEntity feed : feeds) {
-            try {
-                BatchResult result = collectSingleFeed(feed); // 단일 피드 수집
-                totalFetched += result.fetched();
-                totalSaved += result.saved();
-                totalSkipped += result.skipped();
-            } catch (Exception e) {
-                // 예외 발생 시 로그 기록 후 다음 피드 계속
-                log.error("⚠️ SourceName 전체 수집 오류 | {} | {}", feed.getUrl(), e.getMessage(), e);
-            }
-        }
+        // 2️⃣ 병렬 수집 (카테고리 맵 / 링크 인덱스는 실행 시작 시 1회 준비)
+        bulkWriter.prepareRun();
+        BatchResult total = collectInParallel(feeds);
 
         // 3️⃣ 전체 수집 완료 로그
         log.info("🔥 '{}' 전체 수집 완료 | 저장:{} | 스킵:{} | 전체:{}",
-                sourceName, totalSaved, totalSkipped, totalFetched);
+                sourceName, total.saved(), total.skipped(), total.fetched());
 
         // 4️⃣ 수집 통계 반환
-        return new BatchResult(totalFetched, totalSaved, totalSkipped);
+        return total;
     }
 
 
@@ -219,69 +209,73 @@ public class ArticleCollectByDBRssService {
      * - 활성화된 피드(status='active')만 수집
      * - 개별 피드 예외 발생 시 로그만 기록하고 다음 피드 계속
      */
-    @Transactional
     public BatchResult collectAllFeeds() {
 
-        int totalFetched = 0;
-        int totalSaved = 0;
-        int totalSkipped = 0;
+        long started = System.currentTimeMillis();
 
         // 활성화된 피드만 조회
         List<RssFeedEntity> feeds = feedService.getAllActiveFeeds();
 
+        // 카테고리 맵 / 링크 인덱스는 실행 시작 시 1회 준비
+        bulkWriter.prepareRun();
+        BatchResult total = collectInParallel(feeds);
+
+        log.info("🔥 전체 수집 완료 | 피드:{} | 저장:{} | 스킵:{} | 전체:{} | {}ms",
+                feeds.size(), total.saved(), total.skipped(), total.fetched(),
+                System.currentTimeMillis() - started);
+
+        return total;
+    }
+
+    /* ====================== 병렬 수집 ====================== */
+
+    /**
+     * 🔹 피드 목록 병렬 수집
+     * - 전체 동시성: rss.collect.max-concurrency (고정 크기 풀)
+     * - 호스트별 동시성: RssFeedFetcher 에서 제한
+     * - 피드 하나가 실패해도 나머지는 계속
+     */
+    private BatchResult collectInParallel(List<RssFeedEntity> feeds) {
+
+        List<Future<BatchResult>> futures = new ArrayList<>(feeds.size());
         for (RssFeedEntity feed : feeds) {
+            futures.add(collectExecutor.submit(() -> collectSingleFeed(feed)));
+        }
+
+        int totalFetched = 0;
+        int totalSaved = 0;
+        int totalSkipped = 0;
+
+        for (int i = 0; i < futures.size(); i++) {
             try {
-                BatchResult result = collectSingleFeed(feed);
+                BatchResult result = futures.get(i).get();
                 totalFetched += result.fetched();
                 totalSaved += result.saved();
                 totalSkipped += result.skipped();
-            } catch (Exception e) {
-                log.error("⚠️ 전체 수집 오류 | {} | {}", feed.getUrl(), e.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("⚠️ 수집 대기 중단 → 남은 피드 결과 생략");
+                break;
+            } catch (ExecutionException e) {
+                log.error("⚠️ 전체 수집 오류 | {} | {}", feeds.get(i).getUrl(), e.getCause().getMessage(), e.getCause());
             }
         }
 
-        log.info("🔥 전체 수집 완료 | 저장:{} | 스킵:{} | 전체:{}",
-                totalSaved, totalSkipped, totalFetched);
-
         return new BatchResult(totalFetched, totalSaved, totalSkipped);
     }
 
-    /* ====================== URL 유틸 ====================== */
-
-    // URL 유효성 검사
-    private boolean isValidUrl(String url) {
-        try {
-            new URL(url).toURI();
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger seq = new AtomicInteger();
+        collectExecutor = Executors.newFixedThreadPool(maxConcurrency, r -> {
+            Thread t = new Thread(r, "rss-collect-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
     }
 
-    // URL 접근성 검사 (HEAD -> GET 폴백)
-    private boolean isUrlReachable(String url) {
-        try {
-            HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
-            conn.setRequestMethod("HEAD");
-            conn.setInstanceFollowRedirects(true);
-            conn.setConnectTimeout(3000);
-            conn.setReadTimeout(3000);
-            int code = conn.getResponseCode();
-            if (code >= 200 && code < 400) return true;
-        } catch (Exception ignored) {}
-
-        // GET 폴백
-        try {
-            HttpURLConnection conn2 = (HttpURLConnection) new URL(url).openConnection();
-            conn2.setRequestMethod("GET");
-            conn2.setInstanceFollowRedirects(true);
-            conn2.setConnectTimeout(3000);
-            conn2.setReadTimeout(3000);
-            conn2.setRequestProperty("User-Agent", "Makgora (https://makgora.store)");
-            int code2 = conn2.getResponseCode();
-            return (code2 >= 200 && code2 < 400);
-        } catch (Exception e) {
-            return false;
-        }
+    @PreDestroy
+    void shutdownExecutor() {
+        collectExecutor.shutdownNow();
     }
 }
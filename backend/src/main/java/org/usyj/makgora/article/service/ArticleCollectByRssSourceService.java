@@ -34,6 +34,7 @@ public class ArticleCollectByRssSourceService {
     private final RssFeedManagementService feedService;
     private final SourceArticleService articleService;
     private final RssFeedRepository feedRepo;
+    private final ArticleBulkWriter bulkWriter;
 
     @Transactional
     public void collectAndSaveAllFeeds() {
@@ -41,6 +42,9 @@ public class ArticleCollectByRssSourceService {
         int totalSaved = 0;     // 배치 기준 저장된 기사 수 누적
         int totalSkipped = 0;   // 배치 기준 스킵 기사 수 누적
 
+        // 카테고리 맵 / 링크 인덱스 준비
+        bulkWriter.prepareRun();
+
         for (RssFeedSource source : sources) {
 
             String sourceName = getSourceNameFromClass(source);
@@ -61,7 +65,7 @@ public class ArticleCollectByRssSourceService {
                 // 3. 기사 fetch
                 List<RssArticleCreateDTO> dtos;
                 try {
-                    dtos = source.fetch(categoryName, feedUrl);
+                    dtos = source.fetchSince(categoryName, feedUrl, feed.getLastFetched());
                 } catch (Exception e) {
                     log.error("RSS 수집 실패: {} | {} | 에러: {}", sourceName, feedUrl, e.getMessage(), e);
                     continue;
@@ -8,10 +8,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.article.dto.request.ArticleCommentRequest;
 import org.usyj.makgora.article.dto.response.ArticleCommentResponse;
 import org.usyj.makgora.article.entity.ArticleCommentEntity;
-import org.usyj.makgora.article.entity.ArticleCommentReactionEntity;
 import org.usyj.makgora.article.entity.RssArticleEntity;
 import org.usyj.makgora.article.repository.ArticleCommentReactionRepository;
 import org.usyj.makgora.article.repository.ArticleCommentRepository;
+import org.usyj.makgora.global.comment.CommentTree;
+import org.usyj.makgora.global.comment.ReactionState;
 import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
 import org.usyj.makgora.user.entity.UserEntity;
 import org.usyj.makgora.user.repository.UserRepository;
@@ -29,6 +30,9 @@ public class ArticleCommentService {
     private final StringRedisTemplate redis;   // ✅ 추가
     private final ArticleReactionService reactionService;
     private final ArticleCommentReactionRepository reactionRepo;
+    private final ArticleScoreSyncService scoreSyncService;
+
+    private static final int REACTION_IN_CHUNK = 1000;
 
     /* ============================================================
        📌 1) 특정 기사 댓글 전체 조회 (Tree 구조)
@@ -39,10 +43,23 @@ public class ArticleCommentService {
         rssArticleRepository.findById(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("기사를 찾을 수 없습니다. id=" + articleId));
 
-        List<ArticleCommentEntity> entities =
-                articleCommentRepository.findByArticle_IdOrderByCreatedAtAsc(articleId);
-
-        return buildCommentTree(entities, currentUserId);
+        // 댓글 + 작성자 1회 조회 → 메모리 트리 (부모가 사라진 댓글은 루트로)
+        List<ArticleCommentEntity> entities = articleCommentRepository.findTreeByArticleId(articleId);
+
+        // 반응 수 + 내 반응: 댓글별 조회 대신 IN 쿼리
+        Map<Long, ReactionState> reactions = resolveReactions(
+                entities.stream().map(ArticleCommentEntity::getId).toList(), currentUserId);
+
+        return CommentTree.of(
+                        entities,
+                        ArticleCommentEntity::getId,
+                        c -> c.getParent() != null ? c.getParent().getId() : null)
+                .render((entity, replies, replyCount) -> {
+                    ArticleCommentResponse dto = toResponse(entity, currentUserId,
+                            reactions.getOrDefault(entity.getId(), ReactionState.NONE));
+                    dto.getReplies().addAll(replies);
+                    return dto;
+                });
     }
 
     
@@ -89,7 +106,7 @@ public class ArticleCommentService {
     rssArticleRepository.save(article);
 
 
-        return toResponse(saved, userId);
+        return toResponse(saved, userId, ReactionState.NONE);
     }
 
     /* ============================================================
@@ -110,7 +127,8 @@ public class ArticleCommentService {
         comment.setContent(request.getContent());
 
         ArticleCommentEntity updated = articleCommentRepository.save(comment);
-        return toResponse(updated, userId);
+        return toResponse(updated, userId, resolveReactions(List.of(commentId), userId)
+                .getOrDefault(commentId, ReactionState.NONE));
     }
 
     /* ============================================================
@@ -140,6 +158,7 @@ public class ArticleCommentService {
     } else {
         redis.opsForValue().set(redisKey, "0");
     }
+    scoreSyncService.markDirty(articleId);
 
     /* ============================================================
        🔥 2) DB 댓글수 감소 (백업용)
@@ -156,26 +175,12 @@ public class ArticleCommentService {
     /* ============================================================
        📌 공통: Entity → Response 변환
      ============================================================ */
-    private ArticleCommentResponse toResponse(ArticleCommentEntity entity, Integer currentUserId) {
+    private ArticleCommentResponse toResponse(ArticleCommentEntity entity,
+                                              Integer currentUserId,
+                                              ReactionState reaction) {
 
     Long commentId = entity.getId();
 
-    long likeCnt = reactionRepo.countByComment_IdAndReaction(commentId, 1);
-    long dislikeCnt = reactionRepo.countByComment_IdAndReaction(commentId, -1);
-
-    boolean likedByMe = false;
-    boolean dislikedByMe = false;
-
-    if (currentUserId != null) {
-        Optional<ArticleCommentReactionEntity> myReaction =
-                reactionRepo.findByComment_IdAndUser_Id(commentId, currentUserId);
-
-        if (myReaction.isPresent()) {
-            likedByMe = myReaction.get().getReaction() == 1;
-            dislikedByMe = myReaction.get().getReaction() == -1;
-        }
-    }
-
     return ArticleCommentResponse.builder()
             .commentId(commentId)
             .articleId(entity.getArticle().getId())
@@ -187,57 +192,47 @@ public class ArticleCommentService {
             .content(entity.getContent())
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
-            .likeCount(likeCnt)
-            .dislikeCount(dislikeCnt)
-            .liked(likedByMe)
-            .disliked(dislikedByMe)
+            .likeCount(reaction.likeCount())
+            .dislikeCount(reaction.dislikeCount())
+            .liked(reaction.liked())
+            .disliked(reaction.disliked())
             .mine(currentUserId != null && entity.getUser().getId().equals(currentUserId))
             .replies(new ArrayList<>())
             .build();
 }
 
-
-
     /* ============================================================
-       📌 댓글 트리 구조 생성 (대댓글 포함)
+       📌 공통: 댓글 목록 반응 일괄 조회
+       - 반응 수 GROUP BY 1회 + 내 반응 1회 (IN 청크 단위)
      ============================================================ */
-    private List<ArticleCommentResponse> buildCommentTree(
-        List<ArticleCommentEntity> entities,
-        Integer currentUserId
-) {
+    private Map<Long, ReactionState> resolveReactions(List<Long> commentIds, Integer currentUserId) {
 
-    Map<Long, ArticleCommentResponse> dtoMap = new LinkedHashMap<>();
+        Map<Long, long[]> counts = new HashMap<>();      // [like, dislike]
+        Map<Long, Integer> mine = new HashMap<>();
 
-    // 1) 모든 댓글을 DTO로 변환하여 map에 저장
-    for (ArticleCommentEntity entity : entities) {
-        dtoMap.put(entity.getId(), toResponse(entity, currentUserId));
-    }
-
-    // 2) 트리 만들기
-    List<ArticleCommentResponse> roots = new ArrayList<>();
-
-    for (ArticleCommentEntity entity : entities) {
+        for (int from = 0; from < commentIds.size(); from += REACTION_IN_CHUNK) {
+            List<Long> chunk = commentIds.subList(from, Math.min(from + REACTION_IN_CHUNK, commentIds.size()));
 
-        Long id = entity.getId();
-        Long parentId = (entity.getParent() != null)
-                ? entity.getParent().getId()
-                : null;
-
-        ArticleCommentResponse dto = dtoMap.get(id);
+            for (Object[] row : reactionRepo.countByCommentIds(chunk)) {
+                long[] c = counts.computeIfAbsent((Long) row[0], id -> new long[2]);
+                int reaction = ((Number) row[1]).intValue();
+                if (reaction == 1) c[0] = ((Number) row[2]).longValue();
+                else if (reaction == -1) c[1] = ((Number) row[2]).longValue();
+            }
 
-        if (parentId == null) {
-            roots.add(dto); // 루트 댓글
-        } else {
-            ArticleCommentResponse parent = dtoMap.get(parentId);
-            if (parent != null) {
-                parent.getReplies().add(dto); // 부모에 자식 추가
-            } else {
-                roots.add(dto); // 부모가 사라진 edge-case
+            if (currentUserId != null) {
+                for (Object[] row : reactionRepo.findUserReactions(currentUserId, chunk)) {
+                    mine.put((Long) row[0], ((Number) row[1]).intValue());
+                }
             }
         }
-    }
-
-    return roots;
-}
 
+        Map<Long, ReactionState> states = new HashMap<>();
+        for (Long id : commentIds) {
+            long[] c = counts.getOrDefault(id, new long[2]);
+            int my = mine.getOrDefault(id, 0);
+            states.put(id, new ReactionState(c[0], c[1], my == 1, my == -1));
+        }
+        return states;
+    }
 }
@@ -8,10 +8,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.article.dto.response.ArticleCommentResponse;
 import org.usyj.makgora.article.dto.response.ArticleDetailResponse;
 import org.usyj.makgora.article.entity.ArticleAiTitleEntity;
-import org.usyj.makgora.article.entity.ArticleReactionEntity;
 import org.usyj.makgora.article.entity.RssArticleEntity;
 import org.usyj.makgora.article.repository.ArticleAiTitleRepository;
-import org.usyj.makgora.article.repository.ArticleReactionRepository;
 import org.usyj.makgora.issue.entity.IssueEntity;
 import org.usyj.makgora.issue.repository.IssueRepository;
 import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
@@ -29,7 +27,7 @@ public class ArticleDetailService {
 
     private final RssArticleRepository articleRepo;
     private final ArticleAiTitleRepository aiTitleRepo;
-    private final ArticleReactionRepository reactionRepo;
+    private final ArticleReactionService reactionService;
     private final ArticleCommentService commentService;
     private final StringRedisTemplate redis;
     private final IssueRepository issueRepo;
@@ -70,10 +68,8 @@ public class ArticleDetailService {
         // 5) 현재 유저의 기사 반응 (-1 / 0 / 1)
         Integer userReaction = null;
         if (currentUserId != null) {
-            ArticleReactionEntity reaction = reactionRepo
-                    .findByArticleIdAndUserId(articleId, currentUserId)
-                    .orElse(null);
-            userReaction = (reaction != null) ? reaction.getReactionValue() : 0;
+            // Redis 반응 해시 우선 (DB 반영은 비동기 배치)
+            userReaction = reactionService.getUserReaction(articleId, currentUserId);
         }
 
         boolean liked = (userReaction != null && userReaction == 1);
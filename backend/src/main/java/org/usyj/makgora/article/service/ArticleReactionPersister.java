@@ -0,0 +1,107 @@
+package org.usyj.makgora.article.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 💾 기사 반응(article_reactions) 비동기 배치 저장기
+ *
+ * - Redis 스크립트가 반응을 확정하면 (articleId, userId) → 최종값 만 기록 (같은 유저의 연타는 마지막 값으로 합쳐짐)
+ * - flush 주기마다 upsert / delete 를 JDBC batch 로 반영
+ * - 실패 시 더 새로운 값이 들어오지 않은 항목만 다시 대기열로
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleReactionPersister {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO article_reactions (article_id, user_id, reaction_value, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE reaction_value = VALUES(reaction_value), updated_at = VALUES(updated_at)
+            """;
+
+    private static final String DELETE_SQL =
+            "DELETE FROM article_reactions WHERE article_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article.reaction.persist-batch-size:500}")
+    private int batchSize;
+
+    /** (articleId, userId) → 최종 반응값 (0 = 삭제) */
+    private final Map<ReactionKey, Integer> pending = new ConcurrentHashMap<>();
+
+    public void enqueue(int articleId, int userId, int reactionValue) {
+        pending.put(new ReactionKey(articleId, userId), reactionValue);
+    }
+
+    @Scheduled(fixedDelayString = "${article.reaction.persist-interval-ms:1000}")
+    public void flush() {
+
+        if (pending.isEmpty()) return;
+
+        List<Map.Entry<ReactionKey, Integer>> drained = new ArrayList<>();
+        for (Map.Entry<ReactionKey, Integer> e : pending.entrySet()) {
+            // 읽은 값 그대로일 때만 꺼낸다 (그 사이 바뀌었으면 다음 주기에)
+            if (pending.remove(e.getKey(), e.getValue())) {
+                drained.add(Map.entry(e.getKey(), e.getValue()));
+            }
+        }
+
+        if (drained.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+
+        for (Map.Entry<ReactionKey, Integer> e : drained) {
+            ReactionKey k = e.getKey();
+            if (e.getValue() == 0) {
+                deletes.add(new Object[] { k.articleId(), k.userId() });
+            } else {
+                upserts.add(new Object[] { k.articleId(), k.userId(), e.getValue(), now, now });
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchUpdate(UPSERT_SQL, upserts);
+                batchUpdate(DELETE_SQL, deletes);
+            });
+        } catch (Exception ex) {
+            log.error("[ReactionPersist] 저장 실패 → 다음 주기 재시도 rows={}", drained.size(), ex);
+            for (Map.Entry<ReactionKey, Integer> e : drained) {
+                pending.putIfAbsent(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+
+    private record ReactionKey(int articleId, int userId) {}
+}
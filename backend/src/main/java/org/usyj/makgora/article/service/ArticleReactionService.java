@@ -1,16 +1,18 @@
 package org.usyj.makgora.article.service;
 
 import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.article.dto.response.ArticleReactionResponse;
-import org.usyj.makgora.article.entity.ArticleReactionEntity;
-import org.usyj.makgora.article.entity.RssArticleEntity;
 import org.usyj.makgora.article.repository.ArticleReactionRepository;
 import org.usyj.makgora.issue.service.IssueTriggerPushService;
 import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
-import org.usyj.makgora.user.entity.UserEntity;
 
 @Service
 @RequiredArgsConstructor
@@ -20,24 +22,83 @@ public class ArticleReactionService {
     private final ArticleReactionRepository reactionRepo;
     private final StringRedisTemplate redis;
     private final IssueTriggerPushService triggerPushService;
+    private final ArticleScoreSyncService scoreSyncService;
+    private final ArticleReactionPersister reactionPersister;
 
     private static final String PREFIX = "article:";
 
+    /** 유저별 반응 해시가 DB 에서 시딩되었는지 표시하는 필드 */
+    private static final String SEEDED_FIELD = "_seeded";
+
+    /* ======================= Redis Lua 스크립트 ======================== */
+
+    /**
+     * 반응 토글 (원자적, 1 round trip)
+     * KEYS: reactions 해시, like, dislike, view, comment, score dirty ZSET
+     * ARGV: userId, newValue, now(ms), articleId
+     * 반환: {old, new, like, dislike, view, comment, score}  /  시딩 전이면 {-2}
+     */
+    private static final RedisScript<List> REACT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_seeded') == 0 then
+                return {-2}
+            end
+
+            local old = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            local new = tonumber(ARGV[2])
+            if old == new then new = 0 end
+
+            local function dec(key)
+                if redis.call('DECR', key) < 0 then redis.call('SET', key, '0') end
+            end
+
+            if old == 1 then dec(KEYS[2]) end
+            if old == -1 then dec(KEYS[3]) end
+            if new == 1 then redis.call('INCR', KEYS[2]) end
+            if new == -1 then redis.call('INCR', KEYS[3]) end
+
+            if new == 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            else
+                redis.call('HSET', KEYS[1], ARGV[1], new)
+            end
+
+            local like = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local dislike = tonumber(redis.call('GET', KEYS[3]) or '0')
+            local view = tonumber(redis.call('GET', KEYS[4]) or '0')
+            local comment = tonumber(redis.call('GET', KEYS[5]) or '0')
+            local score = math.floor(view * 0.1 + like * 2 + dislike * 0.5 + comment * 3)
+
+            redis.call('ZADD', KEYS[6], 'NX', ARGV[3], ARGV[4])
+
+            return {old, new, like, dislike, view, comment, score}
+            """, List.class);
+
+    /**
+     * DB 반응 → Redis 해시 시딩 (이미 시딩됐으면 무시, 기존 필드는 덮어쓰지 않음)
+     * ARGV: userId1, value1, userId2, value2, ...
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], '_seeded') == 1 then
+                return 0
+            end
+            for i = 1, #ARGV, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HSET', KEYS[1], '_seeded', '1')
+            return 1
+            """, Long.class);
+
     /* ======================= Redis key builder ======================== */
 
     private String key(int id, String type) {
         return PREFIX + id + ":" + type; // article:22:like
     }
 
-    private long getCount(int id, String type) {
-        String v = redis.opsForValue().get(key(id, type));
-        return (v == null) ? 0 : Long.parseLong(v);
-    }
-
     /* ======================= 조회수 ======================== */
 
     public void addView(int articleId) {
         redis.opsForValue().increment(key(articleId, "view"));
+        scoreSyncService.markDirty(articleId);
 
         // 점수 계산 → 트리거
         int score = calcScore(articleId);
@@ -48,6 +109,7 @@ public class ArticleReactionService {
 
     public void addComment(int articleId) {
         redis.opsForValue().increment(key(articleId, "comment"));
+        scoreSyncService.markDirty(articleId);
 
         int score = calcScore(articleId);
         triggerPushService.checkAndPush(articleId, score);
@@ -55,92 +117,100 @@ public class ArticleReactionService {
 
     /* ======================= 좋아요/싫어요 ======================== */
 
-    @Transactional
-public ArticleReactionResponse react(int articleId, int userId, int newValue) {
+    /**
+     * 반응 토글
+     * - 이전 반응 확인 / 카운터 증감(0 미만 방지) / 점수 계산을 Lua 스크립트 1회로 처리
+     * - DB(article_reactions) 반영은 ArticleReactionPersister 가 비동기 배치로 수행
+     */
+    public ArticleReactionResponse react(int articleId, int userId, int newValue) {
 
-    RssArticleEntity article = articleRepo.findById(articleId)
-            .orElseThrow(() -> new IllegalArgumentException("기사 없음: id=" + articleId));
+        if (!articleRepo.existsById(articleId)) {
+            throw new IllegalArgumentException("기사 없음: id=" + articleId);
+        }
 
-    ArticleReactionEntity existing =
-            reactionRepo.findByArticleIdAndUserId(articleId, userId)
-                    .orElse(null);
+        List<Long> result = runReactScript(articleId, userId, newValue);
+        if (result.get(0) == -2L) {
+            seedReactions(articleId);
+            result = runReactScript(articleId, userId, newValue);
+        }
 
-    int oldValue = (existing != null) ? existing.getReactionValue() : 0;
+        int applied = result.get(1).intValue();
+        long like = result.get(2);
+        long dislike = result.get(3);
+        int score = result.get(6).intValue();
 
-    String likeKey = key(articleId, "like");
-    String dislikeKey = key(articleId, "dislike");
+        reactionPersister.enqueue(articleId, userId, applied);
 
-    /* =====================================================
-       0️⃣ 동일 클릭 → 토글 OFF (👍 → 0, 👎 → 0)
-       ===================================================== */
-    if (oldValue == newValue) {
-        newValue = 0;
+        /* =====================================================
+           점수 → 트리거
+           ===================================================== */
+        triggerPushService.checkAndPush(articleId, score);
+
+        return new ArticleReactionResponse(articleId, like, dislike, applied);
     }
 
-    /* =====================================================
-       1️⃣ old 반응 제거
-       ===================================================== */
-    if (oldValue == 1) safeDecrement(likeKey);
-    if (oldValue == -1) safeDecrement(dislikeKey);
-
-    /* =====================================================
-       2️⃣ new 반응 적용
-       ===================================================== */
-    if (newValue == 1) redis.opsForValue().increment(likeKey);
-    if (newValue == -1) redis.opsForValue().increment(dislikeKey);
-
-    /* =====================================================
-       3️⃣ DB 반응 기록
-       ===================================================== */
-    if (newValue == 0) {
-        if (existing != null) {
-            reactionRepo.delete(existing);
-        }
-    } else {
-        if (existing == null) {
-            reactionRepo.save(
-                    ArticleReactionEntity.builder()
-                            .article(article)
-                            .user(UserEntity.builder().id(userId).build())
-                            .reactionValue(newValue)
-                            .build()
-            );
-        } else {
-            existing.setReactionValue(newValue);
+    /**
+     * 유저의 현재 반응 (-1 / 0 / 1)
+     * - 시딩된 기사는 Redis 해시 기준 (비동기 DB 반영 지연과 무관), 아니면 DB
+     */
+    public int getUserReaction(int articleId, int userId) {
+        List<Object> values = redis.opsForHash().multiGet(
+                key(articleId, "reactions"), List.of(SEEDED_FIELD, String.valueOf(userId)));
+
+        if (values.get(0) != null) {
+            Object v = values.get(1);
+            return v != null ? Integer.parseInt(v.toString()) : 0;
         }
-    }
 
-    long like = getCount(articleId, "like");
-    long dislike = getCount(articleId, "dislike");
+        return reactionRepo.findByArticleIdAndUserId(articleId, userId)
+                .map(r -> r.getReactionValue())
+                .orElse(0);
+    }
 
-    /* =====================================================
-       4️⃣ 점수 계산 → 트리거
-       ===================================================== */
-    int score = calcScore(articleId);
-    triggerPushService.checkAndPush(articleId, score);
+    @SuppressWarnings("unchecked")
+    private List<Long> runReactScript(int articleId, int userId, int newValue) {
+        List<String> keys = List.of(
+                key(articleId, "reactions"),
+                key(articleId, "like"),
+                key(articleId, "dislike"),
+                key(articleId, "view"),
+                key(articleId, "comment"),
+                ArticleScoreSyncService.DIRTY_KEY
+        );
+        return (List<Long>) redis.execute(REACT_SCRIPT, keys,
+                String.valueOf(userId),
+                String.valueOf(newValue),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(articleId));
+    }
 
-    return new ArticleReactionResponse(articleId, like, dislike, newValue);
-}
+    private void seedReactions(int articleId) {
+        List<String> args = new ArrayList<>();
+        for (Object[] row : reactionRepo.findUserReactionsByArticleId(articleId)) {
+            args.add(String.valueOf(row[0]));
+            args.add(String.valueOf(row[1]));
+        }
+        redis.execute(SEED_SCRIPT, List.of(key(articleId, "reactions")), args.toArray());
+    }
 
     /* ======================= Score 계산 로직 ======================== */
 
     private int calcScore(int id) {
-        long view = getCount(id, "view");
-        long like = getCount(id, "like");
-        long dislike = getCount(id, "dislike");
-        long comment = getCount(id, "comment");
+        // MGET 1회
+        List<String> values = redis.opsForValue().multiGet(List.of(
+                key(id, "view"), key(id, "like"), key(id, "dislike"), key(id, "comment")));
+
+        long view = parse(values, 0);
+        long like = parse(values, 1);
+        long dislike = parse(values, 2);
+        long comment = parse(values, 3);
 
         // 너네가 쓰는 공식 그대로 유지
         return (int) (view * 0.1 + like * 2 + dislike * 0.5 + comment * 3);
     }
 
-    /* ======================= 음수 방지 ======================== */
-
-    private void safeDecrement(String key) {
-        String v = redis.opsForValue().get(key);
-        long current = (v == null) ? 0 : Long.parseLong(v);
-
-        if (current > 0) redis.opsForValue().increment(key, -1);
-        else redis.opsForValue().set(key, "0");
+    private long parse(List<String> values, int index) {
+        if (values == null || values.get(index) == null) return 0;
+        return Long.parseLong(values.get(index));
     }
 }
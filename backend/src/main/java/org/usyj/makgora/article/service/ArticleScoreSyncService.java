@@ -0,0 +1,238 @@
+package org.usyj.makgora.article.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 📊 기사 카운터(Redis) → rss_articles 동기화 엔진
+ *
+ * - 조회/좋아요/댓글 변경 시 articleId 를 dirty ZSET 에 기록 (score = 최초 dirty 시각)
+ *   → 동기화는 바뀐 기사만 처리, KEYS 로 전체 키를 훑지 않음
+ * - 청크 단위: ZPOPMIN → MGET(view/like/dislike/comment) → MSET(score) → JDBC batch UPDATE
+ *     · Redis 에 없는 카운터(만료 / 미생성)는 0 으로 덮지 않고 DB 값을 유지
+ *     · ai_system_score 는 반영된 컬럼 기준으로 SQL 안에서 계산
+ * - dirty 표시가 없는 키(구버전 코드, 수동 조작 등)는 SCAN 커서 기반 reconcile 로 dirty 에 편입
+ * - 메트릭: 스캔 키 수 / 반영 행 수 / 동기화 지연(가장 오래된 dirty 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleScoreSyncService {
+
+    private static final String PREFIX = "article:";
+    public static final String DIRTY_KEY = "article:score:dirty";
+    private static final String[] COUNTERS = { "view", "like", "dislike", "comment" };
+
+    /** MySQL 은 SET 절을 왼쪽부터 평가 → ai_system_score 는 갱신된 카운터를 본다 */
+    private static final String UPDATE_SQL = """
+            UPDATE rss_articles
+            SET view_count = COALESCE(?, view_count),
+                like_count = COALESCE(?, like_count),
+                dislike_count = COALESCE(?, dislike_count),
+                comment_count = COALESCE(?, comment_count),
+                ai_system_score = FLOOR(view_count * 0.1 + like_count * 2 + comment_count * 3)
+            WHERE article_id = ?
+            """;
+
+    private final StringRedisTemplate redis;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${article.score.sync-chunk-size:500}")
+    private int chunkSize;
+
+    /* 🔹 메트릭 (누적) */
+    private final LongAdder keysScanned = new LongAdder();
+    private final LongAdder rowsUpdated = new LongAdder();
+    private final LongAdder syncFailures = new LongAdder();
+    private final AtomicLong lastLagMs = new AtomicLong();
+    private final AtomicLong lastSyncAt = new AtomicLong();
+
+    /* =========================================================
+       1️⃣ dirty 표시 (카운터 변경 경로에서 호출)
+       ========================================================= */
+    public void markDirty(int articleId) {
+        // NX: 이미 dirty 면 최초 시각 유지 → 지연(lag) 계산 기준
+        redis.opsForZSet().addIfAbsent(DIRTY_KEY, String.valueOf(articleId), System.currentTimeMillis());
+    }
+
+    /** 여러 기사 일괄 dirty 표시 (ZADD NX 1회) */
+    public void markDirty(Collection<Integer> articleIds) {
+        if (articleIds.isEmpty()) return;
+
+        double now = System.currentTimeMillis();
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (Integer id : articleIds) {
+            tuples.add(TypedTuple.of(String.valueOf(id), now));
+        }
+        redis.opsForZSet().addIfAbsent(DIRTY_KEY, tuples);
+    }
+
+    /* =========================================================
+       2️⃣ 동기화 (dirty 만, 청크 단위)
+       ========================================================= */
+    @Scheduled(fixedDelayString = "${article.score.sync-interval-ms:60000}")
+    public void syncScores() {
+
+        long started = System.currentTimeMillis();
+        int synced = 0;
+
+        while (true) {
+            Set<TypedTuple<String>> popped = redis.opsForZSet().popMin(DIRTY_KEY, chunkSize);
+            if (popped == null || popped.isEmpty()) break;
+
+            try {
+                synced += syncChunk(popped, started);
+            } catch (Exception e) {
+                syncFailures.increment();
+                log.error("[ScoreSync] 청크 반영 실패 → dirty 복구 size={}", popped.size(), e);
+                restore(popped);
+                break;
+            }
+
+            if (popped.size() < chunkSize) break;
+        }
+
+        lastSyncAt.set(started);
+        if (synced > 0) {
+            log.info("[ScoreSync] 동기화 완료 rows={} lag={}ms took={}ms",
+                    synced, lastLagMs.get(), System.currentTimeMillis() - started);
+        }
+    }
+
+    private int syncChunk(Set<TypedTuple<String>> popped, long now) {
+
+        List<String> ids = new ArrayList<>(popped.size());
+        long oldest = now;
+        for (TypedTuple<String> t : popped) {
+            ids.add(t.getValue());
+            if (t.getScore() != null) oldest = Math.min(oldest, t.getScore().longValue());
+        }
+
+        // MGET 1회: [id0:view, id0:like, id0:dislike, id0:comment, id1:view, ...]
+        List<String> keys = new ArrayList<>(ids.size() * COUNTERS.length);
+        for (String id : ids) {
+            for (String counter : COUNTERS) keys.add(PREFIX + id + ":" + counter);
+        }
+        List<String> values = redis.opsForValue().multiGet(keys);
+
+        List<Object[]> args = new ArrayList<>(ids.size());
+        Map<String, String> scores = new HashMap<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            int base = i * COUNTERS.length;
+            Integer views = parse(values, base);
+            Integer likes = parse(values, base + 1);
+            Integer dislikes = parse(values, base + 2);
+            Integer comments = parse(values, base + 3);
+
+            // 카운터가 모두 있을 때만 Redis score 갱신 (빠진 값은 DB 에만 있음)
+            if (views != null && likes != null && dislikes != null && comments != null) {
+                int score = (int) (views * 0.1 + likes * 2 + comments * 3);
+                scores.put(PREFIX + ids.get(i) + ":score", String.valueOf(score));
+            }
+            args.add(new Object[] { views, likes, dislikes, comments, Integer.valueOf(ids.get(i)) });
+        }
+
+        if (!scores.isEmpty()) redis.opsForValue().multiSet(scores);
+        jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+
+        rowsUpdated.add(args.size());
+        lastLagMs.set(now - oldest);
+        return args.size();
+    }
+
+    private void restore(Set<TypedTuple<String>> popped) {
+        for (TypedTuple<String> t : popped) {
+            double score = t.getScore() != null ? t.getScore() : System.currentTimeMillis();
+            redis.opsForZSet().addIfAbsent(DIRTY_KEY, t.getValue(), score);
+        }
+    }
+
+    /** 키가 없으면 null → UPDATE 에서 기존 컬럼 유지 */
+    private Integer parse(List<String> values, int index) {
+        if (values == null) return null;
+        String v = values.get(index);
+        return v != null ? Integer.valueOf(v) : null;
+    }
+
+    /* =========================================================
+       3️⃣ Reconcile (SCAN 커서, 비차단)
+       - 기동 시 + 매일 새벽: dirty 표시 없이 바뀐 카운터 키를 dirty 에 편입
+       ========================================================= */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(PREFIX + "*:view")
+                .count(chunkSize)
+                .build();
+
+        long scanned = 0;
+        try (Cursor<String> cursor = redis.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                scanned++;
+                try {
+                    markDirty(Integer.parseInt(key.split(":")[1]));
+                } catch (NumberFormatException ignored) {
+                    // article:score:dirty 등 숫자 ID 가 아닌 키
+                }
+            }
+        } catch (Exception e) {
+            log.error("[ScoreSync] reconcile SCAN 실패 scanned={}", scanned, e);
+        }
+
+        keysScanned.add(scanned);
+        log.info("[ScoreSync] reconcile 완료 scanned={}", scanned);
+    }
+
+    /* =========================================================
+       4️⃣ 메트릭
+       ========================================================= */
+    public SyncMetrics getMetrics() {
+        Long pending = redis.opsForZSet().zCard(DIRTY_KEY);
+        return new SyncMetrics(
+                keysScanned.sum(),
+                rowsUpdated.sum(),
+                syncFailures.sum(),
+                pending != null ? pending : 0,
+                lastLagMs.get(),
+                lastSyncAt.get()
+        );
+    }
+
+    public record SyncMetrics(
+            long keysScanned,
+            long rowsUpdated,
+            long failures,
+            long pendingDirty,
+            long lastLagMs,
+            long lastSyncAtMs
+    ) {}
+}
@@ -1,36 +1,115 @@
 package org.usyj.makgora.article.service;
 
-import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.usyj.makgora.article.entity.RssArticleEntity;
-import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
 
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 👀 기사 조회수
+ *
+ * - DB(rss_articles.view_count) 는 ArticleScoreSyncService 동기화로만 반영 (요청 경로에서 row lock 없음)
+ * - article.view.mode
+ *     strict   : 조회마다 Redis INCR (즉시 반영)
+ *     buffered : 로컬 LongAdder 에 누적 → flush 주기마다 Redis INCRBY 를 pipeline 으로 일괄 반영 (기본값)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleViewService {
 
     private final StringRedisTemplate redis;
-    private final RssArticleRepository articleRepo;
+    private final ArticleScoreSyncService scoreSyncService;
 
     private static final String PREFIX = "article:";
 
+    @Value("${article.view.mode:buffered}")
+    private String mode;
+
+    /** articleId → 아직 Redis 에 반영되지 않은 조회수 */
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
     /**
      * 조회수 증가
-     * Redis + DB 동시 반영
      */
-    @Transactional
     public void addView(Integer articleId) {
 
-        // Redis 증가
-        redis.opsForValue().increment(PREFIX + articleId + ":view");
+        if ("strict".equalsIgnoreCase(mode)) {
+            redis.opsForValue().increment(PREFIX + articleId + ":view");
+            scoreSyncService.markDirty(articleId);
+            return;
+        }
+
+        // 핫 경로: 기존 adder 가 있으면 lock 없이 조회 후 증가 (인기 기사 한 bin 에 직렬화되지 않음)
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 버퍼 → Redis 일괄 반영
+     * - 한 주기 동안 조회가 없던 기사는 버퍼에서 제거 (메모리 상한)
+     * - 제거는 remove(key, adder) 로 같은 adder 일 때만, 제거 직후 남은 증가분은 이번 배치에 포함
+     */
+    @Scheduled(fixedDelayString = "${article.view.flush-interval-ms:1000}")
+    public void flush() {
+
+        if (pending.isEmpty()) return;
+
+        List<Integer> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        for (Map.Entry<Integer, LongAdder> e : pending.entrySet()) {
+            Integer articleId = e.getKey();
+            LongAdder adder = e.getValue();
+
+            long delta = adder.sumThenReset();
+            if (delta == 0 && pending.remove(articleId, adder)) {
+                // 제거 직전에 adder 를 잡은 조회가 남긴 증가분
+                delta = adder.sumThenReset();
+            }
+            if (delta == 0) continue;
+
+            ids.add(articleId);
+            deltas.add(delta);
+        }
+
+        if (ids.isEmpty()) return;
+
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                incrementAll(connection, ids, deltas);
+                return null;
+            });
+            scoreSyncService.markDirty(ids);
+        } catch (Exception e) {
+            log.error("[ArticleView] Redis 반영 실패 → 다음 주기 재시도 articles={}", ids.size(), e);
+            for (int i = 0; i < ids.size(); i++) {
+                pending.computeIfAbsent(ids.get(i), id -> new LongAdder()).add(deltas.get(i));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
 
-        // DB 증가
-        RssArticleEntity article = articleRepo.findById(articleId).orElse(null);
-        if (article != null) {
-            article.setViewCount(article.getViewCount() + 1);
-            articleRepo.save(article);
+    private void incrementAll(RedisConnection connection, List<Integer> ids, List<Long> deltas) {
+        for (int i = 0; i < ids.size(); i++) {
+            byte[] key = (PREFIX + ids.get(i) + ":view").getBytes(StandardCharsets.UTF_8);
+            connection.stringCommands().incrBy(key, deltas.get(i));
         }
     }
 }
@@ -0,0 +1,196 @@
+package org.usyj.makgora.article.service;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.usyj.makgora.article.dto.RssArticleCreateDTO;
+import org.usyj.makgora.rssfeed.source.StreamingFeedParser;
+
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🌐 RSS 피드 다운로드 + 파싱
+ *
+ * - 조건부 GET: 저장된 ETag / Last-Modified 를 If-None-Match / If-Modified-Since 로 전송
+ *   → 변경 없는 피드는 304 한 번으로 끝 (본문 다운로드 / 파싱 없음)
+ * - 별도 접근성 검사(HEAD → GET) 없이 GET 1회로 판단
+ * - 호스트별 동시 요청 수 제한 (같은 언론사 서버에 몰리지 않도록)
+ * - 파싱: rss.parser.mode=streaming(기본) 이면 StAX 스트리밍 + 마지막 수집 이전 구간 조기 중단, dom 이면 Rome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RssFeedFetcher {
+
+    private final StreamingFeedParser streamingParser;
+
+    private static final String USER_AGENT = "Makgora (https://makgora.store)";
+
+    @Value("${rss.collect.per-host-concurrency:2}")
+    private int perHostConcurrency;
+
+    @Value("${rss.collect.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /** host → 동시 요청 제한 */
+    private final Map<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+
+    /** SKIPPED: 서킷 OPEN 으로 요청 자체를 생략 (호출부에서 사용) */
+    public enum Status { OK, NOT_MODIFIED, FAILED, SKIPPED }
+
+    /**
+     * 🔹 수집 결과
+     * etag / lastModified: 다음 조건부 요청에 쓸 값 (OK 일 때만 갱신)
+     * maxAgeSec: Cache-Control max-age / Expires 기준 캐시 유효 시간 (없으면 null)
+     * latencyMs: 호스트 동시성 대기를 뺀 요청 ~ 파싱 완료 시간 / error: 실패 사유
+     */
+    public record FetchResult(
+            Status status,
+            List<RssArticleCreateDTO> dtos,
+            String etag,
+            String lastModified,
+            Long maxAgeSec,
+            long latencyMs,
+            String error
+    ) {
+        static FetchResult notModified(Long maxAgeSec, long latencyMs) {
+            return new FetchResult(Status.NOT_MODIFIED, List.of(), null, null, maxAgeSec, latencyMs, null);
+        }
+
+        static FetchResult failed(String error, long latencyMs) {
+            return new FetchResult(Status.FAILED, List.of(), null, null, null, latencyMs, error);
+        }
+    }
+
+    /**
+     * @param lastFetched 스트리밍 모드에서 이 시각 이전 구간에 도달하면 파싱 중단 (null 이면 전체)
+     */
+    public FetchResult fetch(String url, String etag, String lastModified, LocalDateTime lastFetched) {
+
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            log.warn("✔ URL 형식 오류: {}", url);
+            return FetchResult.failed("URL 형식 오류", 0);
+        }
+        if (uri.getHost() == null) {
+            log.warn("✔ URL 형식 오류: {}", url);
+            return FetchResult.failed("URL 형식 오류", 0);
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .GET()
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("User-Agent", USER_AGENT);
+        if (etag != null) request.header("If-None-Match", etag);
+        if (lastModified != null) request.header("If-Modified-Since", lastModified);
+
+        Semaphore limit = hostLimits.computeIfAbsent(uri.getHost(), h -> new Semaphore(perHostConcurrency));
+
+        long started = 0;
+        try {
+            limit.acquire();
+            started = System.currentTimeMillis();
+            try {
+                HttpResponse<InputStream> response =
+                        httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+                try (InputStream body = response.body()) {
+                    int code = response.statusCode();
+                    Long maxAgeSec = maxAgeSec(response.headers());
+
+                    if (code == 304) {
+                        return FetchResult.notModified(maxAgeSec, System.currentTimeMillis() - started);
+                    }
+                    if (code < 200 || code >= 300) {
+                        log.warn("🚫 URL 응답 오류 | {} | HTTP {}", url, code);
+                        return FetchResult.failed("HTTP " + code, System.currentTimeMillis() - started);
+                    }
+
+                    List<RssArticleCreateDTO> dtos = streamingParser.isStreaming()
+                            ? streamingParser.parse(body, lastFetched)
+                            : parseDom(body, response.headers().firstValue("Content-Type").orElse(null));
+
+                    return new FetchResult(
+                            Status.OK,
+                            dtos,
+                            response.headers().firstValue("ETag").orElse(null),
+                            response.headers().firstValue("Last-Modified").orElse(null),
+                            maxAgeSec,
+                            System.currentTimeMillis() - started,
+                            null
+                    );
+                }
+            } finally {
+                limit.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FetchResult.failed("interrupted", 0);
+        } catch (Exception e) {
+            log.error("❌ 수집 실패 | {} | {}", url, e.getMessage(), e);
+            long latency = started > 0 ? System.currentTimeMillis() - started : 0;
+            return FetchResult.failed(e.getClass().getSimpleName() + ": " + e.getMessage(), latency);
+        }
+    }
+
+    /** dom 모드: Rome SyndFeed 전체 구성 후 변환 */
+    private List<RssArticleCreateDTO> parseDom(InputStream body, String contentType) throws Exception {
+        try (XmlReader reader = new XmlReader(body, contentType, true)) {
+            SyndFeed syndFeed = new SyndFeedInput().build(reader);
+            return syndFeed.getEntries().stream()
+                    .map(RssArticleCreateDTO::from)
+                    .toList();
+        }
+    }
+
+    /** Cache-Control: max-age 우선, 없으면 Expires - 현재 */
+    private Long maxAgeSec(HttpHeaders headers) {
+        String cacheControl = headers.firstValue("Cache-Control").orElse(null);
+        if (cacheControl != null) {
+            for (String directive : cacheControl.split(",")) {
+                String d = directive.trim();
+                if (d.startsWith("max-age=")) {
+                    try {
+                        return Long.parseLong(d.substring("max-age=".length()));
+                    } catch (NumberFormatException ignored) { }
+                }
+            }
+        }
+
+        String expires = headers.firstValue("Expires").orElse(null);
+        if (expires != null) {
+            try {
+                long sec = ZonedDateTime.parse(expires, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond()
+                        - System.currentTimeMillis() / 1000;
+                return Math.max(0, sec);
+            } catch (Exception ignored) { }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,257 @@
+package org.usyj.makgora.article.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🧮 수집 링크 인덱스 (메모리)
+ *
+ * - rss_articles.link 의 64bit 해시를 primitive open-addressing set(long[]) 에 보관
+ *     · miss → 마지막 catchUp 시점까지 저장된 적 없는 링크 → DB 조회 없이 INSERT 대상
+ *     · hit  → 해시 충돌 / 삭제된 기사 가능성 → DB 로 확인
+ * - 기동 시 테이블에서 article_id 키셋 순회로 적재, 저장 시 add
+ * - 다른 인스턴스 / 다른 스레드가 저장한 기사는 수집 실행마다 catchUp(article_id > 마지막 적재 ID) 으로 편입
+ *     · 적재는 single-flight: 다른 스레드가 적재 / 재구성 중이면 기다리지 않고 건너뜀
+ * - catchUp 이후 끼어든 저장은 miss 로 보일 수 있음 → 최종 판정은 uk_article_link (INSERT IGNORE)
+ * - 준비 전(ready=false) 에는 모든 링크를 hit 로 취급 → 기존처럼 DB 검사
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeenLinkIndex {
+
+    private static final String LOAD_SQL =
+            "SELECT article_id, link FROM rss_articles WHERE article_id > ? ORDER BY article_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${rss.seen-link.load-chunk-size:10000}")
+    private int loadChunkSize;
+
+    private volatile LongHashSet hashes = new LongHashSet(1024);
+    private volatile boolean ready;
+
+    /** 마지막으로 적재한 article_id */
+    private final AtomicLong loadedUpTo = new AtomicLong();
+
+    /** rebuild / catchUp 적재 직렬화 (catchUp 은 tryLock → 저장 경로를 막지 않음) */
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /* 🔹 메트릭 */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final AtomicLong lastRebuildAt = new AtomicLong();
+    private final AtomicLong lastRebuildMs = new AtomicLong();
+
+    /* =========================================================
+       1️⃣ 조회 / 추가
+       ========================================================= */
+
+    /** false 면 인덱스가 모르는 링크 (DB unique 키가 최종 판정), true 면 DB 확인 필요 */
+    public boolean mightContain(String link) {
+        if (!ready) return true;
+
+        boolean hit = hashes.contains(hash(link));
+        (hit ? hits : misses).increment();
+        return hit;
+    }
+
+    public void addAll(Collection<String> links) {
+        LongHashSet set = hashes;
+        for (String link : links) {
+            set.add(hash(link));
+        }
+    }
+
+    /** hit 였지만 DB 에 없던 건수 (해시 충돌 / 삭제된 기사) */
+    public void recordFalsePositives(int count) {
+        falsePositives.add(count);
+    }
+
+    /* =========================================================
+       2️⃣ 적재 / 재구성
+       ========================================================= */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /** 전체 재구성 (새 set 을 만든 뒤 교체 → 구성 중에도 기존 인덱스로 서빙) */
+    public IndexMetrics rebuild() {
+        loadLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+
+            LongHashSet fresh = new LongHashSet(1024);
+            long upTo = load(fresh, 0);
+
+            hashes = fresh;
+            loadedUpTo.set(upTo);
+            ready = true;
+
+            // 구성 중 저장된 기사 편입
+            catchUp();
+
+            lastRebuildAt.set(started);
+            lastRebuildMs.set(System.currentTimeMillis() - started);
+            log.info("[SeenLink] 재구성 완료 size={} bytes={} took={}ms",
+                    fresh.size(), fresh.memoryBytes(), lastRebuildMs.get());
+        } finally {
+            loadLock.unlock();
+        }
+        return getMetrics();
+    }
+
+    /**
+     * 마지막 적재 이후 추가된 기사만 편입 (수집 실행 시작마다 호출, PK 범위 조회 1회)
+     * - 이미 다른 스레드가 적재 중이면 건너뜀 → 놓친 링크는 miss 로 보이고 INSERT IGNORE 가 처리
+     */
+    public void catchUp() {
+        if (!ready || !loadLock.tryLock()) return;
+        try {
+            loadedUpTo.accumulateAndGet(load(hashes, loadedUpTo.get()), Math::max);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private long load(LongHashSet target, long afterId) {
+        long cursor = afterId;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(LOAD_SQL,
+                    (rs, i) -> new Object[] { rs.getLong(1), rs.getString(2) },
+                    cursor, loadChunkSize);
+
+            for (Object[] row : rows) {
+                target.add(hash((String) row[1]));
+                cursor = (Long) row[0];
+            }
+            if (rows.size() < loadChunkSize) return cursor;
+        }
+    }
+
+    /* =========================================================
+       3️⃣ 메트릭
+       ========================================================= */
+    public IndexMetrics getMetrics() {
+        LongHashSet set = hashes;
+        return new IndexMetrics(
+                ready,
+                set.size(),
+                set.capacity(),
+                set.memoryBytes(),
+                hits.sum(),
+                misses.sum(),
+                falsePositives.sum(),
+                loadedUpTo.get(),
+                lastRebuildAt.get(),
+                lastRebuildMs.get()
+        );
+    }
+
+    public record IndexMetrics(
+            boolean ready,
+            int size,
+            int capacity,
+            long memoryBytes,
+            long hits,
+            long misses,
+            long falsePositives,
+            long loadedUpToArticleId,
+            long lastRebuildAtMs,
+            long lastRebuildTookMs
+    ) {}
+
+    /* ======================= 해시 ======================== */
+
+    /** FNV-1a 64 + murmur3 fmix64 (테이블 분산용) */
+    static long hash(String link) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : link.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * long 전용 open-addressing set (linear probing, 적재율 0.5 초과 시 2배 확장)
+     * - 0 은 빈 슬롯 표시 → 해시값 0 은 1 로 치환
+     */
+    static final class LongHashSet {
+
+        private long[] table;
+        private int size;
+
+        LongHashSet(int initialCapacity) {
+            table = new long[Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1];
+        }
+
+        synchronized boolean contains(long value) {
+            long v = value == 0 ? 1 : value;
+            int mask = table.length - 1;
+            for (int i = (int) v & mask; ; i = (i + 1) & mask) {
+                long cur = table[i];
+                if (cur == 0) return false;
+                if (cur == v) return true;
+            }
+        }
+
+        synchronized void add(long value) {
+            long v = value == 0 ? 1 : value;
+            if ((size + 1) * 2L > table.length) grow();
+            if (insert(table, v)) size++;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized int capacity() {
+            return table.length;
+        }
+
+        synchronized long memoryBytes() {
+            return (long) table.length * Long.BYTES;
+        }
+
+        private void grow() {
+            long[] next = new long[table.length << 1];
+            for (long v : table) {
+                if (v != 0) insert(next, v);
+            }
+            table = next;
+        }
+
+        private static boolean insert(long[] t, long v) {
+            int mask = t.length - 1;
+            for (int i = (int) v & mask; ; i = (i + 1) & mask) {
+                long cur = t[i];
+                if (cur == v) return false;
+                if (cur == 0) {
+                    t[i] = v;
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,14 @@
 package org.usyj.makgora.article.service;
 
-import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.article.dto.RssArticleCreateDTO;
-import org.usyj.makgora.article.entity.ArticleCategoryEntity;
-import org.usyj.makgora.article.entity.RssArticleEntity;
 import org.usyj.makgora.rssfeed.entity.RssFeedEntity;
 import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
+import org.usyj.makgora.rssfeed.service.RssFeedHealthService;
 import org.usyj.makgora.rssfeed.service.RssFeedManagementService;
 import org.usyj.makgora.rssfeed.source.RssFeedSource;
 
@@ -23,7 +19,7 @@ import lombok.extern.slf4j.Slf4j;
  * RSS 기사 관리 서비스
  * - 배치 단위 기사 저장
  * - 개별 RSS 피드 수집
- * - URL 검증, 접근 가능 여부 체크 포함
+ * - URL 검증 + 피드 상태(서킷 브레이커) 기록
  */
 @Service
 @RequiredArgsConstructor
@@ -32,69 +28,23 @@ public class SourceArticleService {
 
     private final RssFeedManagementService feedService; // 피드/카테고리 관리 서비스
     private final RssArticleRepository articleRepo;    // 기사 저장/조회용 JPA 레포지토리
+    private final ArticleBulkWriter bulkWriter;        // 기사 일괄 저장기
+    private final RssFeedHealthService healthService;  // 피드 상태 / 서킷 브레이커
 
     // ------------------------
     // 1️⃣ 배치 단위 기사 저장
+    //  - 링크 중복 검사 IN 1회 + JDBC batch INSERT (ArticleBulkWriter)
+    //  - DTO 카테고리는 없으면 생성, 비어있으면 feed 기본 카테고리 사용
     // ------------------------
     @Transactional
     public int saveArticlesBatch(RssFeedEntity feed, List<RssArticleCreateDTO> dtos) {
-        Set<String> savedLinksSet = new HashSet<>(); // 배치 내 중복 방지용
-        int savedCount = 0; // 실제 저장된 기사 수
-
-        for (RssArticleCreateDTO dto : dtos) {
-
-            // -------------------------------------------------------
-            // 🔸 publishedAt이 null인 경우 기사로서 저장할 수 없으므로 스킵
-            // -------------------------------------------------------
-            if (dto.getPublishedAt() == null) {
-                continue; 
-            }
-
-            String link = dto.getLink();
-
-            // -------------------------------------------------------
-            // 🔸 이미 DB에 존재하거나, 이번 배치 내에서 중복된 경우 스킵
-            // -------------------------------------------------------
-            if (articleRepo.existsByLink(link) || savedLinksSet.contains(link)) {
-                continue;
-            }
-
-            // -------------------------------------------------------
-            // 🔸 카테고리 처리
-            //     - DTO에 카테고리가 있으면 feedService에서 처리
-            //     - 없으면 feed 기본 카테고리를 사용
-            // -------------------------------------------------------
-            Set<ArticleCategoryEntity> categories;
-            if (dto.getCategories() != null && !dto.getCategories().isEmpty()) {
-                categories = feedService.getOrCreateCategories(new HashSet<>(dto.getCategories()));
-            } else {
-                categories = feed.getCategories() != null
-                        ? new HashSet<>(feed.getCategories())
-                        : new HashSet<>();
-            }
-
-            // -------------------------------------------------------
-            // 🔸 RssArticleEntity 생성
-            // -------------------------------------------------------
-            RssArticleEntity article = RssArticleEntity.builder()
-                    .feed(feed)
-                    .title(dto.getTitle())
-                    .link(link)
-                    .content(dto.getContent())
-                    .thumbnailUrl(dto.getThumbnailUrl())
-                    .publishedAt(dto.getPublishedAt()) // 이미 null 아님 보장됨
-                    .categories(categories)
-                    .build();
-
-            // -------------------------------------------------------
-            // 🔸 DB 저장 + 링크 기록
-            // -------------------------------------------------------
-            articleRepo.save(article);
-            savedLinksSet.add(link);
-            savedCount++;
-        }
+        ArticleBulkWriter.WriteResult result =
+                bulkWriter.write(feed, dtos, bulkWriter.orCreate(feedService::getOrCreateCategory));
 
-        return savedCount;
+        log.debug("⏱ 저장 | feedId:{} | 중복검사 {}ms | INSERT {}ms | 저장:{}",
+                feed.getId(), result.dedupMs(), result.insertMs(), result.saved());
+
+        return result.saved();
     }
 
     // ------------------------
@@ -117,27 +67,11 @@ public class SourceArticleService {
     }
 
     // ------------------------
-    // 4️⃣ URL 접근 가능 여부 확인
-    // ------------------------
-    private boolean isUrlReachable(String url) {
-        try {
-            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
-            connection.setRequestMethod("HEAD");       // 바디 없이 상태 코드만 확인
-            connection.setConnectTimeout(3000);        // 연결 타임아웃 3초
-            connection.setReadTimeout(3000);           // 읽기 타임아웃 3초
-            int responseCode = connection.getResponseCode();
-            return responseCode >= 200 && responseCode < 400; // 2xx~3xx 정상 처리
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    // ------------------------
-    // 5️⃣ 개별 RSS 피드 수집
+    // 4️⃣ 개별 RSS 피드 수집
     // ------------------------
     /**
      * 개별 RSS 피드 수집 후 기사 저장
-     * - URL 형식 검증 및 접근 가능 여부 체크 포함
+     * - URL 형식 검증 + 서킷이 열린 피드는 건너뜀 (RssFeedHealthService)
      * - saveArticlesBatch 재사용
      * - 수집 완료 후 lastFetched 업데이트
      *
@@ -153,19 +87,22 @@ public class SourceArticleService {
             return 0;
         }
 
-        // 2. 접근 가능 여부 확인
-        if (!isUrlReachable(feed.getUrl())) {
-            log.warn("접근 불가 URL: {}", feed.getUrl());
+        // 2. 서킷 확인 (HEAD 사전 검사 대신 실제 수집 결과로 판단)
+        if (!healthService.tryAcquire(feed.getId(), feed.getUrl())) {
+            log.info("서킷 OPEN → 수집 건너뜀: {}", feed.getUrl());
             return 0;
         }
 
         List<RssArticleCreateDTO> dtos;
+        long started = System.currentTimeMillis();
 
         try {
             // feed의 기본 카테고리 이름 사용하여 fetch 호출
             String categoryName = feed.getCategories().iterator().next().getName();
-            dtos = source.fetch(categoryName, feed.getUrl());
+            dtos = source.fetchSince(categoryName, feed.getUrl(), feed.getLastFetched());
+            healthService.record(feed.getId(), feed.getUrl(), true, System.currentTimeMillis() - started, null);
         } catch (Exception e) {
+            healthService.record(feed.getId(), feed.getUrl(), false, System.currentTimeMillis() - started, e.getMessage());
             log.error("RSS 수집 실패: {} | {} | 에러: {}", feed.getSourceName(), feed.getUrl(), e.getMessage(), e);
             return 0;
         }
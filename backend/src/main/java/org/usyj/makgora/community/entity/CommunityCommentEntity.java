@@ -14,7 +14,13 @@ import org.usyj.makgora.user.entity.UserEntity;
  * - 게시글: CommunityPostsEntity
  */
 @Entity
-@Table(name = "Community_Comments")
+@Table(
+    name = "Community_Comments",
+    indexes = {
+        // 프로필 최근 활동: 내 댓글 최신순 top-N
+        @Index(name = "idx_community_comment_user_created", columnList = "user_id, created_at")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +15,13 @@ import org.usyj.makgora.user.entity.UserEntity;
  * - 포인트자랑 / 이슈추천 / 일반 카테고리 지원
  */
 @Entity
-@Table(name = "community_posts")   // 실제 테이블명이랑 맞춰줘!
+@Table(
+    name = "community_posts",   // 실제 테이블명이랑 맞춰줘!
+    indexes = {
+        // 프로필 최근 활동: 내 글 최신순 top-N
+        @Index(name = "idx_post_user_created", columnList = "user_id, created_at")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,9 +1,11 @@
 package org.usyj.makgora.community.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.usyj.makgora.community.entity.CommunityCommentEntity;
+import org.usyj.makgora.profile.dto.CommunityActivityRowDTO;
 
 import java.util.List;
 
@@ -39,6 +41,21 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
     @Query("SELECT c FROM CommunityCommentEntity c WHERE c.user.id = :userId ORDER BY c.createdAt DESC")
     List<CommunityCommentEntity> findByUserId(@Param("userId") Integer userId);
 
+    /**
+     * 프로필 최근 활동: 특정 유저 댓글 최신순 top-N (idx_community_comment_user_created)
+     * - 게시글 제목까지 조인 1회, 본문은 앞부분만
+     */
+    @Query("""
+        SELECT new org.usyj.makgora.profile.dto.CommunityActivityRowDTO(
+            c.commentId, p.postId, p.title, SUBSTRING(c.content, 1, 51), c.createdAt
+        )
+        FROM CommunityCommentEntity c
+        JOIN c.post p
+        WHERE c.user.id = :userId
+        ORDER BY c.createdAt DESC, c.commentId DESC
+    """)
+    List<CommunityActivityRowDTO> findRecentActivityRows(@Param("userId") Integer userId, Pageable pageable);
+
     // 특정 게시글의 모든 댓글/대댓글을 작성시간 기준으로 가져오기
     List<CommunityCommentEntity> findByPost_PostIdOrderByCreatedAtAsc(Long postId);
 
@@ -51,4 +68,15 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
         c.createdAt ASC
 """)
 List<CommunityCommentEntity> findCommentsOrdered(@Param("postId") Long postId);
+
+    /**
+     * 댓글 트리용: 전체 댓글 + 작성자 1회 조회 (CommentTree 로 조립)
+     */
+    @Query("""
+        SELECT c FROM CommunityCommentEntity c
+        JOIN FETCH c.user
+        WHERE c.post.postId = :postId
+        ORDER BY c.createdAt ASC, c.commentId ASC
+    """)
+    List<CommunityCommentEntity> findTreeByPostId(@Param("postId") Long postId);
 }
\ No newline at end of file
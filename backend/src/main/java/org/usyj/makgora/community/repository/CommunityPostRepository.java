@@ -1,8 +1,12 @@
 package org.usyj.makgora.community.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.usyj.makgora.community.entity.CommunityPostEntity;
+import org.usyj.makgora.profile.dto.CommunityActivityRowDTO;
 import org.usyj.makgora.user.entity.UserEntity;
 
 import java.util.List;
@@ -17,4 +21,15 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPostEnti
     // ⭐ 전체 게시글 최신순 조회 (댓글도 함께 가져오기)
     @EntityGraph(attributePaths = {"comments", "user"})
     List<CommunityPostEntity> findAllByOrderByCreatedAtDesc();
+
+    // 🔥 프로필 최근 활동: 내 글 최신순 top-N (idx_post_user_created, 본문은 앞부분만)
+    @Query("""
+        SELECT new org.usyj.makgora.profile.dto.CommunityActivityRowDTO(
+            p.postId, p.postId, p.title, SUBSTRING(p.content, 1, 51), p.createdAt
+        )
+        FROM CommunityPostEntity p
+        WHERE p.user.id = :userId
+        ORDER BY p.createdAt DESC, p.postId DESC
+    """)
+    List<CommunityActivityRowDTO> findRecentActivityRows(@Param("userId") Integer userId, Pageable pageable);
 }
@@ -2,7 +2,6 @@ package org.usyj.makgora.community.service;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.community.dto.request.CommunityCommentRequest;
@@ -11,6 +10,9 @@ import org.usyj.makgora.community.entity.CommunityCommentEntity;
 import org.usyj.makgora.community.entity.CommunityPostEntity;
 import org.usyj.makgora.community.repository.CommunityCommentRepository;
 import org.usyj.makgora.community.repository.CommunityPostRepository;
+import org.usyj.makgora.global.comment.CommentReactionResolver;
+import org.usyj.makgora.global.comment.CommentTree;
+import org.usyj.makgora.global.comment.ReactionState;
 import org.usyj.makgora.user.entity.UserEntity;
 import org.usyj.makgora.user.repository.UserRepository;
 
@@ -25,13 +27,24 @@ public class CommunityCommentService {
     private final CommunityPostRepository communityPostRepository;
     private final CommunityPostReactionService postReactionService;
     private final UserRepository userRepository;
-    private final StringRedisTemplate redis;
     private final CommunityCommentReactionService communityCommentReactionService;
+    private final CommentReactionResolver reactionResolver;
+
+    /** 댓글 반응 Redis 키 (CommunityCommentReactionService 와 동일 규칙) */
+    private static final CommentReactionResolver.KeyScheme REACTION_KEYS = new CommentReactionResolver.KeyScheme(
+            id -> "community:comment:" + id + ":like:count",
+            id -> "community:comment:" + id + ":dislike:count",
+            id -> "community:comment:" + id + ":like:users",
+            id -> "community:comment:" + id + ":dislike:users"
+    );
+
+    /** 댓글 목록 반응 일괄 조회 (pipeline 1회) */
+    private Map<Long, ReactionState> reactionsOf(Collection<Long> commentIds, Integer currentUserId) {
+        return reactionResolver.resolve(commentIds, currentUserId, REACTION_KEYS);
+    }
 
-    /** Redis count 가져오기 */
-    private long getCount(String key) {
-        String val = redis.opsForValue().get(key);
-        return (val == null) ? 0L : Long.parseLong(val);
+    private ReactionState reactionOf(Long commentId, Integer currentUserId) {
+        return reactionsOf(List.of(commentId), currentUserId).getOrDefault(commentId, ReactionState.NONE);
     }
 
     /** 댓글 목록 조회 */
@@ -41,32 +54,23 @@ public class CommunityCommentService {
         communityPostRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        List<CommunityCommentEntity> entities =
-                communityCommentRepository.findCommentsOrdered(postId);
-
-        Map<Long, CommunityCommentResponse> dtoMap = new LinkedHashMap<>();
-
-        for (CommunityCommentEntity entity : entities) {
-            dtoMap.put(entity.getCommentId(), toResponse(entity, currentUserId));
-        }
-
-        List<CommunityCommentResponse> roots = new ArrayList<>();
-
-        for (CommunityCommentEntity entity : entities) {
-
-            Long commentId = entity.getCommentId();
-            Long parentId = (entity.getParent() != null) ? entity.getParent().getCommentId() : null;
-
-            CommunityCommentResponse dto = dtoMap.get(commentId);
-
-            if (parentId == null) {
-                roots.add(dto);
-            } else {
-                dtoMap.get(parentId).getReplies().add(dto);
-            }
-        }
-
-        return roots;
+        // 댓글 + 작성자 1회 조회 → 메모리 트리
+        List<CommunityCommentEntity> entities = communityCommentRepository.findTreeByPostId(postId);
+
+        // 반응 수 + 내 반응: 댓글 수와 무관하게 pipeline 1회
+        Map<Long, ReactionState> reactions = reactionsOf(
+                entities.stream().map(CommunityCommentEntity::getCommentId).toList(), currentUserId);
+
+        return CommentTree.of(
+                        entities,
+                        CommunityCommentEntity::getCommentId,
+                        c -> c.getParent() != null ? c.getParent().getCommentId() : null)
+                .render((entity, replies, replyCount) -> {
+                    CommunityCommentResponse dto = toResponse(entity, currentUserId,
+                            reactions.getOrDefault(entity.getCommentId(), ReactionState.NONE));
+                    dto.getReplies().addAll(replies);
+                    return dto;
+                });
     }
 
     /** 모든 댓글 조회 (관리자용) */
@@ -77,9 +81,13 @@ public class CommunityCommentService {
         // 최신순 정렬
         entities.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
         
+        Map<Long, ReactionState> reactions = reactionsOf(
+                entities.stream().map(CommunityCommentEntity::getCommentId).toList(), currentUserId);
+
         List<CommunityCommentResponse> responses = new ArrayList<>();
         for (CommunityCommentEntity entity : entities) {
-            responses.add(toResponse(entity, currentUserId));
+            responses.add(toResponse(entity, currentUserId,
+                    reactions.getOrDefault(entity.getCommentId(), ReactionState.NONE)));
         }
         
         return responses;
@@ -117,7 +125,7 @@ public class CommunityCommentService {
         // 게시글 댓글 count 증가
         postReactionService.addComment(postId);
 
-        return toResponse(saved, userId);
+        return toResponse(saved, userId, reactionOf(saved.getCommentId(), userId));
     }
 
     /** 댓글 수정 */
@@ -135,7 +143,7 @@ public class CommunityCommentService {
         }
 
         comment.setContent(request.getContent());
-        return toResponse(comment, userId);
+        return toResponse(comment, userId, reactionOf(commentId, userId));
     }
 
     /** 댓글 삭제 */
@@ -159,27 +167,15 @@ public class CommunityCommentService {
     }
 
     /** DTO 변환 */
-    private CommunityCommentResponse toResponse(CommunityCommentEntity entity, Integer currentUserId) {
+    private CommunityCommentResponse toResponse(CommunityCommentEntity entity,
+                                                Integer currentUserId,
+                                                ReactionState reaction) {
 
         Long id = entity.getCommentId();
 
         boolean mine = (currentUserId != null) &&
                 entity.getUser().getId().equals(currentUserId);
 
-        long likeCount = getCount("community:comment:" + id + ":like:count");
-        long dislikeCount = getCount("community:comment:" + id + ":dislike:count");
-
-        boolean likedByMe = false;
-        boolean dislikedByMe = false;
-
-        if (currentUserId != null) {
-            likedByMe = Boolean.TRUE.equals(redis.opsForSet()
-                    .isMember("community:comment:" + id + ":like:users", currentUserId.toString()));
-
-            dislikedByMe = Boolean.TRUE.equals(redis.opsForSet()
-                    .isMember("community:comment:" + id + ":dislike:users", currentUserId.toString()));
-        }
-
         return CommunityCommentResponse.builder()
                 .commentId(id)
                 .postId(entity.getPost().getPostId())
@@ -189,11 +185,11 @@ public class CommunityCommentService {
                 .content(entity.getContent())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
-                .likeCount(likeCount)
-                .dislikeCount(dislikeCount)
+                .likeCount(reaction.likeCount())
+                .dislikeCount(reaction.dislikeCount())
                 .mine(mine)
-                .likedByMe(likedByMe)
-                .dislikedByMe(dislikedByMe)
+                .likedByMe(reaction.liked())
+                .dislikedByMe(reaction.disliked())
                 .replies(new ArrayList<>())
                 .avatarIcon(entity.getUser().getAvatarIcon())      // dto에 맞게 추가함
                 .profileFrame(entity.getUser().getProfileFrame())  // dto에 맞게 추가함
@@ -0,0 +1,87 @@
+package org.usyj.makgora.global.comment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 👍 댓글 목록 반응 일괄 조회기 (Redis 기반 댓글: 커뮤니티 / 투표)
+ *
+ * - 댓글 id 목록 + 유저 → 좋아요/싫어요 수 + 내 반응을 pipeline 1회로 조회
+ *     · 댓글당 GET 2 + SISMEMBER 2 를 한 번에 보내므로 왕복 횟수가 댓글 수와 무관
+ * - 도메인별 키 규칙은 KeyScheme 으로 주입
+ * - DB 기반 댓글(기사)은 ArticleCommentService 가 IN 쿼리로 같은 ReactionState 를 만든다
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentReactionResolver {
+
+    private final StringRedisTemplate redis;
+
+    public Map<Long, ReactionState> resolve(Collection<Long> commentIds, Integer userId, KeyScheme keys) {
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(commentIds));
+        if (ids.isEmpty()) return Map.of();
+
+        String member = userId != null ? userId.toString() : null;
+
+        List<Object> results = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long id : ids) {
+                conn.get(keys.likeCount().apply(id));
+                conn.get(keys.dislikeCount().apply(id));
+                if (member != null) {
+                    conn.sIsMember(keys.likeUsers().apply(id), member);
+                    conn.sIsMember(keys.dislikeUsers().apply(id), member);
+                }
+            }
+            return null;
+        });
+
+        int stride = member != null ? 4 : 2;
+        Map<Long, ReactionState> states = new HashMap<>(ids.size() * 2);
+
+        for (int i = 0; i < ids.size(); i++) {
+            int base = i * stride;
+            states.put(ids.get(i), new ReactionState(
+                    parseCount(results.get(base)),
+                    parseCount(results.get(base + 1)),
+                    member != null && Boolean.TRUE.equals(results.get(base + 2)),
+                    member != null && Boolean.TRUE.equals(results.get(base + 3))
+            ));
+        }
+        return states;
+    }
+
+    private long parseCount(Object value) {
+        if (value == null) return 0;
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 도메인별 Redis 키 규칙
+     * - likeCount / dislikeCount: 카운트 문자열 키
+     * - likeUsers / dislikeUsers: 반응한 유저 Set
+     */
+    public record KeyScheme(
+            Function<Long, String> likeCount,
+            Function<Long, String> dislikeCount,
+            Function<Long, String> likeUsers,
+            Function<Long, String> dislikeUsers
+    ) {}
+}
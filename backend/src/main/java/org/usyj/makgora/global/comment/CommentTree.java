@@ -0,0 +1,184 @@
+package org.usyj.makgora.global.comment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 🌳 댓글 트리 엔진 (투표 / 기사 / 커뮤니티 댓글 공용)
+ *
+ * - 대상(투표·기사·게시글)의 댓글 전체를 fetch join 쿼리 1회로 받아 메모리에서 조립
+ *     · id → 자식 목록 맵 1회 구성 (O(n)), 이후 getChildren() / getUser() 지연 로딩 없음
+ *     · 부모가 목록에 없는 댓글(하드 삭제 등)은 루트로 취급
+ * - 루트 스레드 페이지네이션 + 깊이 제한 렌더링
+ *     · maxDepth 아래 답글은 내려주지 않고 replyCount 만 → expand(id) 로 필요할 때 펼침
+ * - DTO 변환은 도메인별 NodeMapper 가 담당 (엔진은 엔티티 타입을 모름)
+ *
+ * @param <E> 댓글 엔티티 타입
+ */
+public final class CommentTree<E> {
+
+    /** 깊이 제한 없음 */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final Function<E, Long> idOf;
+    private final Map<Long, E> byId;
+    private final Map<Long, List<E>> childrenByParent;
+    private final List<E> roots;
+
+    private CommentTree(Function<E, Long> idOf,
+                        Map<Long, E> byId,
+                        Map<Long, List<E>> childrenByParent,
+                        List<E> roots) {
+        this.idOf = idOf;
+        this.byId = byId;
+        this.childrenByParent = childrenByParent;
+        this.roots = roots;
+    }
+
+    /**
+     * 트리 구성
+     * - rows 는 작성 시각 오름차순이어야 형제 순서가 유지된다
+     */
+    public static <E> CommentTree<E> of(List<E> rows,
+                                        Function<E, Long> idOf,
+                                        Function<E, Long> parentIdOf) {
+
+        Map<Long, E> byId = new HashMap<>(rows.size() * 2);
+        for (E row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+
+        Map<Long, List<E>> childrenByParent = new HashMap<>();
+        List<E> roots = new ArrayList<>();
+
+        for (E row : rows) {
+            Long parentId = parentIdOf.apply(row);
+            if (parentId == null || !byId.containsKey(parentId)) {
+                roots.add(row);
+            } else {
+                childrenByParent.computeIfAbsent(parentId, id -> new ArrayList<>()).add(row);
+            }
+        }
+
+        return new CommentTree<>(idOf, byId, childrenByParent, roots);
+    }
+
+    /* =========================================================
+       조회
+       ========================================================= */
+    public int size() {
+        return byId.size();
+    }
+
+    public int rootCount() {
+        return roots.size();
+    }
+
+    public Optional<E> find(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<E> children(Long id) {
+        return childrenByParent.getOrDefault(id, Collections.emptyList());
+    }
+
+    public List<E> roots() {
+        return Collections.unmodifiableList(roots);
+    }
+
+    /** 루트 스레드 한 페이지 (page 는 0부터) */
+    public List<E> roots(int page, int size) {
+        int from = (int) Math.min((long) page * size, roots.size());
+        int to = Math.min(from + size, roots.size());
+        return roots.subList(from, to);
+    }
+
+    /**
+     * 렌더링 대상 엔티티 평탄화 (루트 + maxDepth 까지의 답글)
+     * - 반응 수 / 내 반응 등을 DTO 변환 전에 일괄 조회할 때 사용
+     */
+    public List<E> flatten(List<E> nodes, int maxDepth) {
+        List<E> out = new ArrayList<>();
+        collect(nodes, 0, maxDepth, out);
+        return out;
+    }
+
+    private void collect(List<E> nodes, int depth, int maxDepth, List<E> out) {
+        for (E node : nodes) {
+            out.add(node);
+            if (depth < maxDepth) {
+                collect(children(idOf.apply(node)), depth + 1, maxDepth, out);
+            }
+        }
+    }
+
+    /* =========================================================
+       렌더링
+       ========================================================= */
+
+    /** 전체 트리 (깊이 제한 없음) */
+    public <R> List<R> render(NodeMapper<E, R> mapper) {
+        return render(roots, UNLIMITED, mapper);
+    }
+
+    /** 주어진 노드들을 maxDepth 까지 변환 (0 = 노드 자신만) */
+    public <R> List<R> render(List<E> nodes, int maxDepth, NodeMapper<E, R> mapper) {
+        return render(nodes, 0, maxDepth, mapper);
+    }
+
+    private <R> List<R> render(List<E> nodes, int depth, int maxDepth, NodeMapper<E, R> mapper) {
+        List<R> out = new ArrayList<>(nodes.size());
+        for (E node : nodes) {
+            List<E> kids = children(idOf.apply(node));
+            List<R> rendered = depth < maxDepth
+                    ? render(kids, depth + 1, maxDepth, mapper)
+                    : new ArrayList<>();
+            out.add(mapper.map(node, rendered, kids.size()));
+        }
+        return out;
+    }
+
+    /** 루트 스레드 페이지 */
+    public <R> CommentPage<R> page(int page, int size, int maxDepth, NodeMapper<E, R> mapper) {
+        List<R> content = render(roots(page, size), maxDepth, mapper);
+        return new CommentPage<>(
+                content,
+                page,
+                size,
+                roots.size(),
+                byId.size(),
+                (long) (page + 1) * size < roots.size()
+        );
+    }
+
+    /** 특정 댓글의 하위 스레드 펼치기 (댓글 자신 포함) */
+    public <R> Optional<R> expand(Long id, int maxDepth, NodeMapper<E, R> mapper) {
+        return find(id).map(node -> render(List.of(node), maxDepth, mapper).get(0));
+    }
+
+    /**
+     * 엔티티 → DTO 변환
+     *
+     * @param children   maxDepth 안에서 이미 변환된 자식들 (깊이 밖이면 빈 리스트)
+     * @param replyCount 직계 답글 수 (children 이 비어 있어도 펼칠 답글이 있는지 판단용)
+     */
+    @FunctionalInterface
+    public interface NodeMapper<E, R> {
+        R map(E entity, List<R> children, int replyCount);
+    }
+
+    /** 루트 스레드 페이지 응답 */
+    public record CommentPage<R>(
+            List<R> content,
+            int page,
+            int size,
+            int totalRoots,
+            int totalComments,
+            boolean hasNext
+    ) {}
+}
@@ -0,0 +1,13 @@
+package org.usyj.makgora.global.comment;
+
+/**
+ * 댓글 하나의 반응 상태 (수 + 조회 유저의 반응)
+ */
+public record ReactionState(
+        long likeCount,
+        long dislikeCount,
+        boolean liked,
+        boolean disliked
+) {
+    public static final ReactionState NONE = new ReactionState(0, 0, false, false);
+}
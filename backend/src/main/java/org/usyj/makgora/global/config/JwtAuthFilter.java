@@ -10,18 +10,16 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.usyj.makgora.global.security.JwtTokenProvider;
-import org.usyj.makgora.user.service.CustomUserDetailsService;
+import org.usyj.makgora.global.security.CustomUserDetails;
+import org.usyj.makgora.global.security.JwtPrincipalResolver;
 
 import java.io.IOException;
 
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final JwtPrincipalResolver principalResolver;
 
     /**
      * ============================================================
@@ -61,7 +59,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
      * 🔐 Access Token 인증 필터
      *
      * ✔ Access Token만 처리
-     * ✔ Refresh Token / jti / DB 조회 ❌
+     * ✔ 토큰 파싱 1회 → claims 로 인증 주체 생성 (JwtPrincipalResolver)
+     * ✔ Refresh Token / 요청당 DB 조회 ❌
      * ============================================================
      */
     @Override
@@ -75,14 +74,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                // 🔹 Access Token은 "서명 + 만료"만 검증
-                if (!jwtTokenProvider.validateToken(token)) {
-                    throw new RuntimeException("Invalid or Expired Access Token");
-                }
-
-                Integer userId = jwtTokenProvider.getUserId(token);
-                UserDetails userDetails =
-                        userDetailsService.loadUserById(userId);
+                // 🔹 "서명 + 만료" 검증과 claims 추출을 한 번에
+                CustomUserDetails userDetails = principalResolver.resolve(token);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
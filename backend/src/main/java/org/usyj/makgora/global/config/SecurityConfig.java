@@ -19,8 +19,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpMethod;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.usyj.makgora.global.security.JwtTokenProvider;
-import org.usyj.makgora.user.service.CustomUserDetailsService;
+import org.usyj.makgora.global.security.JwtPrincipalResolver;
 
 import java.util.Arrays;
 import java.util.List;
@@ -31,8 +30,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final JwtPrincipalResolver principalResolver;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -78,7 +76,7 @@ public class SecurityConfig {
 
             .logout(logout -> logout.disable())
             .addFilterBefore(
-                new JwtAuthFilter(jwtTokenProvider, userDetailsService),
+                new JwtAuthFilter(principalResolver),
                 UsernamePasswordAuthenticationFilter.class
             );
 
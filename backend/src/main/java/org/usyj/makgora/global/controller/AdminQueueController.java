@@ -0,0 +1,33 @@
+package org.usyj.makgora.global.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.usyj.makgora.global.queue.WorkQueue;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/queues")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+public class AdminQueueController {
+
+    private final WorkQueue workQueue;
+
+    /**
+     * 작업 큐 메트릭 (깊이 / pending / 지연 / 중복 제거 / 거절)
+     * GET /api/admin/queues/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<WorkQueue.QueueStats>> stats() {
+        return ResponseEntity.ok(List.of(
+                workQueue.stats(WorkQueue.ISSUE_TRIGGER_QUEUE),
+                workQueue.stats(WorkQueue.VOTE_TRIGGER_QUEUE)
+        ));
+    }
+}
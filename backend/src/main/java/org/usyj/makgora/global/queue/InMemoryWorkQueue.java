@@ -0,0 +1,199 @@
+package org.usyj.makgora.global.queue;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🧪 로컬 인메모리 작업 큐 (queue.type=memory)
+ *
+ * - Redis 없이 프로듀서 / 큐 깊이·지연 메트릭을 확인하기 위한 구현
+ * - 의미는 RedisStreamWorkQueue 와 동일: idempotency TTL, max-depth 거절, ack 전 pending 유지, idle reclaim
+ * - 단일 JVM 전용 (인스턴스 간 공유 안 됨, 재기동 시 비워짐)
+ */
+@Component
+@ConditionalOnProperty(name = "queue.type", havingValue = "memory")
+public class InMemoryWorkQueue implements WorkQueue {
+
+    @Value("${queue.max-depth:10000}")
+    private long maxDepth;
+
+    @Value("${queue.idempotency-ttl-sec:600}")
+    private long idempotencyTtlSec;
+
+    private final QueueCounters counters = new QueueCounters();
+    private final Map<String, LocalQueue> queues = new ConcurrentHashMap<>();
+
+    /* =========================================================
+       1️⃣ enqueue
+       ========================================================= */
+    @Override
+    public boolean enqueue(WorkMessage message) {
+        return enqueueAll(List.of(message)) == 1;
+    }
+
+    @Override
+    public int enqueueAll(List<WorkMessage> messages) {
+        int added = 0;
+        long now = System.currentTimeMillis();
+
+        for (WorkMessage m : messages) {
+            LocalQueue q = queue(m.queue());
+            QueueCounters.Counters c = counters.of(m.queue());
+
+            synchronized (q) {
+                if (q.idempotency.size() > maxDepth) q.expireIdempotency(now);
+
+                Long expiresAt = q.idempotency.get(m.idempotencyKey());
+                if (expiresAt != null && expiresAt > now) {
+                    c.deduplicated.increment();
+                    continue;
+                }
+                if (q.depth() >= maxDepth) {
+                    c.rejected.increment();
+                    continue;
+                }
+
+                q.idempotency.put(m.idempotencyKey(), now + idempotencyTtlSec * 1000);
+                q.ready.addLast(new Delivery(now + "-" + (q.seq++), m));
+                c.enqueued.increment();
+                added++;
+                q.notifyAll();
+            }
+        }
+        return added;
+    }
+
+    /* =========================================================
+       2️⃣ poll / ack / reclaim
+       ========================================================= */
+    @Override
+    public List<Delivery> poll(String queue, String consumer, int max, Duration block) {
+        LocalQueue q = queue(queue);
+        QueueCounters.Counters c = counters.of(queue);
+        long deadline = System.currentTimeMillis() + (block != null ? block.toMillis() : 0);
+
+        synchronized (q) {
+            while (q.ready.isEmpty()) {
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) return List.of();
+                try {
+                    q.wait(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return List.of();
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            List<Delivery> out = new ArrayList<>();
+            while (out.size() < max && !q.ready.isEmpty()) {
+                Delivery d = q.ready.pollFirst();
+                q.pending.put(d.id(), new InFlight(d, consumer, now));
+                c.delivered(d.message(), now);
+                out.add(d);
+            }
+            return out;
+        }
+    }
+
+    @Override
+    public void ack(String queue, Delivery delivery) {
+        LocalQueue q = queue(queue);
+        synchronized (q) {
+            if (q.pending.remove(delivery.id()) != null) {
+                counters.of(queue).acked.increment();
+            }
+        }
+    }
+
+    @Override
+    public List<Delivery> reclaim(String queue, String consumer, Duration minIdle, int max) {
+        LocalQueue q = queue(queue);
+        long now = System.currentTimeMillis();
+        List<Delivery> out = new ArrayList<>();
+
+        synchronized (q) {
+            for (Map.Entry<String, InFlight> e : q.pending.entrySet()) {
+                if (out.size() >= max) break;
+                InFlight f = e.getValue();
+                if (now - f.deliveredAt() >= minIdle.toMillis()) {
+                    e.setValue(new InFlight(f.delivery(), consumer, now));
+                    out.add(f.delivery());
+                }
+            }
+        }
+        return out;
+    }
+
+    /* =========================================================
+       3️⃣ 메트릭
+       ========================================================= */
+    @Override
+    public QueueStats stats(String queue) {
+        LocalQueue q = queue(queue);
+        QueueCounters.Counters c = counters.of(queue);
+        long now = System.currentTimeMillis();
+
+        synchronized (q) {
+            q.expireIdempotency(now);
+
+            long oldest = now;
+            for (InFlight f : q.pending.values()) {
+                oldest = Math.min(oldest, f.delivery().message().enqueuedAt());
+            }
+            if (!q.ready.isEmpty()) {
+                oldest = Math.min(oldest, q.ready.peekFirst().message().enqueuedAt());
+            }
+
+            return new QueueStats(
+                    queue,
+                    q.depth(),
+                    q.pending.size(),
+                    now - oldest,
+                    c.enqueued.sum(),
+                    c.deduplicated.sum(),
+                    c.rejected.sum(),
+                    c.acked.sum(),
+                    c.avgLatencyMs()
+            );
+        }
+    }
+
+    /* ======================= 내부 구조 ======================== */
+
+    private LocalQueue queue(String name) {
+        return queues.computeIfAbsent(name, n -> new LocalQueue());
+    }
+
+    private static final class LocalQueue {
+        final Deque<Delivery> ready = new ArrayDeque<>();
+        final Map<String, InFlight> pending = new LinkedHashMap<>();
+        final Map<String, Long> idempotency = new HashMap<>();
+        long seq;
+
+        long depth() {
+            return ready.size() + pending.size();
+        }
+
+        void expireIdempotency(long now) {
+            Iterator<Long> it = idempotency.values().iterator();
+            while (it.hasNext()) {
+                if (it.next() <= now) it.remove();
+            }
+        }
+    }
+
+    private record InFlight(Delivery delivery, String consumer, long deliveredAt) {}
+}
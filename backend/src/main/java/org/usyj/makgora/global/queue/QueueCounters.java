@@ -0,0 +1,36 @@
+package org.usyj.makgora.global.queue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 큐별 누적 메트릭 (구현체 공용)
+ */
+class QueueCounters {
+
+    private final Map<String, Counters> byQueue = new ConcurrentHashMap<>();
+
+    Counters of(String queue) {
+        return byQueue.computeIfAbsent(queue, q -> new Counters());
+    }
+
+    static final class Counters {
+        final LongAdder enqueued = new LongAdder();
+        final LongAdder deduplicated = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder acked = new LongAdder();
+        final LongAdder delivered = new LongAdder();
+        final LongAdder latencyTotalMs = new LongAdder();
+
+        void delivered(WorkMessage message, long now) {
+            delivered.increment();
+            latencyTotalMs.add(Math.max(0, now - message.enqueuedAt()));
+        }
+
+        long avgLatencyMs() {
+            long n = delivered.sum();
+            return n == 0 ? 0 : latencyTotalMs.sum() / n;
+        }
+    }
+}
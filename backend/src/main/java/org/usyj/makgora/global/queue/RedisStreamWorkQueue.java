@@ -0,0 +1,352 @@
+package org.usyj.makgora.global.queue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🔁 Redis Streams 기반 작업 큐 (queue.type=redis, 기본)
+ *
+ * - 스트림 키: queue:{큐이름}  (구버전 List 키와 분리 → WRONGTYPE 충돌 없음)
+ * - 컨슈머 그룹: XREADGROUP 으로 가져간 메시지는 XACK 전까지 PEL(pending) 에 남음
+ *   → 워커가 죽어도 유실 없이 reclaim(XCLAIM) 으로 회수
+ * - 중복 방지: queue:{큐이름}:idem:{idempotencyKey} 를 SET NX EX 로 선점한 메시지만 XADD
+ * - backpressure: XLEN 이 max-depth 에 도달하면 남은 메시지는 거절 (다음 평가 주기에 재시도)
+ * - 일괄 enqueue: 선점 SET / XADD 모두 pipeline 1회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.type", havingValue = "redis", matchIfMissing = true)
+public class RedisStreamWorkQueue implements WorkQueue {
+
+    private static final String STREAM_PREFIX = "queue:";
+
+    private final StringRedisTemplate redis;
+
+    @Value("${queue.consumer-group:workers}")
+    private String group;
+
+    @Value("${queue.max-depth:10000}")
+    private long maxDepth;
+
+    @Value("${queue.idempotency-ttl-sec:600}")
+    private long idempotencyTtlSec;
+
+    private final QueueCounters counters = new QueueCounters();
+
+    /** 컨슈머 그룹 생성 완료된 스트림 */
+    private final Set<String> groupReady = ConcurrentHashMap.newKeySet();
+
+    /* =========================================================
+       1️⃣ enqueue
+       ========================================================= */
+    @Override
+    public boolean enqueue(WorkMessage message) {
+        return enqueueAll(List.of(message)) == 1;
+    }
+
+    @Override
+    public int enqueueAll(List<WorkMessage> messages) {
+        if (messages.isEmpty()) return 0;
+
+        Map<String, List<WorkMessage>> byQueue = messages.stream()
+                .collect(Collectors.groupingBy(WorkMessage::queue, LinkedHashMap::new, Collectors.toList()));
+        if (byQueue.size() > 1) {
+            return byQueue.values().stream().mapToInt(this::enqueueAll).sum();
+        }
+
+        String queue = messages.get(0).queue();
+        String stream = streamKey(queue);
+        QueueCounters.Counters c = counters.of(queue);
+        ensureGroup(stream);
+
+        // 1) backpressure: 남은 용량만큼만 받는다
+        Long size = redis.opsForStream().size(stream);
+        long capacity = maxDepth - (size != null ? size : 0);
+        if (capacity <= 0) {
+            c.rejected.add(messages.size());
+            log.warn("[WorkQueue] {} 가득 참 depth={} → {}건 거절", queue, size, messages.size());
+            return 0;
+        }
+
+        // 2) 중복 제거: idempotency 키 선점 (pipeline)
+        Expiration ttl = Expiration.from(Duration.ofSeconds(idempotencyTtlSec));
+        List<Object> acquired = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (WorkMessage m : messages) {
+                conn.set(idemKey(m), "1", ttl, SetOption.ifAbsent());
+            }
+            return null;
+        });
+
+        List<WorkMessage> accepted = new ArrayList<>();
+        List<WorkMessage> overflow = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (!Boolean.TRUE.equals(acquired.get(i))) {
+                c.deduplicated.increment();
+            } else if (accepted.size() < capacity) {
+                accepted.add(messages.get(i));
+            } else {
+                overflow.add(messages.get(i));
+            }
+        }
+
+        // 용량 초과분은 선점 해제 → 다음 시도에서 다시 들어올 수 있게
+        if (!overflow.isEmpty()) {
+            redis.delete(overflow.stream().map(this::idemKey).toList());
+            c.rejected.add(overflow.size());
+            log.warn("[WorkQueue] {} 용량 초과 → {}건 거절", queue, overflow.size());
+        }
+        if (accepted.isEmpty()) return 0;
+
+        // 3) XADD (pipeline)
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (WorkMessage m : accepted) {
+                    conn.xAdd(stream, m.toFields());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 실패 시 선점 해제 (TTL 동안 막히지 않도록)
+            redis.delete(accepted.stream().map(this::idemKey).toList());
+            throw e;
+        }
+
+        c.enqueued.add(accepted.size());
+        return accepted.size();
+    }
+
+    /* =========================================================
+       2️⃣ poll / ack / reclaim
+       ========================================================= */
+    @Override
+    public List<Delivery> poll(String queue, String consumer, int max, Duration block) {
+        String stream = streamKey(queue);
+        ensureGroup(stream);
+
+        StreamReadOptions options = StreamReadOptions.empty().count(max);
+        if (block != null && !block.isZero()) {
+            options = options.block(block);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<MapRecord<String, Object, Object>> records = redis.opsForStream().read(
+                Consumer.from(group, consumer),
+                options,
+                StreamOffset.create(stream, ReadOffset.lastConsumed()));
+
+        return toDeliveries(queue, records);
+    }
+
+    @Override
+    public void ack(String queue, Delivery delivery) {
+        String stream = streamKey(queue);
+        RecordId id = RecordId.of(delivery.id());
+
+        redis.opsForStream().acknowledge(stream, group, id);
+        redis.opsForStream().delete(stream, id);   // 처리 완료 항목은 스트림에서도 제거 → XLEN = 깊이
+        counters.of(queue).acked.increment();
+    }
+
+    @Override
+    public List<Delivery> reclaim(String queue, String consumer, Duration minIdle, int max) {
+        String stream = streamKey(queue);
+        ensureGroup(stream);
+
+        PendingMessages pending = redis.opsForStream().pending(stream, group, Range.unbounded(), max);
+        List<RecordId> idle = new ArrayList<>();
+        for (PendingMessage p : pending) {
+            if (p.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                idle.add(p.getId());
+            }
+        }
+        if (idle.isEmpty()) return List.of();
+
+        List<MapRecord<String, Object, Object>> claimed = redis.opsForStream().claim(
+                stream, group, consumer, minIdle, idle.toArray(RecordId[]::new));
+
+        if (!claimed.isEmpty()) {
+            log.info("[WorkQueue] {} pending {}건 회수 → {}", queue, claimed.size(), consumer);
+        }
+        return toDeliveries(queue, claimed);
+    }
+
+    /* =========================================================
+       3️⃣ 메트릭
+       ========================================================= */
+    @Override
+    public QueueStats stats(String queue) {
+        String stream = streamKey(queue);
+        QueueCounters.Counters c = counters.of(queue);
+
+        Long depth = redis.opsForStream().size(stream);
+        long pendingCount = 0;
+        long oldestAgeMs = 0;
+
+        if (depth != null && depth > 0) {
+            ensureGroup(stream);
+            PendingMessagesSummary summary = redis.opsForStream().pending(stream, group);
+            pendingCount = summary != null ? summary.getTotalPendingMessages() : 0;
+
+            // 스트림 ID 앞부분 = 추가 시각(ms)
+            List<MapRecord<String, Object, Object>> head = redis.opsForStream()
+                    .range(stream, Range.unbounded(), Limit.limit().count(1));
+            if (head != null && !head.isEmpty()) {
+                oldestAgeMs = Math.max(0, System.currentTimeMillis() - head.get(0).getId().getTimestamp());
+            }
+        }
+
+        return new QueueStats(
+                queue,
+                depth != null ? depth : 0,
+                pendingCount,
+                oldestAgeMs,
+                c.enqueued.sum(),
+                c.deduplicated.sum(),
+                c.rejected.sum(),
+                c.acked.sum(),
+                c.avgLatencyMs()
+        );
+    }
+
+    /* =========================================================
+       4️⃣ 구버전 List 큐 이관 (기동 시 1회)
+       - 배포 직전 LPUSH 된 "article:12" 형식 항목을 스트림으로 옮긴다
+       - 한 건씩: 꼬리 조회(LINDEX) → enqueue → 성공/중복일 때만 LREM
+         → enqueue 실패 / 용량 부족이면 남은 항목은 List 에 그대로 둔다 (다음 기동 시 재시도)
+       - 파싱 불가 항목은 {큐이름}:invalid 로 옮겨 보관
+       ========================================================= */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyLists() {
+        for (String queue : List.of(ISSUE_TRIGGER_QUEUE, VOTE_TRIGGER_QUEUE)) {
+            int moved = 0;
+            try {
+                if (redis.type(queue) != DataType.LIST) continue;
+
+                String payload;
+                while ((payload = redis.opsForList().index(queue, -1)) != null) {
+
+                    WorkMessage message;
+                    try {
+                        message = WorkMessage.parse(queue, payload);
+                    } catch (IllegalArgumentException e) {
+                        log.warn("[WorkQueue] 구버전 항목 파싱 불가 → {}:invalid 보관 {}", queue, payload);
+                        redis.opsForList().leftPush(queue + ":invalid", payload);
+                        redis.opsForList().remove(queue, -1, payload);
+                        continue;
+                    }
+
+                    Long depth = redis.opsForStream().size(streamKey(queue));
+                    if (depth != null && depth >= maxDepth) {
+                        log.warn("[WorkQueue] 구버전 List 이관 중단 (스트림 가득 참) {} → 남은 {}건 보존",
+                                queue, redis.opsForList().size(queue));
+                        break;
+                    }
+
+                    if (enqueue(message)) {
+                        moved++;
+                    } else if (!Boolean.TRUE.equals(redis.hasKey(idemKey(message)))) {
+                        // 선점 키가 없으면 중복이 아니라 용량 거절 → 보존하고 중단
+                        log.warn("[WorkQueue] 구버전 List 이관 중단 (거절) {} → 남은 {}건 보존",
+                                queue, redis.opsForList().size(queue));
+                        break;
+                    }
+                    // 이관 완료 또는 이미 들어있는 중복 → 제거
+                    redis.opsForList().remove(queue, -1, payload);
+                }
+
+                log.info("[WorkQueue] 구버전 List 이관 {} → {}건", queue, moved);
+            } catch (Exception e) {
+                log.error("[WorkQueue] 구버전 List 이관 실패 queue={} moved={} (남은 항목은 List 에 보존)",
+                        queue, moved, e);
+            }
+        }
+    }
+
+    /* ======================= 내부 유틸 ======================== */
+
+    private void ensureGroup(String stream) {
+        if (groupReady.contains(stream)) return;
+
+        try {
+            // XGROUP CREATE ... MKSTREAM
+            redis.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    redis.getStringSerializer().serialize(stream), group, ReadOffset.from("0"), true));
+        } catch (RuntimeException e) {
+            if (!isBusyGroup(e)) throw e;
+        }
+        groupReady.add(stream);
+    }
+
+    /** BUSYGROUP: 그룹이 이미 존재 (드라이버 예외가 감싸져 올라옴) */
+    private boolean isBusyGroup(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("BUSYGROUP")) return true;
+        }
+        return false;
+    }
+
+    private List<Delivery> toDeliveries(String queue, List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) return List.of();
+
+        long now = System.currentTimeMillis();
+        QueueCounters.Counters c = counters.of(queue);
+        List<Delivery> deliveries = new ArrayList<>(records.size());
+
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<String, String> fields = new HashMap<>();
+            record.getValue().forEach((k, v) -> fields.put(String.valueOf(k), String.valueOf(v)));
+
+            WorkMessage message = fields.containsKey("type")
+                    ? WorkMessage.fromFields(queue, fields)
+                    : WorkMessage.parse(queue, fields.get("payload"));
+
+            c.delivered(message, now);
+            deliveries.add(new Delivery(record.getId().getValue(), message));
+        }
+        return deliveries;
+    }
+
+    private String streamKey(String queue) {
+        return STREAM_PREFIX + queue;
+    }
+
+    private String idemKey(WorkMessage message) {
+        return STREAM_PREFIX + message.queue() + ":idem:" + message.idempotencyKey();
+    }
+}
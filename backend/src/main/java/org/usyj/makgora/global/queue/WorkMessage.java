@@ -0,0 +1,61 @@
+package org.usyj.makgora.global.queue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 작업 큐 메시지
+ *
+ * @param queue          논리 큐 이름 (ISSUE_TRIGGER_QUEUE / VOTE_TRIGGER_QUEUE)
+ * @param type           작업 타입
+ * @param targetId       대상 ID (articleId, postId, issueId)
+ * @param idempotencyKey 중복 enqueue 방지 키 (기본: payload)
+ * @param enqueuedAt     enqueue 시각 (epoch ms, 지연 측정용)
+ */
+public record WorkMessage(
+        String queue,
+        WorkType type,
+        String targetId,
+        String idempotencyKey,
+        long enqueuedAt
+) {
+
+    public static WorkMessage of(String queue, WorkType type, Object targetId) {
+        String id = String.valueOf(targetId);
+        return new WorkMessage(queue, type, id, type.prefix() + ":" + id, System.currentTimeMillis());
+    }
+
+    /** 구버전 List 큐 payload ("article:12") → 메시지 */
+    public static WorkMessage parse(String queue, String payload) {
+        int idx = payload.indexOf(':');
+        if (idx <= 0) {
+            throw new IllegalArgumentException("잘못된 payload: " + payload);
+        }
+        return of(queue, WorkType.fromPrefix(payload.substring(0, idx)), payload.substring(idx + 1));
+    }
+
+    /** 워커 호환 payload ("article:12") */
+    public String payload() {
+        return type.prefix() + ":" + targetId;
+    }
+
+    Map<String, String> toFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("payload", payload());
+        fields.put("type", type.prefix());
+        fields.put("id", targetId);
+        fields.put("idempotencyKey", idempotencyKey);
+        fields.put("enqueuedAt", String.valueOf(enqueuedAt));
+        return fields;
+    }
+
+    static WorkMessage fromFields(String queue, Map<String, String> fields) {
+        return new WorkMessage(
+                queue,
+                WorkType.fromPrefix(fields.get("type")),
+                fields.get("id"),
+                fields.get("idempotencyKey"),
+                Long.parseLong(fields.getOrDefault("enqueuedAt", "0"))
+        );
+    }
+}
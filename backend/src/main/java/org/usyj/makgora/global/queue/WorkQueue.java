@@ -0,0 +1,55 @@
+package org.usyj.makgora.global.queue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 🔁 신뢰성 있는 작업 큐
+ *
+ * - enqueue: idempotencyKey 기준 중복 제거, 큐 깊이 상한(backpressure) 초과 시 거절
+ * - poll → ack: 컨슈머 그룹 방식, ack 전까지 pending 으로 남아 장애 시 유실 없음
+ * - reclaim: 일정 시간 이상 ack 되지 않은 pending 메시지를 다른 컨슈머가 회수
+ *
+ * 구현: RedisStreamWorkQueue (queue.type=redis, 기본) / InMemoryWorkQueue (queue.type=memory)
+ */
+public interface WorkQueue {
+
+    String ISSUE_TRIGGER_QUEUE = "ISSUE_TRIGGER_QUEUE";
+    String VOTE_TRIGGER_QUEUE = "VOTE_TRIGGER_QUEUE";
+
+    /** @return 실제로 enqueue 되었으면 true (중복 / 상한 초과면 false) */
+    boolean enqueue(WorkMessage message);
+
+    /** 같은 큐의 메시지 일괄 enqueue, @return enqueue 된 건수 */
+    int enqueueAll(List<WorkMessage> messages);
+
+    List<Delivery> poll(String queue, String consumer, int max, Duration block);
+
+    void ack(String queue, Delivery delivery);
+
+    List<Delivery> reclaim(String queue, String consumer, Duration minIdle, int max);
+
+    QueueStats stats(String queue);
+
+    /** 컨슈머에게 전달된 메시지 (id = 큐 내부 식별자, ack 시 사용) */
+    record Delivery(String id, WorkMessage message) {}
+
+    /**
+     * 큐 메트릭
+     * @param depth         큐에 남은 메시지 수 (pending 포함)
+     * @param pending       전달됐지만 ack 되지 않은 수
+     * @param oldestAgeMs   가장 오래된 메시지의 대기 시간
+     * @param avgLatencyMs  enqueue → poll 평균 지연 (이 인스턴스에서 poll 한 메시지 기준)
+     */
+    record QueueStats(
+            String queue,
+            long depth,
+            long pending,
+            long oldestAgeMs,
+            long enqueued,
+            long deduplicated,
+            long rejected,
+            long acked,
+            long avgLatencyMs
+    ) {}
+}
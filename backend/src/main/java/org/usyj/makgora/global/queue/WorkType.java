@@ -0,0 +1,30 @@
+package org.usyj.makgora.global.queue;
+
+/**
+ * 작업 큐 메시지 타입
+ * - prefix 는 Python 워커가 파싱하는 payload 형식("article:12") 과 동일
+ */
+public enum WorkType {
+
+    ARTICLE("article"),           // 기사 → 이슈 생성
+    COMMUNITY("cp"),              // 커뮤니티 글 → 이슈 생성
+    ISSUE_APPROVE("issueApprove"),// 승인된 이슈 → 투표 생성
+    ISSUE_VOTE("issue");          // 승인된 이슈 → 투표 생성 (VOTE_TRIGGER_QUEUE)
+
+    private final String prefix;
+
+    WorkType(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String prefix() {
+        return prefix;
+    }
+
+    public static WorkType fromPrefix(String prefix) {
+        for (WorkType type : values()) {
+            if (type.prefix.equals(prefix)) return type;
+        }
+        throw new IllegalArgumentException("알 수 없는 작업 타입: " + prefix);
+    }
+}
@@ -1,6 +1,5 @@
 package org.usyj.makgora.global.security;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.*;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,30 +7,71 @@ import org.usyj.makgora.user.entity.UserEntity;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
-@RequiredArgsConstructor
+/**
+ * 인증 주체
+ * - 로그인: UserEntity 로 생성
+ * - JWT 요청: 토큰 claims(id / role / nickname) 로 생성, UserEntity 는 getUser() 호출 시에만 조회
+ */
 public class CustomUserDetails implements UserDetails {
 
-  private final UserEntity user;
+  private final Integer id;
+  private final UserEntity.Role role;
+  private final String nickname;
+  private final Supplier<UserEntity> loader;
 
-  // ⭐ 추가
+  private volatile UserEntity user;
+
+  public CustomUserDetails(UserEntity user) {
+    this.id = user.getId();
+    this.role = user.getRole();
+    this.nickname = user.getNickname();
+    this.loader = () -> user;
+    this.user = user;
+  }
+
+  private CustomUserDetails(Integer id, UserEntity.Role role, String nickname, Supplier<UserEntity> loader) {
+    this.id = id;
+    this.role = role;
+    this.nickname = nickname;
+    this.loader = loader;
+  }
+
+  /** 토큰 claims 기반 (DB 조회 없음) */
+  public static CustomUserDetails fromClaims(Integer id, UserEntity.Role role, String nickname,
+                                             Supplier<UserEntity> loader) {
+    return new CustomUserDetails(id, role, nickname, loader);
+  }
+
+  // ⭐ 추가 (claims 기반이면 최초 호출 시 1회 조회)
   public UserEntity getUser() {
-    return this.user;
+    UserEntity loaded = user;
+    if (loaded == null) {
+      synchronized (this) {
+        if (user == null) {
+          user = loader.get();
+        }
+        loaded = user;
+      }
+    }
+    return loaded;
   }
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+    return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
   }
 
   @Override
   public String getPassword() {
-    return user.getPassword();
+    // claims 기반 주체는 비밀번호가 필요 없다 (인증은 토큰으로 끝남)
+    return user != null ? user.getPassword() : null;
   }
 
   @Override
   public String getUsername() {
-    return user.getLoginId();
+    return user != null ? user.getLoginId() : String.valueOf(id);
   }
 
   @Override
@@ -51,10 +91,19 @@ public class CustomUserDetails implements UserDetails {
 
   @Override
   public boolean isEnabled() {
-    return user.getStatus() == UserEntity.Status.ACTIVE;
+    // claims 기반: 상태 변경 시 JwtPrincipalResolver 가 DB 재검증 경로로 보낸다
+    return user == null || user.getStatus() == UserEntity.Status.ACTIVE;
   }
 
   public Integer getId() {
-    return user.getId();
+    return id;
+  }
+
+  public UserEntity.Role getRole() {
+    return role;
+  }
+
+  public String getNickname() {
+    return nickname;
   }
 }
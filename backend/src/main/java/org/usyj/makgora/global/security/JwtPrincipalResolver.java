@@ -0,0 +1,195 @@
+package org.usyj.makgora.global.security;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.usyj.makgora.user.entity.UserEntity;
+import org.usyj.makgora.user.event.UserAuthChangedEvent;
+import org.usyj.makgora.user.repository.UserRepository;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🔐 Access Token → 인증 주체(CustomUserDetails) 변환
+ *
+ * - 토큰 파싱은 1회 (서명 + 만료 검증 + claims 추출)
+ * - 주체는 claims(id / role / nickname) 로 생성 → 요청마다 users 조회 없음
+ *     · UserEntity 가 필요한 경로(getUser())만 최초 1회 조회
+ * - jti 기준 소용량 TTL 캐시 (LRU, max-size / ttl-sec, 토큰 만료를 넘지 않음)
+ *     · 같은 토큰의 다음 요청은 파싱 후 캐시 주체를 그대로 사용 → getUser() 도 재조회 없음
+ * - role / status 변경(UserAuthChangedEvent) 시
+ *     · 해당 유저 캐시 제거
+ *     · 변경 이전에 발급된 토큰은 만료될 때까지 DB 재검증 (현재 role, ACTIVE 여부)
+ *
+ * ※ 캐시 / 변경 기록은 인스턴스 로컬. 다중 인스턴스에서 다른 노드의 변경은 ttl-sec 이내에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtPrincipalResolver {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.principal-cache.ttl-sec:120}")
+    private long ttlSec;
+
+    /** jti → 캐시 항목 (접근 순서 LRU) */
+    private final Map<String, CachedPrincipal> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /** userId → role/status 변경 시각(ms). 이 시각 이전 발급 토큰은 DB 재검증 */
+    private final Map<Integer, Long> authChangedAt = new ConcurrentHashMap<>();
+
+    /* =========================================================
+       1️⃣ 토큰 → 주체
+       ========================================================= */
+
+    /**
+     * @throws JwtException             서명 / 만료 / 형식 오류
+     * @throws DisabledException        비활성 계정 (role/status 변경 이후 토큰)
+     * @throws UsernameNotFoundException 삭제된 유저
+     */
+    public CustomUserDetails resolve(String token) {
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+
+        Integer userId = JwtTokenProvider.toUserId(claims);
+        if (userId == null) {
+            throw new JwtException("id claim 없음");
+        }
+
+        String key = cacheKey(claims, token);
+        long now = System.currentTimeMillis();
+
+        CachedPrincipal cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.principal();
+        }
+
+        long expiresAt = now + ttlSec * 1000;
+        Date exp = claims.getExpiration();
+        if (exp != null) expiresAt = Math.min(expiresAt, exp.getTime());
+
+        while (true) {
+            // 판단 시점의 변경 기록 → put 직전에 캐시 lock 아래에서 다시 비교
+            Long seenChangedAt = authChangedAt.get(userId);
+
+            CustomUserDetails principal = requiresDbCheck(userId, claims, now)
+                    ? loadFromDb(userId)
+                    : fromClaims(userId, claims);
+
+            synchronized (cache) {
+                // 그 사이 invalidateUser 가 끼어들었으면 캐시하지 않고 다시 판단 (DB 재검증 경로로)
+                if (Objects.equals(authChangedAt.get(userId), seenChangedAt)) {
+                    cache.put(key, new CachedPrincipal(userId, principal, expiresAt));
+                    return principal;
+                }
+            }
+        }
+    }
+
+    private CustomUserDetails fromClaims(Integer userId, Claims claims) {
+        return CustomUserDetails.fromClaims(
+                userId,
+                UserEntity.Role.valueOf((String) claims.get("role")),
+                (String) claims.get("nickname"),
+                () -> userRepository.findById(userId)
+                        .orElseThrow(() -> new UsernameNotFoundException("사용자 없음 ID: " + userId))
+        );
+    }
+
+    private CustomUserDetails loadFromDb(Integer userId) {
+        UserEntity user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자 없음 ID: " + userId));
+
+        if (user.getStatus() != UserEntity.Status.ACTIVE) {
+            throw new DisabledException("비활성 계정 ID: " + userId);
+        }
+        return new CustomUserDetails(user);
+    }
+
+    /** role claim 이 없거나(구버전 토큰), 토큰 발급 이후 role/status 가 바뀐 경우 */
+    private boolean requiresDbCheck(Integer userId, Claims claims, long now) {
+
+        Object role = claims.get("role");
+        if (!(role instanceof String r) || !isRole(r)) return true;
+
+        Long changedAt = authChangedAt.get(userId);
+        if (changedAt == null) return false;
+
+        // 변경 이전 발급 토큰이 모두 만료됐으면 기록 정리
+        if (changedAt + jwtTokenProvider.getAccessTokenExpireMs() < now) {
+            authChangedAt.remove(userId, changedAt);
+            return false;
+        }
+
+        Date issuedAt = claims.getIssuedAt();
+        // iat 는 초 단위 → 같은 초에 발급된 토큰도 재검증
+        return issuedAt == null || issuedAt.getTime() <= changedAt;
+    }
+
+    private boolean isRole(String role) {
+        for (UserEntity.Role r : UserEntity.Role.values()) {
+            if (r.name().equals(role)) return true;
+        }
+        return false;
+    }
+
+    /** jti 가 없는 구버전 토큰은 서명부를 키로 사용 */
+    private String cacheKey(Claims claims, String token) {
+        Object jti = claims.get("jti");
+        return jti != null ? jti.toString() : token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    /* =========================================================
+       2️⃣ 무효화
+       ========================================================= */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAuthChanged(UserAuthChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    public void invalidateUser(Integer userId) {
+
+        int removed = 0;
+        synchronized (cache) {
+            // 기록 + 제거를 같은 lock 아래에서 → resolve 의 재확인과 원자적
+            // 같은 ms 에 연속 변경돼도 값이 달라지도록 단조 증가
+            authChangedAt.merge(userId, System.currentTimeMillis(), (prev, now) -> Math.max(prev + 1, now));
+
+            Iterator<CachedPrincipal> it = cache.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().userId().equals(userId)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        log.info("[JwtPrincipal] 유저 {} 권한/상태 변경 → 캐시 {}건 제거", userId, removed);
+    }
+
+    private record CachedPrincipal(Integer userId, CustomUserDetails principal, long expiresAt) {}
+}
@@ -2,6 +2,7 @@ package org.usyj.makgora.global.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,12 +27,25 @@ public class JwtTokenProvider {
     private final long accessTokenExpire = 1000L * 60 * 60;            // 1시간
     private final long refreshTokenExpire = 1000L * 60 * 60 * 24 * 14; // 14일
 
+    // 서명 키 / 파서는 불변 → 기동 시 1회 생성 (요청마다 만들지 않음)
+    private Key signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     // -------------------------------------------------------------
     // ⭐ SecretKey를 Key 객체로 변환
     // -------------------------------------------------------------
     private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
+    }
+
+    public long getAccessTokenExpireMs() {
+        return accessTokenExpire;
     }
 
     // =============================================================
@@ -43,6 +57,7 @@ public class JwtTokenProvider {
         claims.put("id", id);
         claims.put("role", role);
         claims.put("nickname", nickname);
+        claims.put("jti", UUID.randomUUID().toString()); // 인증 주체 캐시 키 (JwtPrincipalResolver)
 
         Date now = new Date();
 
@@ -122,10 +137,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
 
         } catch (ExpiredJwtException e) {
@@ -140,21 +152,29 @@ public class JwtTokenProvider {
     // ⭐ Claims 추출
     // -------------------------------------------------------------
     public Integer getUserId(String token) {
-        Object id = getClaims(token).get("id");
-        if (id instanceof Integer) return (Integer) id;
-        if (id instanceof Long) return ((Long) id).intValue();
-        return null;
+        return toUserId(getClaims(token));
     }
 
     public String getJti(String token) {
         return (String) getClaims(token).get("jti");
     }
 
+    /**
+     * 서명 + 만료 검증과 Claims 추출을 한 번에 (파싱 1회)
+     * - 실패 시 JwtException / IllegalArgumentException
+     */
+    public Claims parseClaims(String token) {
+        return getClaims(token);
+    }
+
+    public static Integer toUserId(Claims claims) {
+        Object id = claims.get("id");
+        if (id instanceof Integer) return (Integer) id;
+        if (id instanceof Long) return ((Long) id).intValue();
+        return null;
+    }
+
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
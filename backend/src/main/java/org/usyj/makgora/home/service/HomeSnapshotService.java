@@ -0,0 +1,205 @@
+package org.usyj.makgora.home.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.usyj.makgora.article.event.ArticlesCollectedEvent;
+import org.usyj.makgora.article.repository.ArticleAiTitleRepository;
+import org.usyj.makgora.home.dto.response.HomeResponse;
+import org.usyj.makgora.home.dto.response.HotIssueResponse;
+import org.usyj.makgora.home.dto.response.SlideNewsResponse;
+import org.usyj.makgora.home.dto.response.VoteListResponse;
+import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
+import org.usyj.makgora.vote.entity.VoteEntity;
+import org.usyj.makgora.vote.event.VoteDetailChangedEvent;
+import org.usyj.makgora.vote.repository.VoteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🏠 홈 화면 스냅샷
+ *
+ * - 슬라이드 / 핫 이슈 / 최신 이슈 / 인기 투표를 백그라운드에서 미리 만들어 두고
+ *   요청은 volatile 참조만 읽는다 (요청당 DB 작업 0)
+ * - 재구성 시점
+ *     · 기사 수집 / 투표 상태·참여 이벤트 → stale 표시 후 다음 점검 주기에 재구성 (이벤트 폭주 시 합쳐짐)
+ *     · AI 제목처럼 이벤트가 없는 변경 → 최대 refresh-ms 마다 주기 재구성
+ * - 재구성 쿼리: 인덱스 기반 top-N 3회 + AI 제목 IN 1회 + 카테고리 IN 1회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeSnapshotService {
+
+    private static final int SLIDE_LIMIT = 10;
+    private static final int HOT_LIMIT = 20;
+    private static final int LATEST_LIMIT = 20;
+    private static final int VOTE_LIMIT = 10;
+
+    private final RssArticleRepository articleRepository;
+    private final ArticleAiTitleRepository aiTitleRepository;
+    private final VoteRepository voteRepository;
+
+    @Value("${home.snapshot.refresh-ms:60000}")
+    private long refreshMs;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    /* =========================================================
+       1️⃣ 조회 (스냅샷 그대로 반환)
+       ========================================================= */
+    public HomeResponse getHomeData() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 기동 직후 첫 요청만 동기 구성
+            current = rebuild();
+        }
+        return current.response();
+    }
+
+    /* =========================================================
+       2️⃣ 재구성 트리거
+       ========================================================= */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesCollected(ArticlesCollectedEvent event) {
+        stale.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteChanged(VoteDetailChangedEvent event) {
+        if (event.reason() != VoteDetailChangedEvent.Reason.COMMENT) {
+            stale.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${home.snapshot.check-ms:5000}")
+    public void refreshIfNeeded() {
+        Snapshot current = snapshot;
+        boolean expired = current == null
+                || current.builtAt().isBefore(LocalDateTime.now().minus(Duration.ofMillis(refreshMs)));
+
+        if (stale.get() || expired) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                // 실패 시 이전 스냅샷을 계속 서빙하고 다음 주기에 재시도
+                stale.set(true);
+                log.error("[HomeSnapshot] 재구성 실패 → 이전 스냅샷 유지", e);
+            }
+        }
+    }
+
+    /* =========================================================
+       3️⃣ 스냅샷 구성
+       ========================================================= */
+    public synchronized Snapshot rebuild() {
+
+        // stale 은 조회 전에 내려야 구성 중 들어온 이벤트가 유실되지 않는다
+        stale.set(false);
+
+        List<Object[]> withThumbnail = articleRepository.findLatestCardsWithThumbnail(PageRequest.of(0, HOT_LIMIT));
+        List<Object[]> latest = articleRepository.findLatestCards(PageRequest.of(0, LATEST_LIMIT));
+        List<Object[]> votes = voteRepository.findTopByParticipants(PageRequest.of(0, VOTE_LIMIT));
+
+        Set<Integer> articleIds = new LinkedHashSet<>();
+        withThumbnail.forEach(row -> articleIds.add((Integer) row[0]));
+        latest.forEach(row -> articleIds.add((Integer) row[0]));
+
+        Map<Integer, String> aiTitles = new HashMap<>();
+        Map<Integer, List<String>> categories = new HashMap<>();
+
+        if (!articleIds.isEmpty()) {
+            for (Object[] row : aiTitleRepository.findTitlesByArticleIds(articleIds)) {
+                aiTitles.put((Integer) row[0], (String) row[1]);
+            }
+            for (Object[] row : articleRepository.findCategoryNamesByArticleIds(articleIds)) {
+                categories.computeIfAbsent((Integer) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        List<SlideNewsResponse> newsSlides = withThumbnail.stream()
+                .limit(SLIDE_LIMIT)
+                .map(row -> SlideNewsResponse.builder()
+                        .articleId((Integer) row[0])
+                        .aiTitle(aiTitles.getOrDefault((Integer) row[0], (String) row[1]))
+                        .thumbnail((String) row[2])
+                        .publishedAt((LocalDateTime) row[3])
+                        .build())
+                .toList();
+
+        List<HotIssueResponse> hotIssues = withThumbnail.stream()
+                .map(row -> toIssue(row, aiTitles, categories))
+                .toList();
+
+        List<HotIssueResponse> latestIssues = latest.stream()
+                .map(row -> toIssue(row, aiTitles, categories))
+                .toList();
+
+        List<VoteListResponse> voteList = votes.stream()
+                .map(row -> VoteListResponse.builder()
+                        .voteId((Integer) row[0])
+                        .title((String) row[1])
+                        .status(((VoteEntity.Status) row[2]).name())
+                        .endAt((LocalDateTime) row[3])
+                        .totalPoints((Integer) row[4])
+                        .totalParticipants((Integer) row[5])
+                        .build())
+                .toList();
+
+        Snapshot built = new Snapshot(
+                HomeResponse.builder()
+                        .newsSlides(newsSlides)
+                        .hotIssues(hotIssues)
+                        .latestIssues(latestIssues)
+                        .voteList(voteList)
+                        .build(),
+                LocalDateTime.now()
+        );
+
+        snapshot = built;
+        log.debug("[HomeSnapshot] 재구성 완료 articles={} votes={}", articleIds.size(), voteList.size());
+        return built;
+    }
+
+    private HotIssueResponse toIssue(Object[] row,
+                                     Map<Integer, String> aiTitles,
+                                     Map<Integer, List<String>> categories) {
+        Integer articleId = (Integer) row[0];
+        String title = (String) row[1];
+
+        return HotIssueResponse.builder()
+                .id(articleId)
+                .articleId(articleId)
+                .title(title)
+                .aiTitle(aiTitles.getOrDefault(articleId, title))
+                .thumbnail((String) row[2])
+                .publishedAt((LocalDateTime) row[3])
+                .categories(List.copyOf(categories.getOrDefault(articleId, List.of())))
+                .build();
+    }
+
+    /** 한 번 게시되면 바뀌지 않는 홈 응답 (리스트는 모두 불변) */
+    public record Snapshot(HomeResponse response, LocalDateTime builtAt) {}
+}
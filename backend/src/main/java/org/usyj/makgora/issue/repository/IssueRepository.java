@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.usyj.makgora.issue.entity.IssueEntity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +36,20 @@ public interface IssueRepository extends JpaRepository<IssueEntity, Integer> {
        "LEFT JOIN FETCH i.communityPost c " +   // IssueEntity와 연관된 CommunityPostEntity도 한 번에 조회
        "ORDER BY i.createdAt DESC")             // 생성일(createdAt)을 기준으로 내림차순 정렬
     List<IssueEntity> findAllWithRelations();
+
+    // 🔥 트리거 일괄 평가: 존재하고 아직 이슈가 없는 기사 ID만 (IN 1회)
+    @Query("""
+        SELECT a.id FROM RssArticleEntity a
+        WHERE a.id IN :articleIds
+          AND NOT EXISTS (SELECT 1 FROM IssueEntity i WHERE i.article.id = a.id)
+    """)
+    List<Integer> findArticleIdsWithoutIssue(@Param("articleIds") Collection<Integer> articleIds);
+
+    // 🔥 트리거 일괄 평가: 존재하고 아직 이슈가 없는 커뮤니티 글 ID만 (IN 1회)
+    @Query("""
+        SELECT p.postId FROM CommunityPostEntity p
+        WHERE p.postId IN :postIds
+          AND NOT EXISTS (SELECT 1 FROM IssueEntity i WHERE i.communityPost.postId = p.postId)
+    """)
+    List<Long> findCommunityPostIdsWithoutIssue(@Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
@@ -2,11 +2,15 @@
 package org.usyj.makgora.issue.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.usyj.makgora.global.queue.WorkMessage;
+import org.usyj.makgora.global.queue.WorkQueue;
+import org.usyj.makgora.global.queue.WorkType;
 import org.usyj.makgora.issue.dto.response.IssueResponse;
 import org.usyj.makgora.issue.entity.IssueEntity;
 import org.usyj.makgora.issue.repository.IssueRepository;
@@ -14,15 +18,14 @@ import org.usyj.makgora.issue.repository.IssueRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class IssueService {
 
     private final IssueRepository issueRepository;
     private final StringRedisTemplate redis;   // 🔥 Redis 주입
-
-    // 🆕 Vote 자동 생성을 위한 별도 큐
-    private static final String VOTE_QUEUE = "VOTE_TRIGGER_QUEUE";
+    private final WorkQueue workQueue;          // 🆕 Vote 자동 생성 큐 (VOTE_TRIGGER_QUEUE)
 
     /** 🔥 관리자 승인: Issue 상태 APPROVED + Vote 생성 트리거 push */
     @Transactional
@@ -43,10 +46,11 @@ public class IssueService {
         String flag = redis.opsForValue().get(flagKey);
 
         if (!"1".equals(flag)) {
-            redis.opsForList().leftPush("VOTE_TRIGGER_QUEUE", "issue:" + issueId);
-            System.out.println("[ISSUE-APPROVE] Vote Queue push => issue:" + issueId);
+            boolean queued = workQueue.enqueue(
+                    WorkMessage.of(WorkQueue.VOTE_TRIGGER_QUEUE, WorkType.ISSUE_VOTE, issueId));
+            log.info("[ISSUE-APPROVE] Vote Queue enqueue issue:{} queued={}", issueId, queued);
         } else {
-            System.out.println("[ISSUE-APPROVE] 이미 Vote 생성됨 → 큐 push 생략");
+            log.info("[ISSUE-APPROVE] 이미 Vote 생성됨 → 큐 push 생략 issue:{}", issueId);
         }
 
         return issue;
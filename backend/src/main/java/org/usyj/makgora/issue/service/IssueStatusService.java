@@ -2,22 +2,26 @@ package org.usyj.makgora.issue.service;
 
 import java.time.LocalDateTime;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.usyj.makgora.global.queue.WorkMessage;
+import org.usyj.makgora.global.queue.WorkQueue;
+import org.usyj.makgora.global.queue.WorkType;
 import org.usyj.makgora.issue.dto.request.IssueStatusUpdateRequest;
 import org.usyj.makgora.issue.dto.response.AiIssueResponse;
 import org.usyj.makgora.issue.entity.IssueEntity;
 import org.usyj.makgora.issue.repository.IssueRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class IssueStatusService {
 
     private final IssueRepository issueRepository;
-    private final StringRedisTemplate redisTemplate;
+    private final WorkQueue workQueue;
 
     /**
      * 🔹 이슈 승인/거절 + 시간 기록 후 IssueResponse 반환
@@ -32,9 +36,9 @@ public class IssueStatusService {
             issue.setApprovedAt(LocalDateTime.now());
             issue.setRejectedAt(null);
             // 🔥 Redis 트리거
-            String triggerKey = "issueApprove:" + issue.getId();
-            redisTemplate.opsForList().leftPush("ISSUE_TRIGGER_QUEUE", triggerKey);
-            System.out.println("🔥 Issue 승인 트리거 푸시 완료 → " + triggerKey);
+            boolean queued = workQueue.enqueue(
+                    WorkMessage.of(WorkQueue.ISSUE_TRIGGER_QUEUE, WorkType.ISSUE_APPROVE, issue.getId()));
+            log.info("🔥 Issue 승인 트리거 enqueue → issueApprove:{} queued={}", issue.getId(), queued);
         } else if ("REJECTED".equalsIgnoreCase(request.getStatus())) {
             issue.setStatus(IssueEntity.Status.REJECTED);
             issue.setRejectedAt(LocalDateTime.now());
@@ -1,98 +1,114 @@
 package org.usyj.makgora.issue.service;
 
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.usyj.makgora.community.repository.CommunityPostRepository;
+import org.usyj.makgora.global.queue.WorkMessage;
+import org.usyj.makgora.global.queue.WorkQueue;
+import org.usyj.makgora.global.queue.WorkType;
 import org.usyj.makgora.issue.repository.IssueRepository;
-import org.usyj.makgora.rssfeed.repository.RssArticleRepository;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🔥 이슈 생성 트리거
+ *
+ * - 조회/반응/댓글 이벤트 경로: 점수가 임계값 이상이면 후보 Set 에 추가만 (DB / Redis 호출 없음)
+ * - evaluate-interval-ms 마다 후보를 모아 일괄 평가
+ *     1) "존재 + 이슈 없음" 을 IN 쿼리 1회로 필터
+ *     2) 워커가 처리 완료한 항목(:triggered) 은 MGET 1회로 제외
+ *     3) WorkQueue.enqueueAll 로 ISSUE_TRIGGER_QUEUE 에 일괄 enqueue
+ *        → idempotency 키로 여러 인스턴스 / 반복 이벤트에도 큐에는 한 번만 들어감
+ *        → 워커 실패로 :triggered 가 안 찍히면 idempotency TTL 이후 재시도 가능
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class IssueTriggerPushService {
 
     private final StringRedisTemplate redis;
     private final IssueRepository issueRepo;
-
-    private final CommunityPostRepository communityPostRepository;   // 🔥 추가
-    private final RssArticleRepository rssArticleRepository;         // 🔥 추가
+    private final WorkQueue workQueue;
 
     private static final int THRESHOLD = 20;
-    private static final String QUEUE = "ISSUE_TRIGGER_QUEUE";
+
+    /** 평가 대기 후보 (중복 제거) */
+    private final Set<Integer> articleCandidates = ConcurrentHashMap.newKeySet();
+    private final Set<Long> communityCandidates = ConcurrentHashMap.newKeySet();
 
     // =========================================================
-    // 🔥 RSS Article 트리거
+    // 🔥 RSS Article 트리거 (이벤트 경로)
     // =========================================================
     public void checkAndPush(int articleId, int score) {
-
-        System.out.println("[TriggerDebug] ARTICLE 체크 시작 articleId=" + articleId + ", score=" + score);
-
-        // 1) 존재 여부 체크
-        if (!rssArticleRepository.existsById(articleId)) {
-            System.out.println("[TriggerDebug] 존재하지 않는 Article → skip articleId=" + articleId);
-            return;
-        }
-
-        // 2) 점수 부족
-        if (score < THRESHOLD) {
-            System.out.println("[TriggerDebug] 점수 부족 → skip articleId=" + articleId);
-            return;
-        }
-
-        // 3) 이미 Issue 생성됨?
-        boolean exists = issueRepo.findByArticleId(articleId).isPresent();
-        if (exists) {
-            System.out.println("[TriggerDebug] 이미 Issue 존재 → skip articleId=" + articleId);
-            return;
+        if (score >= THRESHOLD) {
+            articleCandidates.add(articleId);
         }
-
-        // 4) Redis 플래그 체크
-        String flag = redis.opsForValue().get("article:" + articleId + ":triggered");
-        if ("1".equals(flag)) {
-            System.out.println("[TriggerDebug] Redis triggered=1 → skip articleId=" + articleId);
-            return;
-        }
-
-        // 5) QUEUE push
-        redis.opsForList().leftPush(QUEUE, "article:" + articleId);
-        System.out.println("[TriggerDebug] Queue push 성공 → articleId=" + articleId);
     }
 
     // =========================================================
-    // 🔥 Community Post 트리거
+    // 🔥 Community Post 트리거 (이벤트 경로)
     // =========================================================
     public void checkAndPushCommunity(long postId, int score) {
+        if (score >= THRESHOLD) {
+            communityCandidates.add(postId);
+        }
+    }
 
-        System.out.println("[TriggerDebug] COMMUNITY 체크 시작 postId=" + postId + ", score=" + score);
+    // =========================================================
+    // 🔥 일괄 평가
+    // =========================================================
+    @Scheduled(fixedDelayString = "${issue.trigger.evaluate-interval-ms:3000}")
+    public void evaluate() {
+        evaluate(articleCandidates, WorkType.ARTICLE, issueRepo::findArticleIdsWithoutIssue);
+        evaluate(communityCandidates, WorkType.COMMUNITY, issueRepo::findCommunityPostIdsWithoutIssue);
+    }
 
-        // 1) 존재 여부 체크 (🔥 반드시 필요)
-        if (!communityPostRepository.existsById(postId)) {
-            System.out.println("[TriggerDebug] 존재하지 않는 PostId → skip postId=" + postId);
-            return;
-        }
+    private <T> void evaluate(Set<T> candidates,
+                              WorkType type,
+                              Function<Collection<T>, List<T>> withoutIssue) {
 
-        // 2) 점수 부족
-        if (score < THRESHOLD) {
-            System.out.println("[TriggerDebug] 점수 부족 → skip postId=" + postId);
-            return;
-        }
+        if (candidates.isEmpty()) return;
 
-        // 3) 이미 Issue 생성됨?
-        boolean exists = issueRepo.findByCommunityPostId(postId).isPresent();
-        if (exists) {
-            System.out.println("[TriggerDebug] 이미 Issue 존재 → skip postId=" + postId);
-            return;
+        List<T> drained = new ArrayList<>();
+        for (T id : List.copyOf(candidates)) {
+            candidates.remove(id);
+            drained.add(id);
         }
 
-        // 4) Redis flagged?
-        String flag = redis.opsForValue().get("cp:" + postId + ":triggered");
-        if ("1".equals(flag)) {
-            System.out.println("[TriggerDebug] Redis triggered=1 → skip postId=" + postId);
-            return;
+        try {
+            // 1) 존재 + 이슈 없음
+            List<T> ids = withoutIssue.apply(drained);
+            if (ids.isEmpty()) return;
+
+            // 2) 워커 처리 완료 제외
+            List<String> flags = redis.opsForValue().multiGet(
+                    ids.stream().map(id -> type.prefix() + ":" + id + ":triggered").toList());
+
+            List<WorkMessage> targets = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (flags == null || !"1".equals(flags.get(i))) {
+                    targets.add(WorkMessage.of(WorkQueue.ISSUE_TRIGGER_QUEUE, type, ids.get(i)));
+                }
+            }
+            if (targets.isEmpty()) return;
+
+            // 3) 큐 enqueue (idempotency 키로 중복 제거, pipeline)
+            int pushed = workQueue.enqueueAll(targets);
+            if (pushed > 0) {
+                log.info("[IssueTrigger] 큐 enqueue {}건 / 후보 {}건", pushed, targets.size());
+            }
+
+        } catch (Exception e) {
+            log.error("[IssueTrigger] 일괄 평가 실패 → 다음 주기 재시도 candidates={}", drained.size(), e);
+            candidates.addAll(drained);
         }
-
-        // 5) Queue push
-        redis.opsForList().leftPush(QUEUE, "cp:" + postId);
-        System.out.println("[TriggerDebug] Queue push 성공 → postId=" + postId);
     }
 }
@@ -0,0 +1,21 @@
+package org.usyj.makgora.profile.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로필 최근 활동(커뮤니티) Projection
+ * - 글 / 댓글 top-N 쿼리가 같은 모양으로 반환 (본문은 미리보기 길이만 잘라서)
+ */
+@Getter
+@AllArgsConstructor
+public class CommunityActivityRowDTO {
+
+    private Long activityId;        // 글이면 postId, 댓글이면 commentId
+    private Long postId;
+    private String postTitle;
+    private String contentHead;     // 본문 앞부분 (미리보기 + 말줄임 판단용)
+    private LocalDateTime createdAt;
+}
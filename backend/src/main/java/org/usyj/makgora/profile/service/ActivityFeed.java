@@ -0,0 +1,49 @@
+package org.usyj.makgora.profile.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * 📰 최근 활동 k-way 병합
+ *
+ * - 각 소스는 이미 createdAt 내림차순이고 최대 limit 개 (소스별 인덱스 top-N 쿼리 결과)
+ * - 소스마다 커서 하나를 힙에 넣고, 가장 최신 항목을 꺼낸 소스만 다음 항목으로 전진
+ *   → limit 개가 차면 즉시 중단, 비용 O(limit · log k) (전체 정렬 없음)
+ * - createdAt 이 같으면 앞 소스 우선, createdAt 이 null 인 항목은 맨 뒤
+ */
+final class ActivityFeed {
+
+    private ActivityFeed() {
+    }
+
+    static <T> List<T> merge(List<List<T>> sources, Function<T, LocalDateTime> createdAt, int limit) {
+
+        Comparator<LocalDateTime> newestFirst = Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder());
+
+        // 커서 = [소스 번호, 소스 안 위치]
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+            int c = newestFirst.compare(
+                    createdAt.apply(sources.get(a[0]).get(a[1])),
+                    createdAt.apply(sources.get(b[0]).get(b[1])));
+            return c != 0 ? c : Integer.compare(a[0], b[0]);
+        });
+
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) heap.add(new int[] { i, 0 });
+        }
+
+        List<T> out = new ArrayList<>(Math.max(0, limit));
+        while (out.size() < limit && !heap.isEmpty()) {
+            int[] cursor = heap.poll();
+            List<T> source = sources.get(cursor[0]);
+            out.add(source.get(cursor[1]));
+
+            if (++cursor[1] < source.size()) heap.add(cursor);
+        }
+        return out;
+    }
+}
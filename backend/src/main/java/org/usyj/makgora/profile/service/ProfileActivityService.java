@@ -1,211 +1,166 @@
 package org.usyj.makgora.profile.service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.usyj.makgora.community.entity.CommunityPostEntity;
+import org.usyj.makgora.community.repository.CommunityCommentRepository;
 import org.usyj.makgora.community.repository.CommunityPostRepository;
+import org.usyj.makgora.profile.dto.CommunityActivityRowDTO;
 import org.usyj.makgora.profile.dto.RecentCommunityActivityResponse;
 import org.usyj.makgora.profile.dto.RecentCommunityActivityResponse.CommunityActivityType;
 import org.usyj.makgora.profile.dto.RecentVoteActivityResponse;
-import org.usyj.makgora.user.entity.UserEntity;
 import org.usyj.makgora.user.repository.UserRepository;
-import org.usyj.makgora.vote.dto.voteDetailResponse.UnifiedCommentResponse;
-import org.usyj.makgora.vote.dto.voteDetailResponse.UnifiedCommentResponse.CommentSource;
+import org.usyj.makgora.vote.dto.MyVoteRowDTO;
 import org.usyj.makgora.vote.entity.VoteEntity;
-import org.usyj.makgora.vote.entity.VoteOptionChoiceEntity;
-import org.usyj.makgora.vote.entity.VoteUserEntity;
 import org.usyj.makgora.vote.repository.VoteUserRepository;
-import org.usyj.makgora.vote.service.UnifiedCommentService;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 👤 프로필 최근 활동
+ *
+ * - 소스별 "createdAt 최신순 top-N" 인덱스 쿼리 (Projection) → ActivityFeed 로 k-way 병합
+ *     · 커뮤니티: 내 글 / 내 커뮤니티 댓글
+ *     · 투표: 내 베팅 (vote / 선택지 / 정답 / 풀 집계를 조인 1회)
+ * - 풀 금액은 옵션 / 정답 선택지의 저장된 집계 컬럼 사용 → 비용은 limit 에만 비례 (유저 이력 크기와 무관)
+ */
 @Service
 @RequiredArgsConstructor
 public class ProfileActivityService {
 
+    private static final int MAX_LIMIT = 100;
+
     private final CommunityPostRepository postRepository;
+    private final CommunityCommentRepository communityCommentRepository;
     private final UserRepository userRepository;
     private final VoteUserRepository voteUserRepository;
-    private final UnifiedCommentService unifiedCommentService;
 
     @Transactional(readOnly = true)
-public List<RecentCommunityActivityResponse> getRecentCommunityActivities(Integer userId, int limit) {
-
-    UserEntity user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-
-    List<RecentCommunityActivityResponse> result = new ArrayList<>();
-
-    // 1) 내가 작성한 글 (기존 그대로)
-    List<CommunityPostEntity> posts =
-            postRepository.findByUserOrderByCreatedAtDesc(user);
-
-    posts.forEach(post -> result.add(
-            RecentCommunityActivityResponse.builder()
-                    .activityId(post.getPostId())
-                    .type(CommunityActivityType.POST)
-                    .postId(post.getPostId())
-                    .postTitle(post.getTitle())
-                    .contentPreview(cut(post.getContent()))
-                    .createdAt(post.getCreatedAt())
-                    .build()
-    ));
-
-    // 🔥 2) 내가 작성한 댓글 - UnifiedCommentService 사용
-    List<UnifiedCommentResponse> userComments =
-            unifiedCommentService.getUserComments(userId);
-
-    userComments.stream()
-            // ✅ 커뮤니티 댓글만 필터링
-            .filter(c -> c.getSource() == CommentSource.COMMUNITY)
-            .forEach(c -> result.add(
-                    RecentCommunityActivityResponse.builder()
-                            .activityId(c.getCommentId())
-                            .type(CommunityActivityType.COMMENT)
-                            .postId(c.getSourceId())          // 커뮤니티에서는 postId
-                            .postTitle(c.getSourceTitle())    // 게시글 제목
-                            .contentPreview(cut(c.getContent()))
-                            .createdAt(c.getCreatedAt())
-                            .build()
-            ));
-
-    // 3) 전체를 시간순으로 정렬하고 limit만큼 자르기 (기존 로직 유지)
-    return result.stream()
-            .sorted(Comparator.comparing(RecentCommunityActivityResponse::getCreatedAt).reversed())
-            .limit(limit)
-            .toList();
-}
+    public List<RecentCommunityActivityResponse> getRecentCommunityActivities(Integer userId, int limit) {
+
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+
+        int n = clamp(limit);
+        PageRequest topN = PageRequest.of(0, n);
+
+        // 1) 내가 작성한 글 / 2) 내가 작성한 커뮤니티 댓글 → 각각 최신순 top-N
+        List<RecentCommunityActivityResponse> posts = postRepository.findRecentActivityRows(userId, topN)
+                .stream()
+                .map(row -> toCommunityActivity(row, CommunityActivityType.POST))
+                .toList();
+
+        List<RecentCommunityActivityResponse> comments = communityCommentRepository.findRecentActivityRows(userId, topN)
+                .stream()
+                .map(row -> toCommunityActivity(row, CommunityActivityType.COMMENT))
+                .toList();
+
+        // 3) 시간순 k-way 병합 (limit 개에서 중단)
+        return ActivityFeed.merge(List.of(posts, comments), RecentCommunityActivityResponse::getCreatedAt, n);
+    }
+
+    private RecentCommunityActivityResponse toCommunityActivity(CommunityActivityRowDTO row,
+                                                                CommunityActivityType type) {
+        return RecentCommunityActivityResponse.builder()
+                .activityId(row.getActivityId())
+                .type(type)
+                .postId(row.getPostId())
+                .postTitle(row.getPostTitle())
+                .contentPreview(cut(row.getContentHead()))
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
 
     /**
      * 프로필 > 최근 활동(투표)
-     * - Vote_Users 기반으로 "내가 베팅한 투표"들을 시간순으로 정리해서 반환
+     * - Vote_Users 기반으로 "내가 베팅한 투표"들을 최신 베팅 순으로 limit 개만 조회
      * - MyVoteListResponse 로직을 단순화해서, 최근 활동용 요약으로 사용
      */
     @Transactional(readOnly = true)
     public List<RecentVoteActivityResponse> getRecentVoteActivities(Integer userId, int limit) {
 
-        // 내가 참여한 모든 투표 내역
-        List<VoteUserEntity> myVotes = voteUserRepository.findByUserId(userId);
+        // voteUserId 내림차순 = 베팅 시각 내림차순 (IDENTITY + 생성 시 createdAt)
+        List<MyVoteRowDTO> rows =
+                voteUserRepository.findMyVoteRows(userId, null, PageRequest.of(0, clamp(limit)));
 
-        List<RecentVoteActivityResponse> result = new ArrayList<>();
+        List<RecentVoteActivityResponse> result = new ArrayList<>(rows.size());
+        for (MyVoteRowDTO row : rows) {
+            result.add(toVoteActivity(row));
+        }
+        return result;
+    }
 
-        for (VoteUserEntity vu : myVotes) {
+    private RecentVoteActivityResponse toVoteActivity(MyVoteRowDTO row) {
 
-            VoteEntity vote = vu.getVote();
-            VoteOptionChoiceEntity choice = vu.getChoice();
+        String resultStatus;
+        Integer rewardAmount = null;
 
-            String issueTitle = vote.getIssue() != null
-                    ? vote.getIssue().getTitle()
-                    : null;
+        boolean win = row.getChoiceId() != null
+                && row.getChoiceId().equals(row.getCorrectChoiceId());
 
-            String resultStatus;
-            Integer rewardAmount = null;
+        // ① 취소된 베팅
+        if (Boolean.TRUE.equals(row.getCancelled())) {
+            resultStatus = "CANCELLED";
+            rewardAmount = 0;
+        }
+        // ② 정산까지 끝난 투표 → WIN / LOSE + 금액 계산 (저장된 옵션 / 정답 풀 기준)
+        else if (row.getVoteStatus() == VoteEntity.Status.REWARDED) {
 
-            boolean isCancelled = Boolean.TRUE.equals(vu.getIsCancelled());
+            int optionPool = row.getOptionPool() != null ? row.getOptionPool() : 0;
+            int correctPool = row.getCorrectPool() != null ? row.getCorrectPool() : 0;
 
-            // ① 취소된 베팅
-            if (isCancelled) {
-                resultStatus = "CANCELLED";
-                rewardAmount = 0;
-            }
-            // ② 정산까지 끝난 투표 → WIN / LOSE + 금액 계산
-            else if (vote.getStatus() == VoteEntity.Status.REWARDED) {
-
-                VoteOptionChoiceEntity correctChoice =
-                choice.getOption().getCorrectChoice();
-
-                boolean win =
-                correctChoice != null &&
-                correctChoice.getId().equals(choice.getId());
-
-                // 같은 voteId에 참여한 모든 베팅 재조회 (성능 이슈 크지 않다고 가정)
-                List<VoteUserEntity> allBets =
-                        voteUserRepository.findByVoteId(vote.getId())
-                                .stream()
-                                .filter(x -> !Boolean.TRUE.equals(x.getIsCancelled()))
-                                .toList();
-
-                int optionPool = allBets.stream()
-                .filter(x -> x.getChoice().getOption().getId()
-                .equals(choice.getOption().getId()))
-                .mapToInt(VoteUserEntity::getPointsBet)
-                .sum();
-
-                int correctPool = allBets.stream()
-                .filter(x ->
-                x.getChoice().getOption().getId().equals(choice.getOption().getId()) &&
-                correctChoice != null &&
-                x.getChoice().getId().equals(correctChoice.getId())
-                )
-                .mapToInt(VoteUserEntity::getPointsBet)
-                .sum();
-
-                double odds = correctPool > 0
+            double odds = correctPool > 0
                     ? (double) optionPool / (double) correctPool
-                : 0.0;
-
-                double feeRate = vote.getFeeRate();
+                    : 0.0;
 
-                if (win) {
-                    resultStatus = "WIN";
-
-                    int originalReward = (int) Math.floor(vu.getPointsBet() * odds);
-                    int rewardAfterFee = (int) Math.floor(originalReward * (1 - feeRate));
-
-                    // 순이익(+)
-                    rewardAmount = rewardAfterFee - vu.getPointsBet();
-                } else {
-                    resultStatus = "LOSE";
-                    // 순손실(-)
-                    rewardAmount = -vu.getPointsBet();
-                }
-            }
-            // ③ 정답은 확정되었지만 아직 정산 전
-            else if (vote.getStatus() == VoteEntity.Status.RESOLVED) {
+            double feeRate = row.getFeeRate() != null ? row.getFeeRate() : 0.0;
 
-                VoteOptionChoiceEntity correctChoice =
-                choice.getOption().getCorrectChoice();
+            if (win) {
+                resultStatus = "WIN";
 
-                boolean win =
-                correctChoice != null &&
-                correctChoice.getId().equals(choice.getId());
+                int originalReward = (int) Math.floor(row.getPointsBet() * odds);
+                int rewardAfterFee = (int) Math.floor(originalReward * (1 - feeRate));
 
-                resultStatus = win ? "WIN" : "LOSE";
-                rewardAmount = null; // 정산 전이라 금액은 아직 모름
+                // 순이익(+)
+                rewardAmount = rewardAfterFee - row.getPointsBet();
+            } else {
+                resultStatus = "LOSE";
+                // 순손실(-)
+                rewardAmount = -row.getPointsBet();
             }
-            // ④ 진행중 or 마감 전
-            else {
-                resultStatus = "PENDING";
-                rewardAmount = null;
-            }
-
-            result.add(
-                    RecentVoteActivityResponse.builder()
-                            .voteUserId(vu.getId().intValue())
-                            .voteId(vote.getId())
-                            .voteTitle(vote.getTitle())
-                            .issueTitle(issueTitle)
-                            .choiceId(choice.getId())
-                            .choiceText(choice.getChoiceText())
-                            .pointsBet(vu.getPointsBet())
-                            .rewardAmount(rewardAmount)
-                            .result(resultStatus)
-                            .voteCreatedAt(vote.getCreatedAt())
-                            .voteEndAt(vote.getEndAt())
-                            .createdAt(vu.getCreatedAt())
-                            .build()
-            );
+        }
+        // ③ 정답은 확정되었지만 아직 정산 전
+        else if (row.getVoteStatus() == VoteEntity.Status.RESOLVED) {
+            resultStatus = win ? "WIN" : "LOSE";
+            rewardAmount = null; // 정산 전이라 금액은 아직 모름
+        }
+        // ④ 진행중 or 마감 전
+        else {
+            resultStatus = "PENDING";
         }
 
-        // 최신 베팅 순으로 정렬 후 limit만큼 리턴
-        return result.stream()
-                .sorted(Comparator.comparing(RecentVoteActivityResponse::getCreatedAt).reversed())
-                .limit(limit)
-                .toList();
+        return RecentVoteActivityResponse.builder()
+                .voteUserId(row.getVoteUserId().intValue())
+                .voteId(row.getVoteId())
+                .voteTitle(row.getVoteTitle())
+                .issueTitle(row.getIssueTitle())
+                .choiceId(row.getChoiceId())
+                .choiceText(row.getChoiceText())
+                .pointsBet(row.getPointsBet())
+                .rewardAmount(rewardAmount)
+                .result(resultStatus)
+                .voteCreatedAt(row.getVoteCreatedAt())
+                .voteEndAt(row.getVoteEndAt())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
     }
 
     private String cut(String content) {
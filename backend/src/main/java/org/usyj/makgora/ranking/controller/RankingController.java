@@ -29,8 +29,23 @@ public ResponseEntity<?> getTop10(@PathVariable RankingType type) {
     return ResponseEntity.ok(service.getTop10(type));
 }
 
+/** 🔥 랭킹 타입별 랭킹 (페이지) */
 @GetMapping("/{type}")
-public ResponseEntity<?> getRanking(@PathVariable RankingType type) {
-    return ResponseEntity.ok(service.getRankingByType(type));
+public ResponseEntity<?> getRanking(
+        @PathVariable RankingType type,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "100") int size
+) {
+    return ResponseEntity.ok(service.getRankingByType(type, page, size));
+}
+
+/** 🔥 특정 유저 주변 랭킹 */
+@GetMapping("/{type}/around/{userId}")
+public ResponseEntity<?> getAround(
+        @PathVariable RankingType type,
+        @PathVariable Integer userId,
+        @RequestParam(defaultValue = "5") int radius
+) {
+    return ResponseEntity.ok(service.getAroundMe(type, userId, radius));
 }
 }
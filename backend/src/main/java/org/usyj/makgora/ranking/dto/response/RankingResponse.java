@@ -1,6 +1,8 @@
 package org.usyj.makgora.ranking.dto.response;
 
 import org.usyj.makgora.ranking.entity.RankingEntity;
+import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
+import org.usyj.makgora.ranking.leaderboard.Leaderboard;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -27,4 +29,15 @@ public class RankingResponse {
                 .updatedAt(e.getUpdatedAt() != null ? e.getUpdatedAt().toString() : null)
                 .build();
     }
-}
\ No newline at end of file
+
+    /** 리더보드 실시간 값 (rankingId / updatedAt 없음) */
+    public static RankingResponse fromEntry(RankingType type, Leaderboard.Entry e, String nickname) {
+        return RankingResponse.builder()
+                .userId(e.userId())
+                .nickname(nickname)
+                .rankingType(type.name())
+                .rank((int) e.rank())
+                .score((int) Math.round(e.score()))
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package org.usyj.makgora.ranking.leaderboard;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
+
+/**
+ * 🏆 로컬 메모리 리더보드 (leaderboard.type=memory)
+ * - RankingType 별 RankedSkipList + 읽기/쓰기 락
+ * - Redis 없이 실행 / 벤치마크용. 재기동 시 Rankings 스냅샷에서 다시 채워진다
+ */
+@Component
+@ConditionalOnProperty(name = "leaderboard.type", havingValue = "memory")
+public class InMemoryLeaderboard implements Leaderboard {
+
+    private final Map<RankingType, Board> boards = new EnumMap<>(RankingType.class);
+
+    public InMemoryLeaderboard() {
+        for (RankingType type : RankingType.values()) {
+            boards.put(type, new Board());
+        }
+    }
+
+    @Override
+    public double increment(RankingType type, int userId, double delta) {
+        return boards.get(type).write(list -> {
+            Double old = list.score(userId);
+            double score = (old != null ? old : 0) + delta;
+            list.put(userId, score);
+            return score;
+        });
+    }
+
+    @Override
+    public void setScore(RankingType type, int userId, double score) {
+        boards.get(type).write(list -> {
+            list.put(userId, score);
+            return null;
+        });
+    }
+
+    @Override
+    public void setScores(RankingType type, Map<Integer, Double> scores) {
+        boards.get(type).write(list -> {
+            scores.forEach(list::put);
+            return null;
+        });
+    }
+
+    @Override
+    public void remove(RankingType type, int userId) {
+        boards.get(type).write(list -> list.remove(userId));
+    }
+
+    @Override
+    public Double score(RankingType type, int userId) {
+        return boards.get(type).read(list -> list.score(userId));
+    }
+
+    @Override
+    public Long rank(RankingType type, int userId) {
+        long rank = boards.get(type).read(list -> list.rank(userId));
+        return rank > 0 ? rank : null;
+    }
+
+    @Override
+    public List<Entry> range(RankingType type, long offset, int count) {
+        return boards.get(type).read(list -> list.range(offset, count));
+    }
+
+    @Override
+    public long size(RankingType type) {
+        return boards.get(type).read(RankedSkipList::size);
+    }
+
+    private static final class Board {
+        private final RankedSkipList list = new RankedSkipList();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        <T> T read(Function<RankedSkipList, T> fn) {
+            lock.readLock().lock();
+            try {
+                return fn.apply(list);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        <T> T write(Function<RankedSkipList, T> fn) {
+            lock.writeLock().lock();
+            try {
+                return fn.apply(list);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
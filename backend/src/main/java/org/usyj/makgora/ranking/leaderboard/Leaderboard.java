@@ -0,0 +1,55 @@
+package org.usyj.makgora.ranking.leaderboard;
+
+import java.util.List;
+import java.util.Map;
+
+import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
+
+/**
+ * 🏆 리더보드 (RankingType 별 정렬 집합)
+ *
+ * - 점수 갱신 O(log n), 순위 O(log n), top-k / 내 주변 O(log n + k)
+ * - 정렬: 점수 내림차순, 동점이면 userId 문자열 내림차순 (Redis ZREVRANGE 와 동일)
+ * - 구현
+ *     · RedisLeaderboard     : leaderboard.type=redis (기본), 타입별 ZSET
+ *     · InMemoryLeaderboard  : leaderboard.type=memory, 로컬 skip list (Redis 없이 실행 / 벤치마크)
+ * - 내구성은 LeaderboardSnapshotService 가 Rankings 테이블로 주기 스냅샷
+ */
+public interface Leaderboard {
+
+    /** 점수 가산 후 새 점수 반환 */
+    double increment(RankingType type, int userId, double delta);
+
+    void setScore(RankingType type, int userId, double score);
+
+    /** 여러 유저 점수 일괄 설정 (워밍업 / 백필) */
+    void setScores(RankingType type, Map<Integer, Double> scores);
+
+    void remove(RankingType type, int userId);
+
+    /** 점수 (없으면 null) */
+    Double score(RankingType type, int userId);
+
+    /** 1부터 시작하는 순위 (없으면 null) */
+    Long rank(RankingType type, int userId);
+
+    /** offset(0부터) 에서 count 명 */
+    List<Entry> range(RankingType type, long offset, int count);
+
+    default List<Entry> top(RankingType type, int k) {
+        return range(type, 0, k);
+    }
+
+    /** 내 위아래 radius 명 (나 포함, 없으면 빈 리스트) */
+    default List<Entry> around(RankingType type, int userId, int radius) {
+        Long rank = rank(type, userId);
+        if (rank == null) return List.of();
+        long offset = Math.max(0, rank - 1 - radius);
+        return range(type, offset, radius * 2 + 1);
+    }
+
+    long size(RankingType type);
+
+    /** rank 는 1부터 */
+    record Entry(int userId, double score, long rank) {}
+}
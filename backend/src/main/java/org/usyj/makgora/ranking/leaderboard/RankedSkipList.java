@@ -0,0 +1,196 @@
+package org.usyj.makgora.ranking.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 skip list (Redis zskiplist 와 같은 span 방식)
+ *
+ * - 각 레벨 링크에 "건너뛰는 노드 수(span)" 를 저장 → 삽입 / 삭제 / 순위 / n번째 조회 모두 O(log n)
+ * - 정렬: 점수 내림차순, 동점이면 member 문자열 내림차순 (ZREVRANGE 와 동일)
+ * - member → 점수 맵으로 갱신 시 기존 노드를 찾아 제거 후 재삽입
+ * - 동기화하지 않음 (InMemoryLeaderboard 가 타입별 락으로 보호)
+ */
+final class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double P = 0.25;
+
+    private final Node head = new Node(0, "", 0, MAX_LEVEL);
+    private final Map<Integer, Double> scores = new HashMap<>();
+    private int level = 1;
+    private int length;
+
+    int size() {
+        return length;
+    }
+
+    Double score(int member) {
+        return scores.get(member);
+    }
+
+    /** 점수 설정 (있으면 갱신) */
+    void put(int member, double score) {
+        Double old = scores.put(member, score);
+        if (old != null) {
+            if (old == score) return;
+            delete(member, String.valueOf(member), old);
+        }
+        insert(member, String.valueOf(member), score);
+    }
+
+    boolean remove(int member) {
+        Double old = scores.remove(member);
+        if (old == null) return false;
+        delete(member, String.valueOf(member), old);
+        return true;
+    }
+
+    /** 1부터 시작하는 순위 (없으면 0) */
+    long rank(int member) {
+        Double score = scores.get(member);
+        if (score == null) return 0;
+
+        String key = String.valueOf(member);
+        long rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], score, key) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.member == member) return rank;
+        }
+        return 0;
+    }
+
+    /** offset(0부터) 에서 count 개 */
+    List<Leaderboard.Entry> range(long offset, int count) {
+        List<Leaderboard.Entry> out = new ArrayList<>(Math.max(0, Math.min(count, length)));
+        if (count <= 0 || offset >= length) return out;
+
+        Node x = byRank(offset + 1);
+        long rank = offset + 1;
+        while (x != null && out.size() < count) {
+            out.add(new Leaderboard.Entry(x.member, x.score, rank++));
+            x = x.next[0];
+        }
+        return out;
+    }
+
+    /* =========================================================
+       내부 구현
+       ========================================================= */
+
+    /** 노드가 (score, key) 보다 앞이면 음수, 같으면 0 */
+    private static int compare(Node node, double score, String key) {
+        if (node.score != score) return node.score > score ? -1 : 1;
+        return key.compareTo(node.key);
+    }
+
+    private static int randomLevel() {
+        int lvl = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (lvl < MAX_LEVEL && random.nextDouble() < P) lvl++;
+        return lvl;
+    }
+
+    private void insert(int member, String key, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+        long[] rank = new long[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], score, key) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int lvl = randomLevel();
+        if (lvl > level) {
+            for (int i = level; i < lvl; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                update[i].span[i] = length;
+            }
+            level = lvl;
+        }
+
+        Node node = new Node(member, key, score, lvl);
+        for (int i = 0; i < lvl; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = lvl; i < level; i++) {
+            update[i].span[i]++;
+        }
+        length++;
+    }
+
+    private void delete(int member, String key, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], score, key) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.next[0];
+        if (x == null || x.member != member) return;
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        length--;
+    }
+
+    /** 1부터 시작하는 순위의 노드 */
+    private Node byRank(long rank) {
+        long traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) return x;
+        }
+        return null;
+    }
+
+    private static final class Node {
+        final int member;
+        final String key;
+        final double score;
+        final Node[] next;
+        final long[] span;
+
+        Node(int member, String key, double score, int level) {
+            this.member = member;
+            this.key = key;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new long[level];
+        }
+    }
+}
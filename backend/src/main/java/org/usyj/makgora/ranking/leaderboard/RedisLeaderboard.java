@@ -0,0 +1,95 @@
+package org.usyj.makgora.ranking.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 🏆 Redis ZSET 리더보드
+ * - key: leaderboard:{TYPE}, member: userId, score: 점수
+ * - ZINCRBY / ZREVRANK / ZREVRANGE WITHSCORES / ZSCORE
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leaderboard.type", havingValue = "redis", matchIfMissing = true)
+public class RedisLeaderboard implements Leaderboard {
+
+    private static final String PREFIX = "leaderboard:";
+
+    private final StringRedisTemplate redis;
+
+    private String key(RankingType type) {
+        return PREFIX + type.name();
+    }
+
+    @Override
+    public double increment(RankingType type, int userId, double delta) {
+        Double score = redis.opsForZSet().incrementScore(key(type), String.valueOf(userId), delta);
+        return score != null ? score : delta;
+    }
+
+    @Override
+    public void setScore(RankingType type, int userId, double score) {
+        redis.opsForZSet().add(key(type), String.valueOf(userId), score);
+    }
+
+    @Override
+    public void setScores(RankingType type, Map<Integer, Double> scores) {
+        if (scores.isEmpty()) return;
+
+        Set<TypedTuple<String>> tuples = new HashSet<>(scores.size() * 2);
+        scores.forEach((userId, score) -> tuples.add(TypedTuple.of(String.valueOf(userId), score)));
+        redis.opsForZSet().add(key(type), tuples);
+    }
+
+    @Override
+    public void remove(RankingType type, int userId) {
+        redis.opsForZSet().remove(key(type), String.valueOf(userId));
+    }
+
+    @Override
+    public Double score(RankingType type, int userId) {
+        return redis.opsForZSet().score(key(type), String.valueOf(userId));
+    }
+
+    @Override
+    public Long rank(RankingType type, int userId) {
+        Long rank = redis.opsForZSet().reverseRank(key(type), String.valueOf(userId));
+        return rank != null ? rank + 1 : null;
+    }
+
+    @Override
+    public List<Entry> range(RankingType type, long offset, int count) {
+        if (count <= 0) return List.of();
+
+        Set<TypedTuple<String>> tuples =
+                redis.opsForZSet().reverseRangeWithScores(key(type), offset, offset + count - 1);
+        if (tuples == null || tuples.isEmpty()) return List.of();
+
+        List<Entry> entries = new ArrayList<>(tuples.size());
+        long rank = offset + 1;
+        for (TypedTuple<String> t : tuples) {
+            entries.add(new Entry(
+                    Integer.parseInt(t.getValue()),
+                    t.getScore() != null ? t.getScore() : 0,
+                    rank++));
+        }
+        return entries;
+    }
+
+    @Override
+    public long size(RankingType type) {
+        Long size = redis.opsForZSet().zCard(key(type));
+        return size != null ? size : 0;
+    }
+}
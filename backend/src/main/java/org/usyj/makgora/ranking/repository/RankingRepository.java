@@ -1,6 +1,8 @@
 package org.usyj.makgora.ranking.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.usyj.makgora.ranking.entity.RankingEntity;
 import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
@@ -19,4 +21,8 @@ public interface RankingRepository extends JpaRepository<RankingEntity, Integer>
 
     Optional<RankingEntity> findByUser_IdAndRankingType(Integer userId, RankingEntity.RankingType type);
 
+    /** 리더보드 워밍업용 (userId, score) */
+    @Query("SELECT r.user.id, r.score FROM RankingEntity r WHERE r.rankingType = :type")
+    List<Object[]> findScoresByType(@Param("type") RankingType type);
+
 }
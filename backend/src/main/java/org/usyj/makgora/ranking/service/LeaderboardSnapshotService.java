@@ -0,0 +1,145 @@
+package org.usyj.makgora.ranking.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
+import org.usyj.makgora.ranking.leaderboard.Leaderboard;
+import org.usyj.makgora.ranking.repository.RankingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 💾 리더보드 ↔ Rankings 테이블
+ *
+ * - 기동 시: 비어 있는 리더보드는 Rankings 의 마지막 스냅샷으로 채움
+ * - 주기 스냅샷: 리더보드를 순위 순으로 청크 단위로 읽어 score / ranking 을 JDBC batch 로 반영
+ *     · 기존 (user_id, ranking_type) 행은 UPDATE, 없으면 INSERT
+ *     · ranking 컬럼은 스냅샷 시점의 정확한 순위로 다시 계산된다
+ *     · 보드에서 빠진 유저(연승 끊김 등)의 행은 DELETE → 재기동 워밍업에서 되살아나지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardSnapshotService {
+
+    private static final String SELECT_USERS_SQL =
+            "SELECT user_id FROM rankings WHERE ranking_type = ?";
+
+    private static final String UPDATE_SQL = """
+            UPDATE rankings SET score = ?, ranking = ?, updated_at = ?
+            WHERE user_id = ? AND ranking_type = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO rankings (user_id, ranking_type, score, ranking, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String DELETE_SQL =
+            "DELETE FROM rankings WHERE user_id = ? AND ranking_type = ?";
+
+    private final Leaderboard leaderboard;
+    private final RankingRepository rankingRepo;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${leaderboard.snapshot-chunk-size:1000}")
+    private int chunkSize;
+
+    /* =========================================================
+       1️⃣ 워밍업
+       ========================================================= */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (RankingType type : RankingType.values()) {
+            try {
+                if (leaderboard.size(type) > 0) continue;
+
+                Map<Integer, Double> scores = new HashMap<>();
+                for (Object[] row : rankingRepo.findScoresByType(type)) {
+                    scores.put((Integer) row[0], row[1] != null ? ((Number) row[1]).doubleValue() : 0);
+                }
+                leaderboard.setScores(type, scores);
+
+                log.info("[Leaderboard] {} 워밍업 users={}", type, scores.size());
+            } catch (Exception e) {
+                log.error("[Leaderboard] {} 워밍업 실패", type, e);
+            }
+        }
+    }
+
+    /* =========================================================
+       2️⃣ 주기 스냅샷
+       ========================================================= */
+    @Scheduled(fixedDelayString = "${leaderboard.snapshot-interval-ms:300000}",
+               initialDelayString = "${leaderboard.snapshot-interval-ms:300000}")
+    public void snapshotAll() {
+        for (RankingType type : RankingType.values()) {
+            try {
+                snapshot(type);
+            } catch (Exception e) {
+                log.error("[Leaderboard] {} 스냅샷 실패 → 다음 주기 재시도", type, e);
+            }
+        }
+    }
+
+    public int snapshot(RankingType type) {
+
+        long started = System.currentTimeMillis();
+        Set<Integer> existing = new HashSet<>(
+                jdbcTemplate.queryForList(SELECT_USERS_SQL, Integer.class, type.name()));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int written = 0;
+
+        for (long offset = 0; ; offset += chunkSize) {
+            List<Leaderboard.Entry> chunk = leaderboard.range(type, offset, chunkSize);
+            if (chunk.isEmpty()) break;
+
+            List<Object[]> updates = new ArrayList<>();
+            List<Object[]> inserts = new ArrayList<>();
+
+            for (Leaderboard.Entry e : chunk) {
+                int score = (int) Math.round(e.score());
+                int rank = (int) e.rank();
+                if (existing.remove(e.userId())) {
+                    updates.add(new Object[] { score, rank, now, e.userId(), type.name() });
+                } else {
+                    inserts.add(new Object[] { e.userId(), type.name(), score, rank, now });
+                }
+            }
+
+            if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            written += chunk.size();
+
+            if (chunk.size() < chunkSize) break;
+        }
+
+        // 남은 existing = 이번 스냅샷에 없는 유저 → 보드에서 빠진 행 정리
+        List<Object[]> deletes = new ArrayList<>(existing.size());
+        for (Integer userId : existing) {
+            deletes.add(new Object[] { userId, type.name() });
+        }
+        for (int from = 0; from < deletes.size(); from += chunkSize) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes.subList(from, Math.min(from + chunkSize, deletes.size())));
+        }
+
+        log.info("[Leaderboard] {} 스냅샷 rows={} removed={} took={}ms",
+                type, written, deletes.size(), System.currentTimeMillis() - started);
+        return written;
+    }
+}
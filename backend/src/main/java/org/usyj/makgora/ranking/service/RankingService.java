@@ -2,67 +2,98 @@ package org.usyj.makgora.ranking.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.ranking.dto.response.RankingResponse;
-import org.usyj.makgora.ranking.entity.RankingEntity;
 import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
-import org.usyj.makgora.ranking.repository.RankingRepository;
+import org.usyj.makgora.ranking.leaderboard.Leaderboard;
 import org.usyj.makgora.user.entity.UserEntity;
 import org.usyj.makgora.user.repository.UserRepository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 🏆 랭킹 조회 / 점수 반영
+ * - 실시간 점수와 순위는 Leaderboard(ZSET) 기준
+ * - Rankings 테이블은 LeaderboardSnapshotService 가 주기적으로 기록하는 스냅샷
+ */
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
-    private final RankingRepository rankingRepo;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RADIUS = 50;
+
+    private final Leaderboard leaderboard;
     private final UserRepository userRepo;
 
-    /** 🔥 내 랭킹 조회 */
+    /** 🔥 내 랭킹 조회 (타입별 현재 순위 / 점수) */
     public List<RankingResponse> getMyRanking(Integer userId) {
-        return rankingRepo.findByUser_Id(userId)
-                .stream()
-                .map(RankingResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<Leaderboard.Entry> entries = new ArrayList<>();
+        List<RankingType> types = new ArrayList<>();
+
+        for (RankingType type : RankingType.values()) {
+            Long rank = leaderboard.rank(type, userId);
+            if (rank == null) continue;
+            Double score = leaderboard.score(type, userId);
+            entries.add(new Leaderboard.Entry(userId, score != null ? score : 0, rank));
+            types.add(type);
+        }
+
+        Map<Integer, String> nicknames = nicknames(entries);
+        List<RankingResponse> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Leaderboard.Entry e = entries.get(i);
+            result.add(RankingResponse.fromEntry(types.get(i), e, nicknames.get(e.userId())));
+        }
+        return result;
     }
 
-    /** 🔥 랭킹 타입별 전체 랭킹 조회 */
-    public List<RankingResponse> getRankingByType(RankingType type) {
-        return rankingRepo.findByRankingTypeOrderByScoreDesc(type)
-                .stream()
-                .map(RankingResponse::fromEntity)
-                .collect(Collectors.toList());
+    /** 🔥 랭킹 타입별 랭킹 조회 (페이지) */
+    public List<RankingResponse> getRankingByType(RankingType type, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long offset = (long) Math.max(page, 0) * pageSize;
+        return toResponses(type, leaderboard.range(type, offset, pageSize));
     }
 
     /** 🔥 랭킹 타입별 TOP 10 */
     public List<RankingResponse> getTop10(RankingType type) {
-        return rankingRepo.findTop10ByRankingTypeOrderByScoreDesc(type)
-                .stream()
-                .map(RankingResponse::fromEntity)
-                .collect(Collectors.toList());
+        return toResponses(type, leaderboard.top(type, 10));
+    }
+
+    /** 🔥 내 주변 랭킹 (위아래 radius 명) */
+    public List<RankingResponse> getAroundMe(RankingType type, Integer userId, int radius) {
+        int r = Math.min(Math.max(radius, 0), MAX_RADIUS);
+        return toResponses(type, leaderboard.around(type, userId, r));
     }
 
     /** 🔥 랭킹 점수 업데이트 (게임/포인트 변동 시 사용할 함수) */
-    @Transactional
     public void updateRanking(Integer userId, RankingType type, int addScore) {
+        leaderboard.increment(type, userId, addScore);
+    }
 
-        UserEntity user = userRepo.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    /* =========================================================
+       내부 헬퍼
+       ========================================================= */
 
-        RankingEntity ranking = rankingRepo.findByUser_Id(userId).stream()
-                .filter(r -> r.getRankingType() == type)
-                .findFirst()
-                .orElse(RankingEntity.builder()
-                        .user(user)
-                        .rankingType(type)
-                        .ranking(0)
-                        .score(0)
-                        .build());
+    private List<RankingResponse> toResponses(RankingType type, List<Leaderboard.Entry> entries) {
+        Map<Integer, String> nicknames = nicknames(entries);
+        return entries.stream()
+                .map(e -> RankingResponse.fromEntry(type, e, nicknames.get(e.userId())))
+                .collect(Collectors.toList());
+    }
 
-        ranking.setScore(ranking.getScore() + addScore);
+    /** 닉네임 일괄 조회 (IN 1회) */
+    private Map<Integer, String> nicknames(List<Leaderboard.Entry> entries) {
+        if (entries.isEmpty()) return Map.of();
 
-        rankingRepo.save(ranking);
+        List<Integer> ids = entries.stream().map(Leaderboard.Entry::userId).distinct().toList();
+        Map<Integer, String> map = new HashMap<>();
+        for (UserEntity u : userRepo.findAllById(ids)) {
+            map.put(u.getId(), u.getNickname());
+        }
+        return map;
     }
-}
\ No newline at end of file
+}
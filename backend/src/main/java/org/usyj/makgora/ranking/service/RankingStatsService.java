@@ -0,0 +1,136 @@
+package org.usyj.makgora.ranking.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.usyj.makgora.ranking.entity.RankingEntity.RankingType;
+import org.usyj.makgora.ranking.leaderboard.Leaderboard;
+import org.usyj.makgora.vote.entity.UserBetStatsEntity;
+import org.usyj.makgora.vote.event.BetSettledEvent;
+import org.usyj.makgora.vote.repository.UserBetStatsRepository;
+import org.usyj.makgora.vote.service.UserBetStatsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 📈 정산 결과 → 랭킹 증분 반영
+ *
+ * - BetSettledEvent(정산 청크 커밋) 마다 베팅당 O(1) 로 갱신
+ *     · 카운터(승/패/연승/최고연승): 정산 청크와 같은 트랜잭션에서 누적된 user_bet_stats 를 IN 1회로 조회
+ *     · POINTS : 정산 순이익(보상 - 베팅) 누적
+ *     · WINRATE: 승률 × 10000 (소수 둘째 자리 퍼센트), 정산 베팅 수 min-bets 이상만 등록
+ *     · STREAK : 현재 연승 (연승이 끊기면 보드에서 제거)
+ * - backfill: user_bet_stats 재계산 후 보드를 다시 채움 (1회성 관리자 작업)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingStatsService {
+
+    /** 정산된 베팅의 유저별 순이익 */
+    private static final String PROFIT_SQL = """
+            SELECT vu.user_id, SUM(COALESCE(vu.reward_points, 0) - vu.points_bet)
+            FROM vote_users vu
+            JOIN votes v ON v.vote_id = vu.vote_id
+            JOIN vote_options o ON o.option_id = vu.option_id
+            WHERE v.status = 'REWARDED'
+              AND vu.is_cancelled = FALSE
+              AND o.correct_choice_id IS NOT NULL
+            GROUP BY vu.user_id
+            """;
+
+    private final UserBetStatsRepository statsRepository;
+    private final UserBetStatsService betStatsService;
+    private final Leaderboard leaderboard;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean backfilling = new AtomicBoolean(false);
+
+    @Value("${ranking.winrate.min-bets:10}")
+    private int minBets;
+
+    /* =========================================================
+       1️⃣ 증분 반영 (정산 청크 커밋 이후)
+       ========================================================= */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBetSettled(BetSettledEvent event) {
+        try {
+            Map<Integer, Long> profits = new HashMap<>();
+            for (BetSettledEvent.Outcome o : event.outcomes()) {
+                profits.merge(o.userId(), (long) o.reward() - o.pointsBet(), Long::sum);
+            }
+
+            profits.forEach((userId, profit) -> {
+                if (profit != 0) leaderboard.increment(RankingType.POINTS, userId, profit);
+            });
+            applyScores(statsRepository.findAllById(profits.keySet()));
+
+        } catch (Exception e) {
+            // 보드 유실은 backfill 로 복구 가능 → 정산 흐름은 막지 않는다
+            log.error("[RankingStats] 랭킹 반영 실패 voteId={} bets={}",
+                    event.voteId(), event.outcomes().size(), e);
+        }
+    }
+
+    /** WINRATE / STREAK 점수 반영 */
+    private void applyScores(List<UserBetStatsEntity> stats) {
+        Map<Integer, Double> winRates = new HashMap<>();
+        Map<Integer, Double> streaks = new HashMap<>();
+
+        for (UserBetStatsEntity s : stats) {
+            // 정산 수는 줄지 않으므로 기준 미만 유저는 보드에 없던 유저 → 제거 불필요
+            if (s.settled() >= minBets) winRates.put(s.getUserId(), winRateScore(s));
+
+            if (s.getCurrentWinStreak() > 0) streaks.put(s.getUserId(), (double) s.getCurrentWinStreak());
+            else leaderboard.remove(RankingType.STREAK, s.getUserId());
+        }
+
+        leaderboard.setScores(RankingType.WINRATE, winRates);
+        leaderboard.setScores(RankingType.STREAK, streaks);
+    }
+
+    private static double winRateScore(UserBetStatsEntity s) {
+        return Math.round(s.winRate() * 10000);
+    }
+
+    /* =========================================================
+       2️⃣ 백필 (정산 이력 전체 재계산)
+       - 재계산 중 정산 청크는 대기 후 재계산 결과 위에 반영 (UserBetStatsService 참고)
+       ========================================================= */
+    public BackfillResult backfill() {
+
+        if (!backfilling.compareAndSet(false, true)) {
+            throw new IllegalStateException("랭킹 백필이 이미 실행 중입니다.");
+        }
+
+        try {
+            long started = System.currentTimeMillis();
+
+            int users = betStatsService.rebuild();
+
+            Map<Integer, Double> points = new HashMap<>();
+            jdbcTemplate.query(PROFIT_SQL, (RowCallbackHandler) rs ->
+                    points.put(rs.getInt(1), rs.getDouble(2)));
+            leaderboard.setScores(RankingType.POINTS, points);
+
+            applyScores(statsRepository.findAll());
+
+            BackfillResult result = new BackfillResult(users, System.currentTimeMillis() - started);
+            log.info("[RankingStats] 백필 완료 {}", result);
+            return result;
+
+        } finally {
+            backfilling.set(false);
+        }
+    }
+
+    public record BackfillResult(int users, long tookMs) {}
+}
@@ -1,15 +1,19 @@
 package org.usyj.makgora.rssfeed.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.usyj.makgora.article.dto.response.ArticleResponse;
+import org.usyj.makgora.article.scheduler.ArticleCollectScheduler;
 import org.usyj.makgora.rssfeed.dto.request.RssFeedCreateRequest;
 import org.usyj.makgora.rssfeed.dto.request.RssFeedUpdateRequest;
 import org.usyj.makgora.rssfeed.dto.response.Categoryresponse;
+import org.usyj.makgora.rssfeed.dto.response.FeedScheduleResponse;
 import org.usyj.makgora.rssfeed.service.RssFeedCreateService;
+import org.usyj.makgora.rssfeed.service.RssFeedHealthService;
 import org.usyj.makgora.rssfeed.service.RssFeedInfoService;
 import org.usyj.makgora.rssfeed.service.RssFeedManagementService;
 import org.usyj.makgora.rssfeed.service.RssFeedUpdateService;
@@ -28,6 +32,8 @@ public class AdminRssFeedController {
     private final RssFeedUpdateService rssFeedUpdateService;
     private final RssFeedCreateService rssFeedCreateService;
     private final RssFeedManagementService rssFeedManagementService;
+    private final ArticleCollectScheduler collectScheduler;
+    private final RssFeedHealthService rssFeedHealthService;
 
     /**
      * RSS Feed 목록 조회
@@ -86,4 +92,35 @@ public class AdminRssFeedController {
         log.info("RSS Feed 삭제 완료: feedId={}", feedId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 피드별 폴링 스케줄 / 적중률 조회
+     * GET /api/admin/rss-feeds/schedule
+     */
+    @GetMapping("/schedule")
+    public ResponseEntity<List<FeedScheduleResponse>> getSchedules() {
+        return ResponseEntity.ok(collectScheduler.getSchedules());
+    }
+
+    /**
+     * 피드 즉시 폴링 (다음 스케줄 틱에 실행)
+     * POST /api/admin/rss-feeds/{feedId}/poll-now
+     */
+    @PostMapping("/{feedId}/poll-now")
+    public ResponseEntity<Void> pollNow(@PathVariable Integer feedId) {
+        collectScheduler.pollNow(feedId);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 피드 / 호스트 상태 (오류율, 지연 p50·p95, 서킷 상태)
+     * GET /api/admin/rss-feeds/health
+     */
+    @GetMapping("/health")
+    public ResponseEntity<Map<String, List<RssFeedHealthService.Snapshot>>> getHealth() {
+        return ResponseEntity.ok(Map.of(
+                "feeds", rssFeedHealthService.getFeedHealth(),
+                "hosts", rssFeedHealthService.getHostHealth()
+        ));
+    }
 }
@@ -0,0 +1,26 @@
+package org.usyj.makgora.rssfeed.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 🔹 피드별 적응형 폴링 스케줄 / 적중률
+ */
+@Getter
+@AllArgsConstructor
+public class FeedScheduleResponse {
+    private Integer feedId;
+    private String sourceName;
+    private String url;
+    private long intervalSec;          // 현재 폴링 간격
+    private LocalDateTime nextPollAt;  // 다음 폴링 예정 시각
+    private LocalDateTime lastPolledAt;
+    private String lastStatus;         // OK / NOT_MODIFIED / FAILED
+    private int lastSaved;             // 직전 폴링 신규 기사 수
+    private long polls;
+    private long hits;                 // 새 기사가 있었던 폴링 수
+    private double hitRate;
+    private boolean running;
+}
@@ -50,6 +50,39 @@ public class RssFeedEntity {
 
     private LocalDateTime lastFetched;
 
+    // 🔹 조건부 GET 용 응답 헤더 (변경 없으면 304)
+    @Column(length = 500)
+    private String etag;
+
+    @Column(name = "last_modified", length = 100)
+    private String lastModified;
+
+    // 🔹 적응형 폴링 스케줄 (ArticleCollectScheduler)
+    private LocalDateTime nextPollAt;
+
+    private Integer pollIntervalSec;
+
+    private Integer pollCount;      // 누적 폴링 횟수
+
+    private Integer pollHitCount;   // 새 기사가 있었던 폴링 횟수
+
+    // 🔹 상태 / 서킷 브레이커 (RssFeedHealthService)
+    private Integer healthScore;            // 0 ~ 100
+
+    private Integer consecutiveFailures;
+
+    @Column(length = 10)
+    private String circuitState;            // CLOSED / OPEN / HALF_OPEN
+
+    private LocalDateTime circuitOpenUntil;
+
+    private LocalDateTime lastSuccessAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime autoPausedAt;     // 자동 정지 시각 (수동 비활성화와 구분)
+
     @Enumerated(EnumType.STRING)
     @Column(length = 10, nullable = false)
     @Builder.Default
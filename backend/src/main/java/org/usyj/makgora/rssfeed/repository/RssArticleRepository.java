@@ -1,12 +1,15 @@
 package org.usyj.makgora.rssfeed.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.usyj.makgora.article.entity.ArticleAiTitleEntity;
 import org.usyj.makgora.article.entity.RssArticleEntity;
@@ -31,4 +34,38 @@ public interface RssArticleRepository extends JpaRepository<RssArticleEntity, In
     void updateThumbnail(Integer id, String thumbnail);
 
     List<RssArticleEntity> findByFeedAndLinkIn(RssFeedEntity feed, Set<String> links);
+
+    // 📥 수집 배치 중복 검사: 이미 저장된 링크만 반환 (IN 1회)
+    @Query("SELECT a.link FROM RssArticleEntity a WHERE a.link IN :links")
+    List<String> findExistingLinks(@Param("links") Collection<String> links);
+
+    // 📥 방금 일괄 INSERT 한 기사 ID 회수 [id, link, ingestToken]
+    @Query("SELECT a.id, a.link, a.ingestToken FROM RssArticleEntity a WHERE a.link IN :links")
+    List<Object[]> findIdsByLinks(@Param("links") Collection<String> links);
+
+    // 🏠 홈 카드용 top-N (썸네일 있는 기사, 최신순) [id, title, thumbnailUrl, publishedAt]
+    @Query("""
+        SELECT a.id, a.title, a.thumbnailUrl, a.publishedAt
+        FROM RssArticleEntity a
+        WHERE a.thumbnailUrl IS NOT NULL
+        ORDER BY a.publishedAt DESC
+    """)
+    List<Object[]> findLatestCardsWithThumbnail(Pageable pageable);
+
+    // 🏠 홈 카드용 top-N (전체 기사, 최신순) [id, title, thumbnailUrl, publishedAt]
+    @Query("""
+        SELECT a.id, a.title, a.thumbnailUrl, a.publishedAt
+        FROM RssArticleEntity a
+        ORDER BY a.publishedAt DESC
+    """)
+    List<Object[]> findLatestCards(Pageable pageable);
+
+    // 🏠 기사별 카테고리명 일괄 조회 [articleId, categoryName]
+    @Query("""
+        SELECT a.id, c.name
+        FROM RssArticleEntity a
+        JOIN a.categories c
+        WHERE a.id IN :articleIds
+    """)
+    List<Object[]> findCategoryNamesByArticleIds(@Param("articleIds") Collection<Integer> articleIds);
 }
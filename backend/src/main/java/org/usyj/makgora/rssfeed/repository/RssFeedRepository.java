@@ -1,5 +1,6 @@
 package org.usyj.makgora.rssfeed.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,16 @@ public interface RssFeedRepository extends JpaRepository<RssFeedEntity, Integer>
         return findByStatus(RssFeedEntity.Status.ACTIVE);
     }
 
+    // 자동 정지 대상: 연속 실패 + 마지막 성공(없으면 생성 시각)이 기준 시각 이전
+    @Query("""
+        SELECT f FROM RssFeedEntity f
+        WHERE f.status = org.usyj.makgora.rssfeed.entity.RssFeedEntity.Status.ACTIVE
+          AND f.consecutiveFailures >= :minFailures
+          AND COALESCE(f.lastSuccessAt, f.createdAt) < :before
+    """)
+    List<RssFeedEntity> findDeadFeeds(@Param("minFailures") int minFailures,
+                                      @Param("before") LocalDateTime before);
+
     // feed와 연결된 categories까지 한 번에 가져오기
     @Query("SELECT f FROM RssFeedEntity f LEFT JOIN FETCH f.categories WHERE f.id = :id")
     Optional<RssFeedEntity> findByIdWithCategories(@Param("id") Integer id);
@@ -0,0 +1,280 @@
+package org.usyj.makgora.rssfeed.service;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🩺 RSS 피드 / 호스트 상태 추적 + 서킷 브레이커
+ *
+ * - 키(피드 ID, 호스트) 별 최근 window-size 회 결과로 오류율 / 지연 p50·p95 계산
+ * - 서킷: CLOSED → (오류율 ≥ failure-rate 또는 연속 실패 ≥ failure-streak) → OPEN
+ *         OPEN 은 backoff 동안 요청 없이 즉시 스킵, 만료되면 HALF_OPEN 에서 1건만 시험 요청
+ *         시험 성공 → CLOSED, 실패 → 다시 OPEN (backoff 2배, 최대 max-backoff-sec)
+ * - 피드 단위 상태는 rss_feeds 에 저장 (RssFeedManagementService 가 죽은 피드 자동 정지에 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RssFeedHealthService {
+
+    private static final String UPDATE_HEALTH_SQL = """
+            UPDATE rss_feeds
+            SET health_score = ?, consecutive_failures = ?, circuit_state = ?, circuit_open_until = ?,
+                last_success_at = COALESCE(?, last_success_at), last_error = COALESCE(?, last_error)
+            WHERE feed_id = ?
+            """;
+
+    public enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${rss.health.window-size:20}")
+    private int windowSize;
+
+    @Value("${rss.health.min-calls:5}")
+    private int minCalls;
+
+    @Value("${rss.health.failure-rate:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${rss.health.failure-streak:3}")
+    private int failureStreakThreshold;
+
+    @Value("${rss.health.base-backoff-sec:60}")
+    private long baseBackoffSec;
+
+    @Value("${rss.health.max-backoff-sec:3600}")
+    private long maxBackoffSec;
+
+    private final Map<Integer, Health> feeds = new ConcurrentHashMap<>();
+    private final Map<String, Health> hosts = new ConcurrentHashMap<>();
+
+    /* =========================================================
+       1️⃣ 요청 허용 여부 (피드 + 호스트 서킷 모두 통과해야 함)
+       ========================================================= */
+    public boolean tryAcquire(Integer feedId, String url) {
+        long now = System.currentTimeMillis();
+        Health host = hosts.computeIfAbsent(hostOf(url), h -> new Health(windowSize));
+        Health feed = feeds.computeIfAbsent(feedId, id -> new Health(windowSize));
+
+        if (!host.allow(now)) return false;
+        if (!feed.allow(now)) {
+            host.releaseProbe();
+            return false;
+        }
+        return true;
+    }
+
+    /* =========================================================
+       2️⃣ 결과 기록
+       ========================================================= */
+    public void record(Integer feedId, String url, boolean success, long latencyMs, String error) {
+        long now = System.currentTimeMillis();
+        Health host = hosts.computeIfAbsent(hostOf(url), h -> new Health(windowSize));
+        Health feed = feeds.computeIfAbsent(feedId, id -> new Health(windowSize));
+
+        host.record(success, latencyMs, now, this);
+        Snapshot s = feed.record(success, latencyMs, now, this);
+
+        if (s.state() == CircuitState.OPEN && !success) {
+            log.warn("🔌 피드 서킷 OPEN | feedId:{} | 연속 실패:{} | 재시도:{}", feedId, s.consecutiveFailures(), s.openUntil());
+        }
+
+        try {
+            jdbcTemplate.update(UPDATE_HEALTH_SQL,
+                    s.healthScore(),
+                    s.consecutiveFailures(),
+                    s.state().name(),
+                    s.openUntil(),
+                    success ? toLocal(now) : null,
+                    success ? null : truncate(error),
+                    feedId);
+        } catch (Exception e) {
+            log.warn("⚠️ 피드 상태 저장 실패 | feedId:{} | {}", feedId, e.getMessage());
+        }
+    }
+
+    /** 피드 상태 초기화 (자동 정지 피드 재활성화 시) → 다음 요청은 빈 윈도우 / CLOSED 에서 시작 */
+    public void reset(Integer feedId) {
+        feeds.remove(feedId);
+    }
+
+    /* =========================================================
+       3️⃣ 조회
+       ========================================================= */
+    public List<Snapshot> getFeedHealth() {
+        return snapshots(feeds);
+    }
+
+    public List<Snapshot> getHostHealth() {
+        return snapshots(hosts);
+    }
+
+    private <K> List<Snapshot> snapshots(Map<K, Health> map) {
+        return map.entrySet().stream()
+                .map(e -> e.getValue().snapshot(String.valueOf(e.getKey()), this))
+                .sorted(Comparator.comparingInt(Snapshot::healthScore))
+                .toList();
+    }
+
+    /**
+     * 🔹 상태 스냅샷
+     * healthScore: 100 × (1 - 오류율) × 지연 보정(p95 2초 초과 시 감점, 최소 0.5배)
+     */
+    public record Snapshot(
+            String key,
+            CircuitState state,
+            int calls,
+            double errorRate,
+            long p50LatencyMs,
+            long p95LatencyMs,
+            int consecutiveFailures,
+            int healthScore,
+            LocalDateTime openUntil
+    ) {}
+
+    /* ======================= 내부 ======================== */
+
+    private long backoffMs(int openCount) {
+        long sec = baseBackoffSec << Math.min(20, Math.max(0, openCount - 1));
+        return Math.min(sec, maxBackoffSec) * 1000;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (Exception e) {
+            return url;
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return "unknown";
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    private static LocalDateTime toLocal(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+
+    /** 키 1개의 롤링 윈도우 + 서킷 상태 (인스턴스 단위 synchronized) */
+    private static final class Health {
+        private final boolean[] ok;
+        private final long[] latency;
+        private int count;
+        private int next;
+
+        private CircuitState state = CircuitState.CLOSED;
+        private long openUntil;
+        private int openCount;
+        private int consecutiveFailures;
+        private boolean probing;
+
+        Health(int windowSize) {
+            ok = new boolean[windowSize];
+            latency = new long[windowSize];
+        }
+
+        synchronized boolean allow(long now) {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (now < openUntil) return false;
+                    state = CircuitState.HALF_OPEN;
+                    probing = true;
+                    return true;
+                default:
+                    // HALF_OPEN: 시험 요청 1건만
+                    if (probing) return false;
+                    probing = true;
+                    return true;
+            }
+        }
+
+        /** 상위 키(호스트)는 통과했지만 하위 키(피드)에서 막힌 경우 시험 슬롯 반납 */
+        synchronized void releaseProbe() {
+            if (state == CircuitState.HALF_OPEN) probing = false;
+        }
+
+        synchronized Snapshot record(boolean success, long latencyMs, long now, RssFeedHealthService cfg) {
+            ok[next] = success;
+            latency[next] = latencyMs;
+            next = (next + 1) % ok.length;
+            count = Math.min(count + 1, ok.length);
+
+            if (success) {
+                consecutiveFailures = 0;
+                if (state != CircuitState.CLOSED) {
+                    state = CircuitState.CLOSED;
+                    openCount = 0;
+                }
+            } else {
+                consecutiveFailures++;
+                boolean trip = state == CircuitState.HALF_OPEN
+                        || consecutiveFailures >= cfg.failureStreakThreshold
+                        || (count >= cfg.minCalls && errorRate() >= cfg.failureRateThreshold);
+                if (trip) {
+                    state = CircuitState.OPEN;
+                    openCount++;
+                    openUntil = now + cfg.backoffMs(openCount);
+                }
+            }
+            probing = false;
+            return snapshot(null, cfg);
+        }
+
+        synchronized Snapshot snapshot(String key, RssFeedHealthService cfg) {
+            long[] sorted = Arrays.copyOf(latency, count);
+            Arrays.sort(sorted);
+            long p50 = percentile(sorted, 0.5);
+            long p95 = percentile(sorted, 0.95);
+
+            double errorRate = errorRate();
+            double latencyFactor = p95 <= 2000 ? 1.0 : Math.max(0.5, 2000.0 / p95);
+            int score = count == 0 ? 100 : (int) Math.round(100 * (1 - errorRate) * latencyFactor);
+
+            return new Snapshot(
+                    key,
+                    state,
+                    count,
+                    errorRate,
+                    p50,
+                    p95,
+                    consecutiveFailures,
+                    score,
+                    state == CircuitState.CLOSED ? null : toLocal(openUntil)
+            );
+        }
+
+        private double errorRate() {
+            if (count == 0) return 0;
+            int failures = 0;
+            for (int i = 0; i < count; i++) {
+                if (!ok[i]) failures++;
+            }
+            return (double) failures / count;
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int idx = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.usyj.makgora.rssfeed.service;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.article.entity.ArticleCategoryEntity;
@@ -24,6 +27,12 @@ public class RssFeedManagementService {
     private final ArticleCategoryRepository categoryRepo; // 카테고리 저장/조회용 레포지토리
     private final RssFeedRepository feedRepo;             // 피드 저장/조회용 레포지토리
 
+    @Value("${rss.health.pause-after-failures:20}")
+    private int pauseAfterFailures;
+
+    @Value("${rss.health.pause-after-hours:72}")
+    private long pauseAfterHours;
+
     // 배치 내 중복 방지용 캐시
     private final Map<String, ArticleCategoryEntity> categoryCache = new HashMap<>();
     private final Map<String, RssFeedEntity> feedCache = new HashMap<>();
@@ -129,6 +138,26 @@ public class RssFeedManagementService {
         feedRepo.save(feed);
     }
 
+    /**
+     * 🔹 죽은 피드 자동 정지
+     * - 연속 실패 pause-after-failures 회 이상 + 마지막 성공 후 pause-after-hours 경과
+     * - status=INACTIVE + autoPausedAt 기록 (관리자가 다시 활성화하면 수집 재개)
+     */
+    @Scheduled(cron = "${rss.health.auto-pause-cron:0 15 * * * *}")
+    @Transactional
+    public int autoPauseDeadFeeds() {
+        List<RssFeedEntity> dead = feedRepo.findDeadFeeds(
+                pauseAfterFailures, LocalDateTime.now().minusHours(pauseAfterHours));
+
+        for (RssFeedEntity feed : dead) {
+            feed.setStatus(RssFeedEntity.Status.INACTIVE);
+            feed.setAutoPausedAt(LocalDateTime.now());
+            log.warn("⏸️ 피드 자동 정지 | ID: {} | URL: {} | 연속 실패: {} | 마지막 오류: {}",
+                    feed.getId(), feed.getUrl(), feed.getConsecutiveFailures(), feed.getLastError());
+        }
+        return dead.size();
+    }
+
     /**
      * 배치 종료 후 캐시 초기화
      * - 다음 배치에서 중복 처리 방지용 캐시를 초기화
@@ -19,6 +19,7 @@ public class RssFeedUpdateService {
 
     private final RssFeedRepository rssFeedRepository;
     private final ArticleCategoryRepository categoryRepository;
+    private final RssFeedHealthService healthService;
 
     /**
      * RSS 피드 수정 처리 (전체 코드)
@@ -58,7 +59,16 @@ public class RssFeedUpdateService {
 
         // 5️⃣ 상태 업데이트
         if (request.getStatus() != null) {
-            feed.setStatus(RssFeedEntity.Status.valueOf(request.getStatus().toUpperCase()));
+            RssFeedEntity.Status status = RssFeedEntity.Status.valueOf(request.getStatus().toUpperCase());
+            // 자동 정지된 피드를 다시 켜면 실패 누적 / 서킷을 초기화 (바로 재정지 · OPEN 스킵 방지)
+            if (status == RssFeedEntity.Status.ACTIVE && feed.getAutoPausedAt() != null) {
+                feed.setAutoPausedAt(null);
+                feed.setConsecutiveFailures(0);
+                feed.setCircuitState(RssFeedHealthService.CircuitState.CLOSED.name());
+                feed.setCircuitOpenUntil(null);
+                healthService.reset(feed.getId());
+            }
+            feed.setStatus(status);
         }
 
         // 6️⃣ 저장 후 DTO 변환 반환
@@ -19,9 +19,14 @@ import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
 import com.rometools.rome.io.XmlReader;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class BBCSource implements RssFeedSource {
 
+    private final StreamingFeedParser streamingParser;
+
     @Override
     public Map<String, String> getCategoryFeeds() {
         Map<String, String> map = new HashMap<>();
@@ -32,43 +37,46 @@ public class BBCSource implements RssFeedSource {
     }
 
     @Override
-    public List<RssArticleCreateDTO> fetch(String categoryName, String feedUrl) {
+    public List<RssArticleCreateDTO> fetch(String categoryName, String feedUrl) throws Exception {
         List<RssArticleCreateDTO> items = new ArrayList<>();
-        try {
-            URL url = new URL(feedUrl);
-            SyndFeed feed = new SyndFeedInput().build(new XmlReader(url));
+        URL url = new URL(feedUrl);
+        SyndFeed feed = new SyndFeedInput().build(new XmlReader(url));
 
-            for (SyndEntry entry : feed.getEntries()) {
-                String title = entry.getTitle();
-                String link = entry.getLink();
-                String content = entry.getDescription() != null ? entry.getDescription().getValue() : null;
+        for (SyndEntry entry : feed.getEntries()) {
+            String title = entry.getTitle();
+            String link = entry.getLink();
+            String content = entry.getDescription() != null ? entry.getDescription().getValue() : null;
 
-                LocalDateTime publishedAt = entry.getPublishedDate() != null
-                        ? entry.getPublishedDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime()
-                        : LocalDateTime.now();
+            LocalDateTime publishedAt = entry.getPublishedDate() != null
+                    ? entry.getPublishedDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime()
+                    : LocalDateTime.now();
 
-                String thumbnailUrl = null;
-                MediaEntryModule media = (MediaEntryModule) entry.getModule(MediaEntryModule.URI);
-                if (media != null && media.getMetadata() != null && media.getMetadata().getThumbnail() != null) {
-                    Thumbnail[] thumbs = media.getMetadata().getThumbnail();
-                    if (thumbs.length > 0) thumbnailUrl = thumbs[0].getUrl().toString();
-                }
+            String thumbnailUrl = null;
+            MediaEntryModule media = (MediaEntryModule) entry.getModule(MediaEntryModule.URI);
+            if (media != null && media.getMetadata() != null && media.getMetadata().getThumbnail() != null) {
+                Thumbnail[] thumbs = media.getMetadata().getThumbnail();
+                if (thumbs.length > 0) thumbnailUrl = thumbs[0].getUrl().toString();
+            }
 
-                // 카테고리를 항상 리스트로 통일
-                List<String> categories = Collections.singletonList(categoryName);
+            // 카테고리를 항상 리스트로 통일
+            List<String> categories = Collections.singletonList(categoryName);
 
-                items.add(RssArticleCreateDTO.builder()
-                        .title(title)
-                        .link(link)
-                        .content(content)
-                        .publishedAt(publishedAt)
-                        .thumbnailUrl(thumbnailUrl)
-                        .categories(categories)
-                        .build());
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+            items.add(RssArticleCreateDTO.builder()
+                    .title(title)
+                    .link(link)
+                    .content(content)
+                    .publishedAt(publishedAt)
+                    .thumbnailUrl(thumbnailUrl)
+                    .categories(categories)
+                    .build());
         }
         return items;
     }
+
+    /** 스트리밍 / dom 분기와 후처리는 StreamingFeedParser.fetchSince 공용 */
+    @Override
+    public List<RssArticleCreateDTO> fetchSince(String categoryName, String feedUrl, LocalDateTime lastFetched)
+            throws Exception {
+        return streamingParser.fetchSince(this, categoryName, feedUrl, lastFetched);
+    }
 }
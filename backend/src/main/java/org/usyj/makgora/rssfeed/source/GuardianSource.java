@@ -22,9 +22,14 @@ import com.rometools.rome.io.XmlReader;
 import com.rometools.modules.mediarss.MediaEntryModule;
 import com.rometools.modules.mediarss.types.MediaContent;
 
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class GuardianSource implements RssFeedSource {
 
+    private final StreamingFeedParser streamingParser;
+
     @Override
     public Map<String, String> getCategoryFeeds() {
         Map<String, String> map = new HashMap<>();
@@ -35,52 +40,55 @@ public class GuardianSource implements RssFeedSource {
     }
 
     @Override
-    public List<RssArticleCreateDTO> fetch(String categoryName, String feedUrl) {
+    public List<RssArticleCreateDTO> fetch(String categoryName, String feedUrl) throws Exception {
         List<RssArticleCreateDTO> items = new ArrayList<>();
-        try {
-            URL url = new URL(feedUrl);
-            SyndFeed feed = new SyndFeedInput().build(new XmlReader(url));
+        URL url = new URL(feedUrl);
+        SyndFeed feed = new SyndFeedInput().build(new XmlReader(url));
 
-            for (SyndEntry entry : feed.getEntries()) {
-                String title = entry.getTitle();
-                String link = entry.getLink();
-                String content = entry.getDescription() != null ? entry.getDescription().getValue() : null;
+        for (SyndEntry entry : feed.getEntries()) {
+            String title = entry.getTitle();
+            String link = entry.getLink();
+            String content = entry.getDescription() != null ? entry.getDescription().getValue() : null;
 
-                LocalDateTime publishedAt = entry.getPublishedDate() != null
-                        ? entry.getPublishedDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime()
-                        : LocalDateTime.now();
+            LocalDateTime publishedAt = entry.getPublishedDate() != null
+                    ? entry.getPublishedDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime()
+                    : LocalDateTime.now();
 
-                // MediaEntryModule 사용
-                String thumbnailUrl = null;
-                Module module = entry.getModule(MediaEntryModule.URI);
-                if (module instanceof MediaEntryModule media) {
-                    MediaContent[] mediaContents = media.getMediaContents();
-                    if (mediaContents != null && mediaContents.length > 0) {
-                        MediaContent largest = Arrays.stream(mediaContents)
-                                .max(Comparator.comparingInt(MediaContent::getWidth))
-                                .orElse(mediaContents[0]);
-                        if (largest.getReference() != null) {
-                            thumbnailUrl = largest.getReference().toString();
-                        }
+            // MediaEntryModule 사용
+            String thumbnailUrl = null;
+            Module module = entry.getModule(MediaEntryModule.URI);
+            if (module instanceof MediaEntryModule media) {
+                MediaContent[] mediaContents = media.getMediaContents();
+                if (mediaContents != null && mediaContents.length > 0) {
+                    MediaContent largest = Arrays.stream(mediaContents)
+                            .max(Comparator.comparingInt(MediaContent::getWidth))
+                            .orElse(mediaContents[0]);
+                    if (largest.getReference() != null) {
+                        thumbnailUrl = largest.getReference().toString();
                     }
                 }
+            }
 
-                // 카테고리를 항상 리스트로 통일
-                List<String> categories = Collections.singletonList(categoryName);
+            // 카테고리를 항상 리스트로 통일
+            List<String> categories = Collections.singletonList(categoryName);
 
-                // RssArticleDTO 빌더 사용
-                items.add(RssArticleCreateDTO.builder()
-                        .title(title)
-                        .link(link)
-                        .content(content)
-                        .publishedAt(publishedAt)
-                        .thumbnailUrl(thumbnailUrl)
-                        .categories(categories)
-                        .build());
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+            // RssArticleDTO 빌더 사용
+            items.add(RssArticleCreateDTO.builder()
+                    .title(title)
+                    .link(link)
+                    .content(content)
+                    .publishedAt(publishedAt)
+                    .thumbnailUrl(thumbnailUrl)
+                    .categories(categories)
+                    .build());
         }
         return items;
     }
-}
\ No newline at end of file
+
+    /** 스트리밍 / dom 분기와 후처리는 StreamingFeedParser.fetchSince 공용 */
+    @Override
+    public List<RssArticleCreateDTO> fetchSince(String categoryName, String feedUrl, LocalDateTime lastFetched)
+            throws Exception {
+        return streamingParser.fetchSince(this, categoryName, feedUrl, lastFetched);
+    }
+}
@@ -1,5 +1,6 @@
 package org.usyj.makgora.rssfeed.source;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -9,6 +10,12 @@ public interface RssFeedSource {
     // 카테고리 이름 -> RSS 피드 URL
     Map<String, String> getCategoryFeeds();
 
-    // 주어진 카테고리, URL에서 기사 리스트 반환
-    List<RssArticleCreateDTO> fetch(String categoryName, String feedUrl);
-}
\ No newline at end of file
+    // 주어진 카테고리, URL에서 기사 리스트 반환 (네트워크 / 파싱 실패는 예외로 전달 → 피드 상태에 실패로 기록)
+    List<RssArticleCreateDTO> fetch(String categoryName, String feedUrl) throws Exception;
+
+    // 마지막 수집 시각 이후 기사만 반환 (스트리밍 파서 지원 소스는 오래된 구간에서 읽기 중단)
+    default List<RssArticleCreateDTO> fetchSince(String categoryName, String feedUrl, LocalDateTime lastFetched)
+            throws Exception {
+        return fetch(categoryName, feedUrl);
+    }
+}
@@ -0,0 +1,333 @@
+package org.usyj.makgora.rssfeed.source;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.usyj.makgora.article.dto.RssArticleCreateDTO;
+
+import com.rometools.rome.io.impl.DateParser;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🌊 StAX 기반 스트리밍 RSS / Atom 파서
+ *
+ * - Rome 처럼 SyndFeed 전체(DOM)를 만들지 않고 item / entry 하나씩 읽어 바로 DTO 로 내보냄
+ *   → 피드 크기와 무관하게 메모리 일정
+ * - since(마지막 수집 시각 - grace) 보다 오래된 엔트리가 older-streak-limit 개 연속되면 읽기 중단
+ *   → 이미 본 구간은 파싱 / 변환 / 중복 검사 모두 생략 (정렬이 약간 어긋난 피드 대비 연속 개수 기준)
+ * - 지원: RSS 2.0(item), Atom(entry), media:content / media:thumbnail, content:encoded, dc:date
+ * - rss.parser.mode=dom 이면 호출부가 기존 Rome 경로 사용
+ */
+@Slf4j
+@Component
+public class StreamingFeedParser {
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String MEDIA_NS = "http://search.yahoo.com/mrss/";
+    private static final String CONTENT_NS = "http://purl.org/rss/1.0/modules/content/";
+
+    private static final String USER_AGENT = "Makgora (https://makgora.store)";
+
+    private final XMLInputFactory xmlInputFactory;
+
+    @Value("${rss.parser.mode:streaming}")
+    private String mode;
+
+    @Value("${rss.parser.older-streak-limit:3}")
+    private int olderStreakLimit;
+
+    @Value("${rss.parser.since-grace-minutes:60}")
+    private long sinceGraceMinutes;
+
+    public StreamingFeedParser() {
+        xmlInputFactory = XMLInputFactory.newFactory();
+        // XXE 차단
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /** rss.parser.mode=streaming 여부 */
+    public boolean isStreaming() {
+        return "streaming".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 🔹 소스 공용 fetchSince
+     * - 스트리밍 모드: StAX 로 엔트리 단위 파싱, lastFetched 이전 구간에서 중단
+     * - dom 모드면 소스의 기존 Rome 경로(fetch)
+     * - fetch 와 동일 규칙: 카테고리는 소스 카테고리, 발행일 없으면 현재 시각
+     * - 연결 / 파싱 실패는 그대로 던짐 → 호출부가 피드 상태에 실패로 기록
+     */
+    public List<RssArticleCreateDTO> fetchSince(RssFeedSource source, String categoryName,
+                                                String feedUrl, LocalDateTime lastFetched) throws Exception {
+        if (!isStreaming()) {
+            return source.fetch(categoryName, feedUrl);
+        }
+
+        List<RssArticleCreateDTO> items = new ArrayList<>();
+        for (RssArticleCreateDTO dto : fetch(feedUrl, lastFetched)) {
+            dto.setCategories(Collections.singletonList(categoryName));
+            if (dto.getPublishedAt() == null) dto.setPublishedAt(LocalDateTime.now());
+            items.add(dto);
+        }
+        return items;
+    }
+
+    /* =========================================================
+       1️⃣ URL → DTO 목록 (소스 구현용)
+       ========================================================= */
+    public List<RssArticleCreateDTO> fetch(String feedUrl, LocalDateTime lastFetched) throws Exception {
+        HttpURLConnection conn = (HttpURLConnection) new URL(feedUrl).openConnection();
+        conn.setInstanceFollowRedirects(true);
+        conn.setConnectTimeout(5000);
+        conn.setReadTimeout(10000);
+        conn.setRequestProperty("User-Agent", USER_AGENT);
+
+        try (InputStream in = conn.getInputStream()) {
+            return parse(in, lastFetched);
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    /* =========================================================
+       2️⃣ InputStream → DTO 목록
+       ========================================================= */
+    public List<RssArticleCreateDTO> parse(InputStream in, LocalDateTime lastFetched) throws XMLStreamException {
+        List<RssArticleCreateDTO> items = new ArrayList<>();
+        parse(in, lastFetched, dto -> {
+            items.add(dto);
+            return true;
+        });
+        return items;
+    }
+
+    /**
+     * 🔹 엔트리 단위 스트리밍
+     * @param sink false 를 반환하면 즉시 중단
+     * @return 내보낸 엔트리 수
+     */
+    public int parse(InputStream in,
+                     LocalDateTime lastFetched,
+                     Predicate<RssArticleCreateDTO> sink) throws XMLStreamException {
+
+        LocalDateTime since = lastFetched != null ? lastFetched.minusMinutes(sinceGraceMinutes) : null;
+
+        XMLStreamReader r = xmlInputFactory.createXMLStreamReader(in);
+        int emitted = 0;
+        int olderStreak = 0;
+
+        try {
+            EntryState entry = null;
+
+            while (r.hasNext()) {
+                int event = r.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = r.getLocalName();
+
+                    if ("item".equals(name) || ("entry".equals(name) && ATOM_NS.equals(r.getNamespaceURI()))) {
+                        entry = new EntryState();
+                    } else if (entry != null) {
+                        readField(r, entry);
+                    }
+
+                } else if (event == XMLStreamConstants.END_ELEMENT && entry != null) {
+                    String name = r.getLocalName();
+                    if (!"item".equals(name) && !"entry".equals(name)) continue;
+
+                    RssArticleCreateDTO dto = entry.toDto();
+                    entry = null;
+
+                    // 이미 수집한 구간 → 연속되면 중단
+                    if (since != null && dto.getPublishedAt() != null && dto.getPublishedAt().isBefore(since)) {
+                        if (++olderStreak >= olderStreakLimit) {
+                            log.debug("[StreamingFeed] since={} 이전 엔트리 연속 {}건 → 읽기 중단", since, olderStreak);
+                            break;
+                        }
+                        continue;
+                    }
+                    olderStreak = 0;
+
+                    emitted++;
+                    if (!sink.test(dto)) break;
+                }
+            }
+        } finally {
+            r.close();
+        }
+
+        return emitted;
+    }
+
+    /* ======================= 필드 파싱 ======================== */
+
+    private void readField(XMLStreamReader r, EntryState e) throws XMLStreamException {
+        String name = r.getLocalName();
+        String ns = r.getNamespaceURI();
+
+        if (MEDIA_NS.equals(ns)) {
+            if ("content".equals(name)) {
+                String url = r.getAttributeValue(null, "url");
+                int width = parseInt(r.getAttributeValue(null, "width"));
+                if (url != null && (e.mediaUrl == null || width > e.mediaWidth)) {
+                    e.mediaUrl = url;
+                    e.mediaWidth = width;
+                }
+            } else if ("thumbnail".equals(name) && e.mediaThumbnail == null) {
+                e.mediaThumbnail = r.getAttributeValue(null, "url");
+            }
+            return;
+        }
+
+        if (CONTENT_NS.equals(ns) && "encoded".equals(name)) {
+            e.content = readText(r);
+            return;
+        }
+
+        switch (name) {
+            case "title" -> e.title = readText(r);
+            case "link" -> {
+                if (ATOM_NS.equals(ns)) {
+                    String rel = r.getAttributeValue(null, "rel");
+                    if (e.link == null && (rel == null || "alternate".equals(rel))) {
+                        e.link = r.getAttributeValue(null, "href");
+                    }
+                } else {
+                    e.link = readText(r);
+                }
+            }
+            case "description", "summary" -> e.description = readText(r);
+            case "content" -> e.content = readText(r);   // Atom content
+            case "pubDate", "published", "date" -> e.published = parseDate(readText(r));
+            case "updated" -> e.updated = parseDate(readText(r));
+            case "category" -> {
+                String term = r.getAttributeValue(null, "term");
+                String value = term != null ? term : readText(r);
+                if (value != null && !value.isBlank()) e.categories.add(value.trim());
+            }
+            case "guid", "id" -> e.guid = readText(r);
+            case "enclosure" -> {
+                String type = r.getAttributeValue(null, "type");
+                if (e.enclosure == null && type != null && type.startsWith("image")) {
+                    e.enclosure = r.getAttributeValue(null, "url");
+                }
+            }
+            default -> { }
+        }
+    }
+
+    /** 하위 태그(xhtml 등)가 섞여 있어도 텍스트만 이어 붙여 읽음 */
+    private String readText(XMLStreamReader r) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            switch (event) {
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        sb.append(r.getText());
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                default -> { }
+            }
+        }
+        String text = sb.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * 발행일 파싱: RFC 1123 / ISO-8601 빠른 경로 → 실패 시 Rome DateParser (DOM 경로와 같은 관대한 규칙)
+     * - 한 자리 일자, 타임존 약어(KST 등), 초 생략 같은 변형 포맷도 DOM 모드와 동일하게 인식
+     */
+    private static LocalDateTime parseDate(String value) {
+        if (value == null) return null;
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (Exception ignored) { }
+        try {
+            return OffsetDateTime.parse(value)
+                    .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (Exception ignored) { }
+
+        Date lenient = DateParser.parseDate(value, Locale.US);
+        return lenient != null
+                ? LocalDateTime.ofInstant(lenient.toInstant(), ZoneId.systemDefault())
+                : null;
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value != null ? Integer.parseInt(value) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** 엔트리 1건 파싱 중 상태 */
+    private static final class EntryState {
+        String title;
+        String link;
+        String description;
+        String content;
+        String guid;
+        LocalDateTime published;
+        LocalDateTime updated;
+        List<String> categories = new ArrayList<>();
+        String mediaUrl;
+        int mediaWidth = -1;
+        String mediaThumbnail;
+        String enclosure;
+
+        /** RssArticleCreateDTO.from(SyndEntry) 와 같은 우선순위로 변환 */
+        RssArticleCreateDTO toDto() {
+            String body = content != null ? content : description;
+
+            String thumbnailUrl = mediaUrl != null ? mediaUrl : mediaThumbnail;
+            if (thumbnailUrl == null) thumbnailUrl = enclosure;
+            if (thumbnailUrl == null && body != null) {
+                int imgStart = body.indexOf("<img");
+                if (imgStart != -1) {
+                    int srcStart = body.indexOf("src=\"", imgStart) + 5;
+                    int srcEnd = body.indexOf("\"", srcStart);
+                    if (srcStart > 4 && srcEnd > srcStart) {
+                        thumbnailUrl = body.substring(srcStart, srcEnd);
+                    }
+                }
+            }
+            if (thumbnailUrl == null && guid != null && guid.matches(".*\\.(jpg|jpeg|png|gif)$")) {
+                thumbnailUrl = guid;
+            }
+
+            return RssArticleCreateDTO.builder()
+                    .title(title)
+                    .link(link != null ? link : guid)
+                    .content(body)
+                    .publishedAt(published != null ? published : updated)
+                    .categories(List.copyOf(categories))
+                    .thumbnailUrl(thumbnailUrl)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.usyj.makgora.user.event;
+
+/**
+ * 🔔 유저 권한 / 상태 변경 이벤트
+ * - 관리자가 role 또는 status 를 바꿀 때 발행
+ * - JwtPrincipalResolver 가 커밋 이후 해당 유저의 인증 주체 캐시를 비우고,
+ *   변경 이전에 발급된 토큰은 DB 재검증 경로로 보낸다
+ */
+public record UserAuthChangedEvent(Integer userId) {}
@@ -1,10 +1,12 @@
 package org.usyj.makgora.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.user.dto.request.UserUpdateRequest;
 import org.usyj.makgora.user.entity.UserEntity;
+import org.usyj.makgora.user.event.UserAuthChangedEvent;
 import org.usyj.makgora.user.repository.UserRepository;
 
 @Service
@@ -12,6 +14,7 @@ import org.usyj.makgora.user.repository.UserRepository;
 public class UserUpdateService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserEntity getUserById(Integer id) {
@@ -38,9 +41,17 @@ public class UserUpdateService {
         if (request.getProfileFrame() != null) targetUser.setProfileFrame(request.getProfileFrame());
         if (request.getProfileBadge() != null) targetUser.setProfileBadge(request.getProfileBadge());
 
+        UserEntity.Role oldRole = targetUser.getRole();
+        UserEntity.Status oldStatus = targetUser.getStatus();
+
         if (request.getRole() != null) targetUser.setRole(request.getRole());
         if (request.getStatus() != null) targetUser.setStatus(request.getStatus());
 
+        // 🔔 권한/상태가 바뀌면 인증 주체 캐시 무효화 (커밋 이후)
+        if (targetUser.getRole() != oldRole || targetUser.getStatus() != oldStatus) {
+            eventPublisher.publishEvent(new UserAuthChangedEvent(id));
+        }
+
         return targetUser;
     }
 }
@@ -28,6 +28,37 @@ public class VoteCommentController {
         return ResponseEntity.ok(voteCommentService.getComments(voteId));
     }
 
+    /* ============================================
+       🔥 1-1) 루트 스레드 페이지 조회
+       - depth 아래 답글은 replyCount 만 → /{id}/replies 로 펼침
+       ============================================ */
+    @GetMapping("/page")
+    public ResponseEntity<?> getCommentPage(
+            @RequestParam Integer voteId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "2") int depth,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        Integer userId = user != null ? user.getId() : null;
+        return ResponseEntity.ok(
+                voteCommentService.getCommentPage(voteId, userId, page, size, depth)
+        );
+    }
+
+    /* ============================================
+       🔥 1-2) 깊은 답글 펼치기
+       ============================================ */
+    @GetMapping("/{id}/replies")
+    public ResponseEntity<?> getReplies(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "2") int depth,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        Integer userId = user != null ? user.getId() : null;
+        return ResponseEntity.ok(voteCommentService.getReplies(id, userId, depth));
+    }
+
     /* ============================================
        🔥 2) 댓글 작성 (AI Vote 전용)
        ============================================ */
@@ -1,5 +1,8 @@
 package org.usyj.makgora.vote.controller;
 
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,8 +20,11 @@ import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailMainResponse;
 import org.usyj.makgora.vote.dto.voteRequest.UserVoteCreateRequest;
 import org.usyj.makgora.vote.dto.voteRequest.VoteAiCreateRequest;
 import org.usyj.makgora.vote.dto.voteRequest.VoteParticipateRequest;
+import org.usyj.makgora.vote.dto.voteResponse.MyVotePageResponse;
 import org.usyj.makgora.vote.dto.voteResponse.OddsResponse;
+import org.usyj.makgora.vote.dto.voteResponse.VoteListPageResponse;
 import org.usyj.makgora.vote.dto.voteResponse.VoteTrendChartResponse;
+import org.usyj.makgora.vote.entity.VoteEntity;
 import org.usyj.makgora.vote.service.OddsService;
 import org.usyj.makgora.vote.service.VoteDetailService;
 import org.usyj.makgora.vote.service.VoteService;
@@ -44,6 +50,21 @@ public class VoteController {
         return ResponseEntity.ok(voteService.getVoteList());
     }
 
+    /** 🔥 투표 목록 (cursor 페이지네이션 + 필터) */
+    @GetMapping("/page")
+    public ResponseEntity<VoteListPageResponse> getVoteListPage(
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) VoteEntity.Status status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTo
+    ) {
+        return ResponseEntity.ok(
+                voteService.getVoteListPage(cursor, size, status, category, endFrom, endTo)
+        );
+    }
+
     /** 🔥 투표 상세 */
     @GetMapping("/{voteId}")
     public ResponseEntity<VoteDetailMainResponse> getVoteDetail(
@@ -134,6 +155,18 @@ public ResponseEntity<?> participateVote(
         );
     }
 
+    /** 🔥 내가 참여한 투표 (cursor 페이지네이션) */
+    @GetMapping("/my/page")
+    public ResponseEntity<MyVotePageResponse> getMyVotesPage(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                voteService.getMyVotesPage(user.getId(), cursor, size)
+        );
+    }
+
     /** 🔥 내 통계 */
     @GetMapping("/my/statistics")
     public ResponseEntity<?> getMyStatistics(
@@ -0,0 +1,40 @@
+package org.usyj.makgora.vote.dto;
+
+import java.time.LocalDateTime;
+
+import org.usyj.makgora.vote.entity.VoteEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 내 투표 목록 Projection (vote / issue / choice / 정답 choice 를 조인 1회로)
+ * - VoteUserRepository.findMyVoteRows 의 JPQL 생성자 프로젝션
+ * - 풀 금액은 옵션 / 정답 선택지에 저장된 집계 컬럼 (베팅 재조회 없음) → 프로필 최근 활동에서 사용
+ */
+@Getter
+@AllArgsConstructor
+public class MyVoteRowDTO {
+
+    private Long voteUserId;
+    private Integer voteId;
+    private String voteTitle;
+    private String issueTitle;
+
+    private Integer choiceId;
+    private String choiceText;
+    private Integer correctChoiceId;     // choice.option.correctChoice
+
+    private Integer pointsBet;
+    private Integer rewardPoints;
+    private Boolean cancelled;
+
+    private VoteEntity.Status voteStatus;
+    private LocalDateTime voteCreatedAt;
+    private LocalDateTime voteEndAt;
+
+    private Double feeRate;
+    private Integer optionPool;          // option.pointsTotal
+    private Integer correctPool;         // option.correctChoice.pointsTotal
+    private LocalDateTime createdAt;     // 베팅 시각
+}
@@ -0,0 +1,19 @@
+package org.usyj.makgora.vote.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 📊 선택지 단위 베팅 집계 (상세 페이지 Read Model)
+ * - VoteUserRepository.findChoiceStatsByVoteId 의 JPQL 생성자 프로젝션
+ * - (optionId, choiceId, 포인트 합, 참여 유저 수)
+ */
+@Getter
+@AllArgsConstructor
+public class VoteChoiceStatDTO {
+
+    private Integer optionId;
+    private Integer choiceId;
+    private Long pointsTotal;
+    private Long participants;
+}
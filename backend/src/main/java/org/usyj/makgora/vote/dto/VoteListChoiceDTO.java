@@ -0,0 +1,18 @@
+package org.usyj.makgora.vote.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 투표 목록 페이지 단위 옵션/선택지 Projection (voteId IN 1회 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class VoteListChoiceDTO {
+
+    private Integer voteId;
+    private Integer optionId;
+    private String optionTitle;
+    private Integer choiceId;      // 선택지 없는 옵션이면 null
+    private String choiceText;
+}
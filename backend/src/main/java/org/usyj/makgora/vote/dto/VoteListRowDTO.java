@@ -0,0 +1,30 @@
+package org.usyj.makgora.vote.dto;
+
+import java.time.LocalDateTime;
+
+import org.usyj.makgora.vote.entity.VoteEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 투표 목록 카드용 Projection (엔티티 로딩 없이 카드에 필요한 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class VoteListRowDTO {
+
+    private Integer voteId;
+    private String title;
+    private VoteEntity.Status status;
+    private LocalDateTime endAt;
+    private Integer totalPoints;
+    private Integer totalParticipants;
+    private LocalDateTime createdAt;
+
+    private String aiSummary;
+    private String sourceName;       // article.feed.sourceName
+    private Boolean fromCommunity;   // issue.communityPost 존재 여부
+    private String thumbnailUrl;
+    private String link;
+}
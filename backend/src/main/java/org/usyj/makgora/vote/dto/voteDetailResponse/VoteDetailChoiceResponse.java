@@ -8,7 +8,7 @@ import lombok.Data;
  * 옵션 내부의 개별 선택지(YES/NO/DRAW)에 대한 정보.
  * - 참여자수, 포인트량, 퍼센트 등을 포함
  */
-@Data @Builder
+@Data @Builder(toBuilder = true)
 public class VoteDetailChoiceResponse {
 
     private Integer choiceId;
@@ -40,5 +40,7 @@ public class VoteDetailCommentResponse {
 
     private Integer parentId;
 
+    private Integer replyCount;   // 직계 답글 수 (children 이 깊이 제한으로 비어 있어도 펼치기 판단용)
+
     private List<VoteDetailCommentResponse> children;
 }
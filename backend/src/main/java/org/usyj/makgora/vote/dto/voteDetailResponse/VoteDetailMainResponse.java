@@ -11,7 +11,7 @@ import java.util.Map;
  * 투표 상세 전체 Response Root
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class VoteDetailMainResponse {
 
     private Integer voteId;
@@ -11,7 +11,7 @@ import lombok.Data;
  * - 각 옵션은 YES/NO/DRAW 단위 선택지를 포함한다.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class VoteDetailOptionResponse {
 
     private Integer optionId;
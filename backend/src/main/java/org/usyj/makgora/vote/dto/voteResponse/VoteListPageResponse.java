@@ -0,0 +1,17 @@
+package org.usyj.makgora.vote.dto.voteResponse;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class VoteListPageResponse {
+
+    private List<VoteListItemResponse> items;
+
+    // 다음 페이지 요청 시 cursor 로 전달 (마지막 voteId), 없으면 null
+    private Integer nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,67 @@
+package org.usyj.makgora.vote.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 AI 투표 베팅 집계 (Materialized)
+ * - 참여 / 취소 / 정산 트랜잭션 안에서 UserBetStatsService 가 증분 UPSERT
+ * - 내 통계 조회와 승률 / 연승 랭킹이 이 행 하나만 읽는다
+ * - pending = totalBets - wins - losses (취소 포함, 기존 통계 정의와 동일)
+ */
+@Entity
+@Table(name = "User_Bet_Stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBetStatsEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    /** 전체 베팅 수 (취소 포함) */
+    @Column(name = "total_bets", nullable = false)
+    @Builder.Default
+    private Integer totalBets = 0;
+
+    @Column(name = "cancelled_bets", nullable = false)
+    @Builder.Default
+    private Integer cancelledBets = 0;
+
+    @Column(name = "wins", nullable = false)
+    @Builder.Default
+    private Integer wins = 0;
+
+    @Column(name = "losses", nullable = false)
+    @Builder.Default
+    private Integer losses = 0;
+
+    /** 현재 연승 (패배 시 0) */
+    @Column(name = "current_win_streak", nullable = false)
+    @Builder.Default
+    private Integer currentWinStreak = 0;
+
+    @Column(name = "max_win_streak", nullable = false)
+    @Builder.Default
+    private Integer maxWinStreak = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public int settled() {
+        return wins + losses;
+    }
+
+    public int pending() {
+        return Math.max(0, totalBets - settled());
+    }
+
+    /** 승률 (0 ~ 1) */
+    public double winRate() {
+        return settled() > 0 ? (double) wins / settled() : 0.0;
+    }
+}
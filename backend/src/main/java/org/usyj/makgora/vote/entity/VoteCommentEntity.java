@@ -60,7 +60,7 @@ public class VoteCommentEntity {
     private VoteOptionChoiceEntity choice;
 
     @Builder.Default
-    @OneToMany(mappedBy = "parent", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY)
     private List<VoteCommentEntity> children = new ArrayList<>();
 
     @Column(name = "is_deleted")
@@ -107,6 +107,11 @@ public class VoteCommentEntity {
         this.deletedAt = LocalDateTime.now();
     }
 
+    /** 부모 댓글 ID (프록시 초기화 없이 FK 값만) */
+    public Long parentCommentId() {
+        return parent != null ? parent.getCommentId() : null;
+    }
+
     public void addChild(VoteCommentEntity child) {
         children.add(child);
         child.setParent(this);
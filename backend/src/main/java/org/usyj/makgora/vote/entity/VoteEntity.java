@@ -10,7 +10,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "Votes")
+@Table(
+    name = "Votes",
+    indexes = {
+        // 홈 인기 투표 top-N
+        @Index(name = "idx_vote_total_participants", columnList = "total_participants")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
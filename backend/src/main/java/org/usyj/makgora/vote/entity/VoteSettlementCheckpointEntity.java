@@ -0,0 +1,53 @@
+package org.usyj.makgora.vote.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 정산 진행 체크포인트
+ * - 정산은 vote_user_id 오름차순 청크 단위로 커밋되며, 청크마다 마지막 처리 ID 를 기록
+ * - 서버가 정산 도중 죽어도 lastVoteUserId 이후부터 이어서 정산 (중복 지급 없음)
+ */
+@Entity
+@Table(name = "Vote_Settlement_Checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteSettlementCheckpointEntity {
+
+    /** 정산 대상 투표 ID (PK, 투표당 1행) */
+    @Id
+    @Column(name = "vote_id")
+    private Integer voteId;
+
+    /** 마지막으로 반영이 커밋된 vote_user_id (0 = 아직 없음) */
+    @Column(name = "last_vote_user_id", nullable = false)
+    @Builder.Default
+    private Long lastVoteUserId = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (startedAt == null) startedAt = now;
+        if (updatedAt == null) updatedAt = now;
+    }
+
+    public enum Status {
+        RUNNING,
+        DONE
+    }
+}
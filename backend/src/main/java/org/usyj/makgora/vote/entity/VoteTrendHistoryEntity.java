@@ -5,7 +5,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "vote_trend_history")
+@Table(
+    name = "vote_trend_history",
+    indexes = @Index(name = "idx_trend_vote_recorded", columnList = "vote_id, recorded_at")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,7 +47,14 @@ public class VoteTrendHistoryEntity {
     @Column(name = "total_points", nullable = false)
     private Integer totalPoints;
 
-    /** 🕒 기록된 시간 */
+    /** 🕒 기록된 시간 (버킷 시작 시각) */
     @Column(name = "recorded_at", nullable = false)
     private LocalDateTime recordedAt;
+
+    /**
+     * ⏱ 버킷 크기(분) : 1 / 10 / 60
+     * - null 은 버킷 도입 이전(베팅 1건당 1행) 기록
+     */
+    @Column(name = "bucket_minutes")
+    private Integer bucketMinutes;
 }
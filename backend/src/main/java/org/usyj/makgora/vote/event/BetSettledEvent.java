@@ -0,0 +1,15 @@
+package org.usyj.makgora.vote.event;
+
+import java.util.List;
+
+/**
+ * 🎯 베팅 정산 결과 이벤트 (정산 청크 단위)
+ * - VoteSettlementEngine 이 청크 트랜잭션 안에서 발행 → 커밋된 청크만 리스너로 전달
+ * - 재개된 정산은 체크포인트 이후 행만 담기므로 같은 베팅이 두 번 오지 않는다
+ * - RankingStatsService 가 유저별 승/패 / 연승 카운터와 랭킹을 갱신
+ */
+public record BetSettledEvent(Integer voteId, List<Outcome> outcomes) {
+
+    /** reward 는 패배 시 0 */
+    public record Outcome(long voteUserId, int userId, boolean win, int pointsBet, int reward) {}
+}
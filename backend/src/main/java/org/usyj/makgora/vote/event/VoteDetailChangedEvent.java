@@ -0,0 +1,17 @@
+package org.usyj.makgora.vote.event;
+
+/**
+ * 🔔 투표 상세 변경 이벤트
+ * - 참여 / 취소 / 정산 / 댓글 변경 시 발행
+ * - VoteDetailCache 가 커밋 이후 해당 voteId 캐시를 무효화
+ */
+public record VoteDetailChangedEvent(Integer voteId, Reason reason) {
+
+    public enum Reason {
+        PARTICIPATE,
+        CANCEL,
+        STATUS,
+        SETTLEMENT,
+        COMMENT
+    }
+}
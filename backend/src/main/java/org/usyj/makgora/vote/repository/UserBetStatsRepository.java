@@ -0,0 +1,9 @@
+package org.usyj.makgora.vote.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.usyj.makgora.vote.entity.UserBetStatsEntity;
+
+@Repository
+public interface UserBetStatsRepository extends JpaRepository<UserBetStatsEntity, Integer> {
+}
@@ -2,6 +2,8 @@ package org.usyj.makgora.vote.repository;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.usyj.makgora.vote.entity.VoteCommentEntity;
 
 /**
@@ -11,4 +13,16 @@ import org.usyj.makgora.vote.entity.VoteCommentEntity;
 public interface VoteCommentRepository extends JpaRepository<VoteCommentEntity, Long> {
 
     List<VoteCommentEntity> findByVote_IdAndParentIsNull(Integer voteId);
+
+    /**
+     * 투표 댓글 전체 (루트 + 대댓글) 1회 조회 → CommentTree 로 조립
+     * - user fetch join, parent 는 FK 값만 사용 (프록시 초기화 없음)
+     */
+    @Query("""
+        SELECT c FROM VoteCommentEntity c
+        JOIN FETCH c.user
+        WHERE c.vote.id = :voteId
+        ORDER BY c.createdAt ASC, c.commentId ASC
+    """)
+    List<VoteCommentEntity> findTreeByVoteId(@Param("voteId") Integer voteId);
 }
@@ -1,8 +1,11 @@
 package org.usyj.makgora.vote.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.usyj.makgora.vote.entity.VoteOptionChoiceEntity;
 
@@ -12,4 +15,13 @@ public interface VoteOptionChoiceRepository extends JpaRepository<VoteOptionChoi
 
   List<VoteOptionChoiceEntity> findByOptionIdOrderByPointsTotalDesc(Integer optionId);
 
+  // 🔥 트렌드 기록용: [voteId, optionId, choiceId, feeRate] (엔티티 로딩 X)
+  @Query("""
+      select o.vote.id, o.id, c.id, o.vote.feeRate
+      from VoteOptionChoiceEntity c
+      join c.option o
+      where o.vote.id in :voteIds
+  """)
+  List<Object[]> findChoiceKeysByVoteIds(@Param("voteIds") Collection<Integer> voteIds);
+
 }
\ No newline at end of file
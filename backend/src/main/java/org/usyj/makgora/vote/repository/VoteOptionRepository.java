@@ -1,5 +1,6 @@
 package org.usyj.makgora.vote.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.usyj.makgora.vote.dto.VoteListChoiceDTO;
 import org.usyj.makgora.vote.entity.VoteEntity;
 import org.usyj.makgora.vote.entity.VoteOptionEntity;
 
@@ -27,5 +29,27 @@ List<VoteOptionEntity> findAllWithChoicesByVoteId(Long voteId);
     """)
     List<VoteOptionEntity> findByVoteIdWithChoices(@Param("voteId") Integer voteId);
 
+    // 🔥 정산 대상 옵션: [optionId, correctChoiceId, odds]
+    @Query("""
+        select o.id, c.id, o.odds
+        from VoteOptionEntity o
+        left join o.correctChoice c
+        where o.vote.id = :voteId
+        order by o.id asc
+    """)
+    List<Object[]> findSettlementTargetsByVoteId(@Param("voteId") Integer voteId);
+
+    // 🔥 목록 페이지용: 페이지 내 투표들의 옵션 + 선택지 (IN 1회)
+    @Query("""
+        select new org.usyj.makgora.vote.dto.VoteListChoiceDTO(
+            o.vote.id, o.id, o.optionTitle, c.id, c.choiceText
+        )
+        from VoteOptionEntity o
+        left join o.choices c
+        where o.vote.id in :voteIds
+        order by o.id asc, c.id asc
+    """)
+    List<VoteListChoiceDTO> findListChoicesByVoteIds(@Param("voteIds") Collection<Integer> voteIds);
+
 }
 
@@ -1,12 +1,16 @@
 package org.usyj.makgora.vote.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.usyj.makgora.issue.entity.IssueEntity;
+import org.usyj.makgora.vote.dto.VoteListRowDTO;
 import org.usyj.makgora.vote.entity.VoteEntity;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,15 @@ public interface VoteRepository extends JpaRepository<VoteEntity, Integer> {
     // 상태별 투표 조회
     List<VoteEntity> findByStatus(VoteEntity.Status status);
 
+    // 상태별 투표 ID만 조회 (풀 엔진 시딩용, 엔티티 로딩 X)
+    @Query("SELECT v.id FROM VoteEntity v WHERE v.status = :status")
+    List<Integer> findIdsByStatus(@Param("status") VoteEntity.Status status);
+
+    // 주어진 ID 중 특정 상태가 아닌 투표 ID (풀 엔진 유휴 풀 정리용)
+    @Query("SELECT v.id FROM VoteEntity v WHERE v.id IN :ids AND v.status <> :status")
+    List<Integer> findIdsByIdInAndStatusNot(@Param("ids") Collection<Integer> ids,
+                                            @Param("status") VoteEntity.Status status);
+
     List<VoteEntity> findByStatusAndEndAtBefore(VoteEntity.Status status, LocalDateTime endAtBefore);
 
     // 특정 이슈 + 상태로 투표 조회
@@ -40,4 +53,54 @@ public interface VoteRepository extends JpaRepository<VoteEntity, Integer> {
 """)
 List<VoteEntity> findAllWithOptionsAndChoices();
 
+    // 🔥 상세 페이지용: vote + issue + article(feed, aiTitle, categories) 한 번에 로딩
+    @Query("""
+        SELECT v FROM VoteEntity v
+        LEFT JOIN FETCH v.issue i
+        LEFT JOIN FETCH i.article a
+        LEFT JOIN FETCH a.feed
+        LEFT JOIN FETCH a.aiTitle
+        LEFT JOIN FETCH a.categories
+        WHERE v.id = :voteId
+    """)
+    Optional<VoteEntity> findDetailById(@Param("voteId") Integer voteId);
+
+    // 🔥 목록 카드 Projection (keyset: voteId 내림차순, cursor 미만)
+    @Query("""
+        SELECT new org.usyj.makgora.vote.dto.VoteListRowDTO(
+            v.id, v.title, v.status, v.endAt, v.totalPoints, v.totalParticipants, v.createdAt,
+            i.aiSummary, f.sourceName,
+            CASE WHEN cp.id IS NOT NULL THEN true ELSE false END,
+            a.thumbnailUrl, a.link
+        )
+        FROM VoteEntity v
+        JOIN v.issue i
+        LEFT JOIN i.article a
+        LEFT JOIN a.feed f
+        LEFT JOIN i.communityPost cp
+        WHERE (:cursor IS NULL OR v.id < :cursor)
+          AND (:status IS NULL OR v.status = :status)
+          AND (:sourceName IS NULL OR f.sourceName = :sourceName)
+          AND (:communityOnly = false OR cp.id IS NOT NULL)
+          AND (:endFrom IS NULL OR v.endAt >= :endFrom)
+          AND (:endTo IS NULL OR v.endAt < :endTo)
+        ORDER BY v.id DESC
+    """)
+    List<VoteListRowDTO> findListPage(@Param("cursor") Integer cursor,
+                                      @Param("status") VoteEntity.Status status,
+                                      @Param("sourceName") String sourceName,
+                                      @Param("communityOnly") boolean communityOnly,
+                                      @Param("endFrom") LocalDateTime endFrom,
+                                      @Param("endTo") LocalDateTime endTo,
+                                      Pageable pageable);
+
+    // 🏠 홈 인기 투표 top-N (참여자 수 내림차순)
+    // [voteId, title, status, endAt, totalPoints, totalParticipants]
+    @Query("""
+        SELECT v.id, v.title, v.status, v.endAt, v.totalPoints, v.totalParticipants
+        FROM VoteEntity v
+        ORDER BY v.totalParticipants DESC
+    """)
+    List<Object[]> findTopByParticipants(Pageable pageable);
+
 }
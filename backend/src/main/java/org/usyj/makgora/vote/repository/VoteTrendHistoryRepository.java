@@ -2,6 +2,8 @@ package org.usyj.makgora.vote.repository;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.usyj.makgora.vote.entity.VoteTrendHistoryEntity;
 
 /**
@@ -14,4 +16,14 @@ public interface VoteTrendHistoryRepository extends JpaRepository<VoteTrendHisto
 
     // vote.id 기준 + 시간 오름차순
     List<VoteTrendHistoryEntity> findByVote_IdOrderByRecordedAtAsc(Integer voteId);
+
+    // 🔥 차트/통계용: choice, option 까지 fetch (N+1 방지) + 시간 오름차순
+    @Query("""
+        select h from VoteTrendHistoryEntity h
+        join fetch h.choice c
+        join fetch h.option o
+        where h.vote.id = :voteId
+        order by h.recordedAt asc
+    """)
+    List<VoteTrendHistoryEntity> findSeriesByVoteId(@Param("voteId") Integer voteId);
 }
@@ -1,12 +1,16 @@
 package org.usyj.makgora.vote.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.usyj.makgora.vote.dto.MyVoteRowDTO;
+import org.usyj.makgora.vote.dto.VoteChoiceStatDTO;
 import org.usyj.makgora.vote.entity.VoteUserEntity;
 
 @Repository
@@ -24,6 +28,29 @@ public interface VoteUserRepository extends JpaRepository<VoteUserEntity, Long>
 
     List<VoteUserEntity> findByUserId(Integer userId);
 
+    // 🔥 내 투표 목록 Projection (keyset: voteUserId 내림차순, cursor 미만 / cursor 없으면 처음부터)
+    @Query("""
+        select new org.usyj.makgora.vote.dto.MyVoteRowDTO(
+            vu.id, v.id, v.title, i.title,
+            c.id, c.choiceText, cc.id,
+            vu.pointsBet, vu.rewardPoints, vu.isCancelled,
+            v.status, v.createdAt, v.endAt,
+            v.feeRate, co.pointsTotal, cc.pointsTotal, vu.createdAt
+        )
+        from VoteUserEntity vu
+        join vu.vote v
+        left join v.issue i
+        left join vu.choice c
+        left join c.option co
+        left join co.correctChoice cc
+        where vu.user.id = :userId
+          and (:cursor is null or vu.id < :cursor)
+        order by vu.id desc
+    """)
+    List<MyVoteRowDTO> findMyVoteRows(@Param("userId") Integer userId,
+                                      @Param("cursor") Long cursor,
+                                      Pageable pageable);
+
 
     /* ===============================
        Normal Vote
@@ -109,4 +136,41 @@ int countParticipantsByVoteId(@Param("voteId") Integer voteId);
           and v.isCancelled = false
     """)
     int countParticipantsByOptionId(@Param("optionId") Integer optionId);
-}
\ No newline at end of file
+
+    // 🔥 배당 풀 시딩용: vote / option / choice 단위 포인트 합 + 참여 수
+    // [voteId, optionId, choiceId, sum(pointsBet), count]
+    @Query("""
+        select v.vote.id, v.option.id, v.choice.id, coalesce(sum(v.pointsBet), 0), count(v)
+        from VoteUserEntity v
+        where v.vote.id in :voteIds
+          and v.isCancelled = false
+        group by v.vote.id, v.option.id, v.choice.id
+    """)
+    List<Object[]> aggregatePoolsByVoteIds(@Param("voteIds") Collection<Integer> voteIds);
+
+    // 🔥 상세 페이지 Read Model: option / choice 단위 포인트 합 + 참여 유저 수 (1 query)
+    @Query("""
+        select new org.usyj.makgora.vote.dto.VoteChoiceStatDTO(
+            v.option.id, v.choice.id, sum(v.pointsBet), count(distinct v.user.id)
+        )
+        from VoteUserEntity v
+        where v.vote.id = :voteId
+          and v.isCancelled = false
+        group by v.option.id, v.choice.id
+    """)
+    List<VoteChoiceStatDTO> findChoiceStatsByVoteId(@Param("voteId") Integer voteId);
+
+    // 🔥 정산용 keyset 페이지: vote_user_id 오름차순, afterId 이후만 (엔티티 로딩 없음)
+    // [voteUserId, optionId, choiceId, userId, pointsBet]
+    @Query("""
+        select v.id, v.option.id, v.choice.id, v.user.id, v.pointsBet
+        from VoteUserEntity v
+        where v.vote.id = :voteId
+          and v.isCancelled = false
+          and v.id > :afterId
+        order by v.id asc
+    """)
+    List<Object[]> findSettlementPage(@Param("voteId") Integer voteId,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+}
@@ -14,7 +14,6 @@ import org.usyj.makgora.vote.entity.VoteOptionEntity;
 import org.usyj.makgora.vote.repository.VoteOptionChoiceRepository;
 import org.usyj.makgora.vote.repository.VoteOptionRepository;
 import org.usyj.makgora.vote.repository.VoteRepository;
-import org.usyj.makgora.vote.repository.VoteUserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,8 +34,8 @@ public class OddsService {
 
     private final VoteRepository voteRepository;
     private final VoteOptionRepository optionRepository;
-    private final VoteUserRepository voteUserRepository;
     private final VoteOptionChoiceRepository choiceRepository;
+    private final VotePoolService votePoolService;
 
     private static final double MAX_ODDS = 10.0;
 
@@ -56,8 +55,9 @@ public OddsResponse getCurrentOdds(Integer voteId) {
 
                 Integer optionId = option.getId();
 
-                Integer totalPool =
-                        voteUserRepository.sumPointsByOptionId(optionId);
+                // 🔥 배당 풀 엔진에서 조회 (SUM 쿼리 X)
+                long totalPool =
+                        votePoolService.getOptionPoints(voteId, optionId);
 
                 // 🔥 정답 choice 풀
                 VoteOptionChoiceEntity correctChoice =
@@ -65,25 +65,16 @@ public OddsResponse getCurrentOdds(Integer voteId) {
 
                 long winnerPool =
                         (correctChoice != null)
-                                ? voteUserRepository.sumPointsByChoiceId(correctChoice.getId())
+                                ? votePoolService.getChoicePoints(voteId, correctChoice.getId())
                                 : 0;
 
-                double odds;
-
-                if (totalPool <= 0 || winnerPool <= 0) {
-                    odds = 1.0;
-                } else {
-                    odds = (double) totalPool / winnerPool;
-                }
-
-                odds = odds * (1.0 - feeRate);
-                odds = Math.min(MAX_ODDS, Math.max(1.0, round(odds)));
+                double odds = calculateOptionOdds(totalPool, winnerPool, feeRate);
 
                 return OddsResponse.OptionOdds.builder()
                         .optionId(optionId)
                         .optionTitle(option.getOptionTitle())
                         .optionPool((int) totalPool)
-                        .participantsCount(option.getParticipantsCount())
+                        .participantsCount((int) votePoolService.getOptionParticipants(voteId, optionId))
                         .odds(odds)
                         .build();
 
@@ -96,6 +87,24 @@ public OddsResponse getCurrentOdds(Integer voteId) {
             .build();
 }
 
+    /* =====================================================
+       🔹 옵션 현재 배당률 공식 (풀 기준)
+       - 상세페이지 Read Model 에서도 같은 공식 사용
+       ===================================================== */
+    public double calculateOptionOdds(long totalPool, long winnerPool, double feeRate) {
+
+        double odds;
+
+        if (totalPool <= 0 || winnerPool <= 0) {
+            odds = 1.0;
+        } else {
+            odds = (double) totalPool / winnerPool;
+        }
+
+        odds = odds * (1.0 - feeRate);
+        return Math.min(MAX_ODDS, Math.max(1.0, round(odds)));
+    }
+
     /* =====================================================
        🔹 예상 배당률 (베팅 직전 시뮬레이션)
        ===================================================== */
@@ -126,11 +135,12 @@ public OddsResponse getCurrentOdds(Integer voteId) {
 
         double feeRate = vote.getFeeRate() != null ? vote.getFeeRate() : 0.10;
 
-        Integer optionPool =
-                voteUserRepository.sumPointsByOptionId(option.getId());
+        // 🔥 배당 풀 엔진에서 조회 (SUM 쿼리 X)
+        long optionPool =
+                votePoolService.getOptionPoints(voteId, option.getId());
 
-        Integer choicePool =
-                voteUserRepository.sumPointsByChoiceId(choice.getId());
+        long choicePool =
+                votePoolService.getChoicePoints(voteId, choice.getId());
 
         long newOptionPool = optionPool + pointsBet;
         long newChoicePool = choicePool + pointsBet;
@@ -0,0 +1,278 @@
+package org.usyj.makgora.vote.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.usyj.makgora.vote.dto.voteResponse.VoteStatisticsResponse;
+import org.usyj.makgora.vote.entity.UserBetStatsEntity;
+import org.usyj.makgora.vote.event.BetSettledEvent;
+import org.usyj.makgora.vote.repository.UserBetStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 📊 유저별 베팅 집계 (user_bet_stats)
+ *
+ * - 참여 / 취소 / 정산 청크 트랜잭션 안에서 증분 UPSERT → 호출한 트랜잭션과 함께 커밋 / 롤백
+ * - 내 통계는 PK 조회 1회
+ * - rebuild: vote_users 이력으로 전체 재계산 (도입 이전 데이터 / 불일치 복구용 1회성 작업)
+ *     · 기동 시 테이블이 비어 있고 베팅 이력이 있으면 자동 1회 실행 (도입 직후 기존 유저 통계가 0 으로 보이지 않게)
+ *     · MySQL GET_LOCK 으로 인스턴스 간 1회만 실행
+ *     · 읽기 + 덮어쓰기를 한 트랜잭션에서 locking read(FOR SHARE) 로 → 재계산 중 들어온 증분은
+ *       커밋 이후로 대기했다가 재계산 결과 위에 더해진다 (덮어써져 사라지지 않음)
+ * - UPSERT 는 row alias(AS new) 사용 (VALUES(col) 은 MySQL 8.0.20 부터 deprecated)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBetStatsService {
+
+    private static final String BET_SQL = """
+            INSERT INTO user_bet_stats
+                (user_id, total_bets, cancelled_bets, wins, losses, current_win_streak, max_win_streak, updated_at)
+            VALUES (?, 1, 0, 0, 0, 0, 0, ?) AS new
+            ON DUPLICATE KEY UPDATE total_bets = user_bet_stats.total_bets + 1, updated_at = new.updated_at
+            """;
+
+    private static final String CANCEL_SQL = """
+            INSERT INTO user_bet_stats
+                (user_id, total_bets, cancelled_bets, wins, losses, current_win_streak, max_win_streak, updated_at)
+            VALUES (?, 0, 1, 0, 0, 0, 0, ?) AS new
+            ON DUPLICATE KEY UPDATE cancelled_bets = user_bet_stats.cancelled_bets + 1, updated_at = new.updated_at
+            """;
+
+    /**
+     * 정산 결과 1건 (new.wins = 1 이면 승)
+     * ⚠️ MySQL 은 UPDATE 절을 왼쪽부터 평가 → max 를 current 보다 먼저 계산해야 갱신 전 연승을 본다
+     */
+    private static final String OUTCOME_SQL = """
+            INSERT INTO user_bet_stats
+                (user_id, total_bets, cancelled_bets, wins, losses, current_win_streak, max_win_streak, updated_at)
+            VALUES (?, 0, 0, ?, ?, ?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE
+                max_win_streak = IF(new.wins = 1,
+                        GREATEST(user_bet_stats.max_win_streak, user_bet_stats.current_win_streak + 1),
+                        user_bet_stats.max_win_streak),
+                current_win_streak = IF(new.wins = 1, user_bet_stats.current_win_streak + 1, 0),
+                wins = user_bet_stats.wins + new.wins,
+                losses = user_bet_stats.losses + new.losses,
+                updated_at = new.updated_at
+            """;
+
+    private static final String REPLACE_SQL = """
+            INSERT INTO user_bet_stats
+                (user_id, total_bets, cancelled_bets, wins, losses, current_win_streak, max_win_streak, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE
+                total_bets = new.total_bets,
+                cancelled_bets = new.cancelled_bets,
+                wins = new.wins,
+                losses = new.losses,
+                current_win_streak = new.current_win_streak,
+                max_win_streak = new.max_win_streak,
+                updated_at = new.updated_at
+            """;
+
+    private static final String HAS_BETS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM vote_users WHERE vote_id IS NOT NULL)";
+
+    private static final String TOTALS_SQL = """
+            SELECT user_id, COUNT(*), SUM(CASE WHEN is_cancelled THEN 1 ELSE 0 END)
+            FROM vote_users
+            WHERE vote_id IS NOT NULL
+            GROUP BY user_id
+            FOR SHARE
+            """;
+
+    /** 정산된 베팅을 정산 순서(투표 정산 시각, vote_user_id) 로 keyset 순회 */
+    private static final String SETTLED_PAGE_SQL = """
+            SELECT vu.vote_user_id, vu.user_id, COALESCE(vu.choice_id = o.correct_choice_id, FALSE), v.updated_at
+            FROM vote_users vu
+            JOIN votes v ON v.vote_id = vu.vote_id
+            JOIN vote_options o ON o.option_id = vu.option_id
+            WHERE v.status = 'REWARDED'
+              AND vu.is_cancelled = FALSE
+              AND o.correct_choice_id IS NOT NULL
+              AND (v.updated_at > ? OR (v.updated_at = ? AND vu.vote_user_id > ?))
+            ORDER BY v.updated_at, vu.vote_user_id
+            LIMIT ?
+            FOR SHARE
+            """;
+
+    /** 재계산 인스턴스 간 잠금 (세션 단위 → 같은 트랜잭션 커넥션에서 획득 / 해제) */
+    private static final String REBUILD_LOCK = "user_bet_stats_rebuild";
+    private static final String GET_LOCK_SQL = "SELECT GET_LOCK(?, 0)";
+    private static final String RELEASE_LOCK_SQL = "SELECT RELEASE_LOCK(?)";
+
+    private final UserBetStatsRepository statsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${vote.bet-stats.rebuild-chunk-size:5000}")
+    private int chunkSize;
+
+    /* =========================================================
+       1️⃣ 증분 반영 (호출자 트랜잭션 안에서)
+       ========================================================= */
+    public void recordBet(Integer userId) {
+        jdbcTemplate.update(BET_SQL, userId, now());
+    }
+
+    public void recordCancel(Integer userId) {
+        jdbcTemplate.update(CANCEL_SQL, userId, now());
+    }
+
+    /** 정산 청크의 결과 (vote_user_id 순서 그대로 반영) */
+    public void recordOutcomes(List<BetSettledEvent.Outcome> outcomes) {
+        if (outcomes.isEmpty()) return;
+
+        Timestamp now = now();
+        List<Object[]> args = new ArrayList<>(outcomes.size());
+        for (BetSettledEvent.Outcome o : outcomes) {
+            int win = o.win() ? 1 : 0;
+            args.add(new Object[] { o.userId(), win, 1 - win, win, win, now });
+        }
+        jdbcTemplate.batchUpdate(OUTCOME_SQL, args);
+    }
+
+    /* =========================================================
+       2️⃣ 조회
+       ========================================================= */
+    public VoteStatisticsResponse getStatistics(Integer userId) {
+
+        UserBetStatsEntity s = statsRepository.findById(userId)
+                .orElseGet(() -> UserBetStatsEntity.builder().userId(userId).build());
+
+        return VoteStatisticsResponse.builder()
+                .totalBets(s.getTotalBets())
+                .wins(s.getWins())
+                .losses(s.getLosses())
+                .pending(s.pending())
+                .winRate(s.winRate())
+                .currentWinStreak(s.getCurrentWinStreak())
+                .maxWinStreak(s.getMaxWinStreak())
+                .build();
+    }
+
+    /* =========================================================
+       3️⃣ 전체 재계산
+       - 실행 중에는 베팅 / 취소 / 정산 쓰기가 locking read 에 막혀 대기 → 한가한 시간에 실행
+       ========================================================= */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (statsRepository.count() > 0) return;
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_BETS_SQL, Boolean.class))) return;
+
+            Integer users = withRebuildLock(() -> {
+                // 잠금 대기 중 다른 인스턴스가 먼저 적재했으면 건너뜀
+                if (statsRepository.count() > 0) return 0;
+
+                log.info("[BetStats] user_bet_stats 비어 있음 → 베팅 이력으로 초기 적재");
+                return rebuildLocked();
+            });
+            if (users == null) {
+                log.info("[BetStats] 다른 인스턴스가 초기 적재 중 → 건너뜀");
+            }
+        } catch (Exception e) {
+            // 실패해도 기동은 계속 → 관리자 백필(/api/admin/rankings/backfill) 로 재시도
+            log.error("[BetStats] 초기 적재 실패", e);
+        }
+    }
+
+    public int rebuild() {
+        Integer users = withRebuildLock(this::rebuildLocked);
+        if (users == null) {
+            throw new IllegalStateException("베팅 집계 재계산이 이미 실행 중입니다.");
+        }
+        return users;
+    }
+
+    /** 한 트랜잭션(= 한 커넥션) 안에서 GET_LOCK → 작업 → RELEASE_LOCK. 잠금을 못 잡으면 null */
+    private Integer withRebuildLock(Supplier<Integer> work) {
+        return transactionTemplate.execute(status -> {
+            Integer acquired = jdbcTemplate.queryForObject(GET_LOCK_SQL, Integer.class, REBUILD_LOCK);
+            if (acquired == null || acquired != 1) return null;
+
+            try {
+                return work.get();
+            } finally {
+                jdbcTemplate.queryForObject(RELEASE_LOCK_SQL, Integer.class, REBUILD_LOCK);
+            }
+        });
+    }
+
+    private int rebuildLocked() {
+
+        long started = System.currentTimeMillis();
+
+        // [total, cancelled, wins, losses, currentStreak, maxStreak]
+        Map<Integer, int[]> acc = new HashMap<>();
+
+        jdbcTemplate.query(TOTALS_SQL, (RowCallbackHandler) rs -> {
+            int[] a = acc.computeIfAbsent(rs.getInt(1), k -> new int[6]);
+            a[0] = rs.getInt(2);
+            a[1] = rs.getInt(3);
+        });
+
+        Timestamp afterAt = new Timestamp(0);
+        long afterId = 0L;
+
+        while (true) {
+            List<Object[]> page = jdbcTemplate.query(SETTLED_PAGE_SQL,
+                    (rs, i) -> new Object[] { rs.getLong(1), rs.getInt(2), rs.getBoolean(3), rs.getTimestamp(4) },
+                    afterAt, afterAt, afterId, chunkSize);
+            if (page.isEmpty()) break;
+
+            for (Object[] row : page) {
+                int[] a = acc.computeIfAbsent((Integer) row[1], k -> new int[6]);
+                if ((Boolean) row[2]) {
+                    a[2]++;
+                    a[4]++;
+                    a[5] = Math.max(a[5], a[4]);
+                } else {
+                    a[3]++;
+                    a[4] = 0;
+                }
+            }
+
+            Object[] last = page.get(page.size() - 1);
+            afterId = (Long) last[0];
+            afterAt = (Timestamp) last[3];
+
+            if (page.size() < chunkSize) break;
+        }
+
+        Timestamp now = now();
+        List<Object[]> args = new ArrayList<>(Math.min(acc.size(), chunkSize));
+        for (Map.Entry<Integer, int[]> e : acc.entrySet()) {
+            int[] a = e.getValue();
+            args.add(new Object[] { e.getKey(), a[0], a[1], a[2], a[3], a[4], a[5], now });
+            if (args.size() >= chunkSize) {
+                jdbcTemplate.batchUpdate(REPLACE_SQL, args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) jdbcTemplate.batchUpdate(REPLACE_SQL, args);
+
+        log.info("[BetStats] 재계산 완료 users={} took={}ms", acc.size(), System.currentTimeMillis() - started);
+        return acc.size();
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,101 @@
+package org.usyj.makgora.vote.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailMainResponse;
+import org.usyj.makgora.vote.event.VoteDetailChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🗂 투표 상세 캐시 (유저 무관 파트)
+ *
+ * - key: voteId, value: (버전, 옵션/배당/통계/기사/댓글이 채워진 응답)
+ * - voteId 별 버전 카운터를 두고, 변경 이벤트가 오면 버전 증가 + 캐시 제거
+ * - 빌드 시작 시점의 버전과 저장 시점의 버전이 다르면 저장하지 않음
+ *   (빌드 도중 들어온 베팅/댓글이 오래된 값으로 덮이지 않도록)
+ * - 쓰기 트랜잭션 안에서 만든 응답(미커밋 데이터)은 캐싱하지 않음
+ * - 이벤트 없이 바뀌는 값(기사 조회수 등)은 TTL 로 갱신
+ */
+@Slf4j
+@Component
+public class VoteDetailCache {
+
+    @Value("${vote.detail.cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${vote.detail.cache.ttl-ms:30000}")
+    private long ttlMillis;
+
+    /** voteId → 버전 */
+    private final Map<Integer, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /** voteId → 캐시 엔트리 (LRU) */
+    private final Map<Integer, Entry> entries =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    public VoteDetailMainResponse get(Integer voteId, Supplier<VoteDetailMainResponse> loader) {
+
+        if (isWriteTransaction()) {
+            return loader.get();
+        }
+
+        long version = version(voteId).get();
+
+        Entry cached = entries.get(voteId);
+        if (cached != null
+                && cached.version() == version
+                && System.currentTimeMillis() - cached.cachedAt() < ttlMillis) {
+            return cached.response();
+        }
+
+        VoteDetailMainResponse built = loader.get();
+
+        // 빌드 도중 변경이 없었을 때만 저장
+        if (version(voteId).get() == version) {
+            entries.put(voteId, new Entry(version, System.currentTimeMillis(), built));
+        }
+        return built;
+    }
+
+    /* =========================================================
+       🔔 무효화 (커밋 이후)
+       - 트랜잭션 밖에서 발행된 이벤트도 즉시 처리
+       ========================================================= */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDetailChanged(VoteDetailChangedEvent event) {
+        evict(event.voteId());
+        log.debug("[VoteDetailCache] evict voteId={} reason={}", event.voteId(), event.reason());
+    }
+
+    public void evict(Integer voteId) {
+        if (voteId == null) return;
+        version(voteId).incrementAndGet();
+        entries.remove(voteId);
+    }
+
+    private AtomicLong version(Integer voteId) {
+        return versions.computeIfAbsent(voteId, id -> new AtomicLong());
+    }
+
+    private boolean isWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record Entry(long version, long cachedAt, VoteDetailMainResponse response) {}
+}
@@ -1,30 +1,43 @@
 package org.usyj.makgora.vote.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.usyj.makgora.global.comment.CommentReactionResolver;
+import org.usyj.makgora.global.comment.CommentTree;
+import org.usyj.makgora.global.comment.ReactionState;
 import org.usyj.makgora.user.entity.UserEntity;
 import org.usyj.makgora.user.repository.UserRepository;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailCommentResponse;
 import org.usyj.makgora.vote.entity.VoteCommentEntity;
 import org.usyj.makgora.vote.entity.VoteEntity;
+import org.usyj.makgora.vote.event.VoteDetailChangedEvent;
 import org.usyj.makgora.vote.repository.VoteCommentRepository;
 import org.usyj.makgora.vote.repository.VoteRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class VoteDetailCommentService {
 
+    /** 페이지 조회 상한 (루트 스레드 수 / 펼침 깊이) */
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DEPTH = 10;
+
     private final VoteRepository voteRepository;
     private final UserRepository userRepository;
     private final VoteCommentRepository voteCommentRepository;
 
     private final StringRedisTemplate redis;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentReactionResolver reactionResolver;
 
     /* ================================
        🔑 Redis Key Builder
@@ -35,11 +48,8 @@ public class VoteDetailCommentService {
     private String dislikeUserKey(Long id) { return "VOTE_COMMENT_DISLIKED:" + id; }
     private String countKey(Object id) { return "VOTE_COMMENT_COUNT:" + id; }
 
-    private int getRedisInt(String v) {
-        if (v == null) return 0;
-        try { return Integer.parseInt(v); }
-        catch (Exception e) { return 0; }
-    }
+    private final CommentReactionResolver.KeyScheme reactionKeys = new CommentReactionResolver.KeyScheme(
+            this::likeKey, this::dislikeKey, this::likeUserKey, this::dislikeUserKey);
 
     /* ================================
        🔥 공통 댓글 생성 (AI Vote 전용)
@@ -98,6 +108,10 @@ public class VoteDetailCommentService {
         // 전체 댓글 수 카운트 (필요시 사용)
         redis.opsForValue().increment(countKey(voteId));
 
+        // 🔔 상세 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(
+                new VoteDetailChangedEvent(voteId, VoteDetailChangedEvent.Reason.COMMENT));
+
         // 작성자는 바로 myLike/myDislike 계산 위해 userId 같이 넘김
         return convertTreeNode(comment, userId);
     }
@@ -116,12 +130,71 @@ public class VoteDetailCommentService {
     @Transactional(readOnly = true)
     public List<VoteDetailCommentResponse> getComments(Integer voteId, Integer userId) {
 
-        List<VoteCommentEntity> roots =
-                voteCommentRepository.findByVote_IdAndParentIsNull(voteId);
+        CommentTree<VoteCommentEntity> tree = loadTree(voteId);
+        Map<Long, ReactionState> reactions =
+                reactionsOf(tree.flatten(tree.roots(), CommentTree.UNLIMITED), userId);
+
+        return tree.render((c, children, replyCount) ->
+                toResponse(c, reactionOf(reactions, c), children, replyCount));
+    }
+
+    /**
+     * 루트 스레드 페이지 조회
+     * - depth 아래 답글은 replyCount 만 내려가고 getReplies 로 펼친다
+     */
+    @Transactional(readOnly = true)
+    public CommentTree.CommentPage<VoteDetailCommentResponse> getCommentPage(
+            Integer voteId, Integer userId, int page, int size, int depth
+    ) {
+        // 잘못된 page / size / depth 는 500 대신 허용 범위로 보정
+        int pageNo = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int maxDepth = clampDepth(depth);
+
+        CommentTree<VoteCommentEntity> tree = loadTree(voteId);
 
-        return roots.stream()
-                .map(root -> convertTreeNode(root, userId))
-                .toList();
+        // 이번 페이지에 실제로 렌더링되는 댓글만 반응 조회
+        Map<Long, ReactionState> reactions =
+                reactionsOf(tree.flatten(tree.roots(pageNo, pageSize), maxDepth), userId);
+
+        return tree.page(pageNo, pageSize, maxDepth, (c, children, replyCount) ->
+                toResponse(c, reactionOf(reactions, c), children, replyCount));
+    }
+
+    /** 깊은 답글 펼치기 (해당 댓글 포함 하위 depth 단계) */
+    @Transactional(readOnly = true)
+    public VoteDetailCommentResponse getReplies(Long commentId, Integer userId, int depth) {
+
+        VoteCommentEntity comment = voteCommentRepository.findById(commentId)
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+        if (comment.getVote() == null) {
+            return convertTreeNode(comment, userId);
+        }
+
+        CommentTree<VoteCommentEntity> tree = loadTree(comment.getVote().getId());
+        VoteCommentEntity node = tree.find(commentId)
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+        int maxDepth = clampDepth(depth);
+        Map<Long, ReactionState> reactions = reactionsOf(tree.flatten(List.of(node), maxDepth), userId);
+
+        return tree.<VoteDetailCommentResponse>render(List.of(node), maxDepth, (c, children, replyCount) ->
+                        toResponse(c, reactionOf(reactions, c), children, replyCount))
+                .get(0);
+    }
+
+    private int clampDepth(int depth) {
+        return Math.min(Math.max(depth, 0), MAX_DEPTH);
+    }
+
+    /** 투표 댓글 전체 1회 조회 → 메모리 트리 */
+    private CommentTree<VoteCommentEntity> loadTree(Integer voteId) {
+        return CommentTree.of(
+                voteCommentRepository.findTreeByVoteId(voteId),
+                VoteCommentEntity::getCommentId,
+                VoteCommentEntity::parentCommentId
+        );
     }
 
     /* ================================
@@ -170,6 +243,12 @@ public class VoteDetailCommentService {
             }
         }
 
+        // 🔔 상세 캐시의 좋아요/싫어요 수 무효화
+        if (comment.getVote() != null) {
+            eventPublisher.publishEvent(new VoteDetailChangedEvent(
+                    comment.getVote().getId(), VoteDetailChangedEvent.Reason.COMMENT));
+        }
+
         // 방금 누른 기준으로 myLike/myDislike 포함해서 다시 내려줌
         return convertTreeNode(comment, userId);
     }
@@ -187,6 +266,11 @@ public class VoteDetailCommentService {
         }
 
         comment.softDelete();
+
+        if (comment.getVote() != null) {
+            eventPublisher.publishEvent(new VoteDetailChangedEvent(
+                    comment.getVote().getId(), VoteDetailChangedEvent.Reason.COMMENT));
+        }
     }
 
     /* ================================
@@ -198,28 +282,54 @@ public class VoteDetailCommentService {
         return convertTreeNode(c, null);
     }
 
-    // userId 있으면 Redis에서 내가 누른 상태까지 반영
+    // 단건 응답(작성/반응)용: 해당 댓글의 하위 트리를 엔티티 연관으로 변환
     private VoteDetailCommentResponse convertTreeNode(VoteCommentEntity c, Integer userId) {
 
-        int like = getRedisInt(redis.opsForValue().get(likeKey(c.getCommentId())));
-        int dislike = getRedisInt(redis.opsForValue().get(dislikeKey(c.getCommentId())));
+        List<VoteCommentEntity> subtree = new ArrayList<>();
+        collectSubtree(c, subtree);
 
-        boolean myLike = false;
-        boolean myDislike = false;
+        return renderSubtree(c, reactionsOf(subtree, userId));
+    }
 
-        if (userId != null) {
-            String userStr = userId.toString();
-            myLike = Boolean.TRUE.equals(redis.opsForSet().isMember(likeUserKey(c.getCommentId()), userStr));
-            myDislike = Boolean.TRUE.equals(redis.opsForSet().isMember(dislikeUserKey(c.getCommentId()), userStr));
-        }
+    private VoteDetailCommentResponse renderSubtree(VoteCommentEntity c, Map<Long, ReactionState> reactions) {
 
         List<VoteDetailCommentResponse> children =
                 c.getChildren() == null
                         ? List.of()
                         : c.getChildren().stream()
-                              .map(child -> convertTreeNode(child, userId))
+                              .map(child -> renderSubtree(child, reactions))
                               .toList();
 
+        return toResponse(c, reactionOf(reactions, c), children, children.size());
+    }
+
+    private void collectSubtree(VoteCommentEntity c, List<VoteCommentEntity> out) {
+        out.add(c);
+        if (c.getChildren() != null) {
+            c.getChildren().forEach(child -> collectSubtree(child, out));
+        }
+    }
+
+    /* ================================
+       🔥 반응 일괄 조회 (pipeline 1회)
+       ================================ */
+    private Map<Long, ReactionState> reactionsOf(List<VoteCommentEntity> comments, Integer userId) {
+        return reactionResolver.resolve(
+                comments.stream().map(VoteCommentEntity::getCommentId).toList(), userId, reactionKeys);
+    }
+
+    private ReactionState reactionOf(Map<Long, ReactionState> reactions, VoteCommentEntity c) {
+        return reactions.getOrDefault(c.getCommentId(), ReactionState.NONE);
+    }
+
+    // reaction 은 조회 유저 기준으로 이미 계산된 상태 (userId 없으면 myLike/myDislike = false)
+    private VoteDetailCommentResponse toResponse(
+            VoteCommentEntity c,
+            ReactionState reaction,
+            List<VoteDetailCommentResponse> children,
+            int replyCount
+    ) {
+
         return VoteDetailCommentResponse.builder()
                 .commentId(c.getCommentId().intValue())
                 .voteId(c.getVote() != null ? c.getVote().getId() : null)
@@ -231,10 +341,10 @@ public class VoteDetailCommentService {
                 .position(c.getPosition())
                 .userPosition(c.getUserPosition())
 
-                .likeCount(like)
-                .dislikeCount(dislike)
-                .myLike(myLike)
-                .myDislike(myDislike)
+                .likeCount((int) reaction.likeCount())
+                .dislikeCount((int) reaction.dislikeCount())
+                .myLike(reaction.liked())
+                .myDislike(reaction.disliked())
 
                 .linkedChoiceId(null)        // 필요 시 나중에 추가
                 .linkedNormalChoiceId(null)  // 필요 시 나중에 추가
@@ -244,6 +354,7 @@ public class VoteDetailCommentService {
 
                 .parentId(c.getParent() != null ? c.getParent().getCommentId().intValue() : null)
                 .children(children)
+                .replyCount(replyCount)
                 .build();
     }
 }
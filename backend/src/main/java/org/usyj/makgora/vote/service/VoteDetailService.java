@@ -3,22 +3,20 @@ package org.usyj.makgora.vote.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.usyj.makgora.article.entity.ArticleAiTitleEntity;
 import org.usyj.makgora.article.entity.ArticleCategoryEntity;
 import org.usyj.makgora.article.entity.RssArticleEntity;
-import org.usyj.makgora.article.repository.ArticleAiTitleRepository;
+import org.usyj.makgora.global.comment.CommentTree;
+import org.usyj.makgora.vote.dto.VoteChoiceStatDTO;
 import org.usyj.makgora.vote.dto.voteDetailResponse.MyParticipationResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailArticleResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailChoiceResponse;
@@ -29,7 +27,6 @@ import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailOptionResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailParticipationResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailSettlementSummaryResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailStatisticsResponse;
-import org.usyj.makgora.vote.dto.voteResponse.OddsResponse;
 import org.usyj.makgora.vote.dto.voteResponse.VoteTrendChartResponse;
 import org.usyj.makgora.vote.entity.VoteCommentEntity;
 import org.usyj.makgora.vote.entity.VoteEntity;
@@ -37,6 +34,7 @@ import org.usyj.makgora.vote.entity.VoteOptionChoiceEntity;
 import org.usyj.makgora.vote.entity.VoteOptionEntity;
 import org.usyj.makgora.vote.entity.VoteTrendHistoryEntity;
 import org.usyj.makgora.vote.entity.VoteUserEntity;
+import org.usyj.makgora.vote.event.VoteDetailChangedEvent;
 import org.usyj.makgora.vote.repository.VoteCommentRepository;
 import org.usyj.makgora.vote.repository.VoteOptionRepository;
 import org.usyj.makgora.vote.repository.VoteRepository;
@@ -57,64 +55,86 @@ public class VoteDetailService {
     private final VoteUserRepository voteUserRepository;
     private final VoteTrendHistoryRepository trendRepository;
     private final VoteCommentRepository voteCommentRepository;
-    private final ArticleAiTitleRepository aiTitleRepository;
     private final OddsService oddsService;
+    private final VoteDetailCache voteDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final double MAX_ODDS = 10.0;
     private static final double FEE_RATE = 0.01;
+    private static final int MAX_SERIES_POINTS = 300;
 
     /* =======================================================
      * Main Entry
+     * - 유저 무관 파트는 VoteDetailCache 에서 조회 (voteId + 버전)
+     * - 내 참여 정보(myParticipation)만 매 요청마다 덧씌움
      * ======================================================= */
     public VoteDetailMainResponse getVoteDetail(Integer voteId, Integer userId) {
 
-        VoteEntity vote = voteRepository.findById(voteId)
+        VoteDetailMainResponse shared =
+                voteDetailCache.get(voteId, () -> buildSharedDetail(voteId));
+
+        return overlayMyParticipation(shared, userId);
+    }
+
+    /* =======================================================
+     * 유저 무관 상세 (캐시 대상)
+     * - 베팅 수와 무관하게 고정 개수의 쿼리로 구성
+     *   1) vote + issue + article graph (fetch join)
+     *   2) options + choices (fetch join)
+     *   3) option/choice 단위 집계 projection
+     *   (+ trend / comments)
+     * ======================================================= */
+    private VoteDetailMainResponse buildSharedDetail(Integer voteId) {
+
+        VoteEntity vote = voteRepository.findDetailById(voteId)
                 .orElseThrow(() -> new RuntimeException("Vote not found"));
 
         List<VoteOptionEntity> options =
-                voteOptionRepository.findByVoteId(vote.getId());
+                voteOptionRepository.findByVoteIdWithChoices(vote.getId());
 
-        List<VoteUserEntity> validBets =
-                voteUserRepository.findByVoteId(vote.getId()).stream()
-                        .filter(vu -> !Boolean.TRUE.equals(vu.getIsCancelled()))
-                        .toList();
+        // choiceId -> 집계
+        Map<Integer, VoteChoiceStatDTO> choiceStats =
+                voteUserRepository.findChoiceStatsByVoteId(vote.getId()).stream()
+                        .filter(st -> st.getChoiceId() != null)
+                        .collect(Collectors.toMap(VoteChoiceStatDTO::getChoiceId, st -> st));
+
+        double feeRate = Optional.ofNullable(vote.getFeeRate()).orElse(0.0);
 
         VoteDetailArticleResponse article = loadArticle(vote);
-        OddsResponse oddsResponse = oddsService.getCurrentOdds(voteId);
         VoteDetailOddsResponse odds = VoteDetailOddsResponse.builder()
         .voteId(voteId) // ✅ 추가
         .odds(
-                oddsResponse.getOptions().stream()
-                        .map(o -> VoteDetailOddsResponse.OddsItem.builder()
-                                .optionId(o.getOptionId())
-                                .optionTitle(
-                                        options.stream()
-                                                .filter(opt -> opt.getId().intValue() == o.getOptionId())
-                                                .map(VoteOptionEntity::getOptionTitle)
-                                                .findFirst()
-                                                .orElse(null)
-                                ) // ✅ 추가
-                                .odds(o.getOdds())
+                options.stream()
+                        .map(opt -> VoteDetailOddsResponse.OddsItem.builder()
+                                .optionId(opt.getId())
+                                .optionTitle(opt.getOptionTitle()) // ✅ 추가
+                                .odds(
+                                        oddsService.calculateOptionOdds(
+                                                sumPoints(opt.getChoices(), choiceStats),
+                                                opt.getCorrectChoice() != null
+                                                        ? pointsOf(choiceStats.get(opt.getCorrectChoice().getId()))
+                                                        : 0,
+                                                Optional.ofNullable(vote.getFeeRate()).orElse(0.10)
+                                        )
+                                )
                                 .history(List.of())
                                 .build())
                         .toList()
         )
         .build();
         List<VoteDetailOptionResponse> optionResponses =
-        loadOptions(options, validBets, userId, odds);
+        loadOptions(options, choiceStats, feeRate);
         VoteDetailStatisticsResponse statistics = loadStatistics(voteId);
-        VoteDetailParticipationResponse myParticipation =
-                loadMyParticipation(validBets, userId);
         List<VoteDetailCommentResponse> comments = loadComments(voteId);
 
-        long totalPoints = validBets.stream()
-                .mapToLong(v -> v.getPointsBet() == null ? 0 : v.getPointsBet())
+        long totalPoints = choiceStats.values().stream()
+                .mapToLong(this::pointsOf)
                 .sum();
 
-        int totalParticipants = (int) validBets.stream()
-                .map(v -> v.getUser().getId())
-                .distinct()
-                .count();
+        // (vote_id, user_id) 유니크 → 선택지별 참여 유저 수의 합 = 전체 참여 유저 수
+        int totalParticipants = (int) choiceStats.values().stream()
+                .mapToLong(this::participantsOf)
+                .sum();
 
         Map<Integer, Integer> correctChoicesByOption =
                 options.stream()
@@ -131,7 +151,9 @@ public class VoteDetailService {
         boolean isRewarded = Boolean.TRUE.equals(vote.getRewarded());
 
         VoteDetailSettlementSummaryResponse settlementSummary =
-                isResolved ? buildSettlementSummary(validBets, vote) : null;
+                isResolved
+                        ? buildSettlementSummary(options, choiceStats, totalPoints, totalParticipants, feeRate)
+                        : null;
 
         return VoteDetailMainResponse.builder()
                 .voteId(voteId)
@@ -157,120 +179,103 @@ public class VoteDetailService {
                 .options(optionResponses)
                 .odds(odds)
                 .statistics(statistics)
-                .myParticipation(myParticipation)
                 .comments(comments)
 
                 .bettors(Collections.emptyList())
                 .activityLog(Collections.emptyList())
                 .settlementSummary(settlementSummary)
-
-                .expectedOdds(
-                        myParticipation != null
-                                ? myParticipation.getExpectedOdds()
-                                : null
-                )
-                .expectedReward(
-                        myParticipation != null
-                                ? myParticipation.getExpectedReward()
-                                : null
-                )
                 .build();
     }
 
     /* =======================================================
-     * Odds (Option 기준)
+     * 내 참여 정보 Overlay
+     * - 캐시된 응답은 건드리지 않고 복사본에만 반영
+     * - 내 선택지가 있는 경우에만 option/choice DTO 복사
      * ======================================================= */
-    private List<VoteDetailOptionResponse> loadOptions(
-        List<VoteOptionEntity> options,
-        List<VoteUserEntity> bets,
-        Integer userId,
-        VoteDetailOddsResponse odds // ✅ optionOddsMap 만들려고 추가
-) {
-    // ✅ optionId -> odds map
-    Map<Long, Double> optionOddsMap = new HashMap<>();
-    if (odds != null && odds.getOdds() != null) {
-        for (var item : odds.getOdds()) {
-            if (item.getOptionId() != null) {
-                optionOddsMap.put(item.getOptionId().longValue(),
-                        item.getOdds() != null ? item.getOdds() : 1.0);
-            }
-        }
-    }
+    private VoteDetailMainResponse overlayMyParticipation(
+            VoteDetailMainResponse shared,
+            Integer userId
+    ) {
+        VoteUserEntity myBet =
+                userId == null
+                        ? null
+                        : voteUserRepository.findByUserIdAndVoteId(userId, shared.getVoteId())
+                                .filter(vu -> !Boolean.TRUE.equals(vu.getIsCancelled()))
+                                .orElse(null);
 
-    Integer myChoiceId = bets.stream()
-            .filter(v -> userId != null && v.getUser().getId().equals(userId))
-            .map(v -> v.getChoice() != null ? v.getChoice().getId().intValue() : null)
-            .findFirst()
-            .orElse(null);
+        VoteDetailParticipationResponse myParticipation =
+                loadMyParticipation(myBet, userId);
 
-    return options.stream().map(opt -> {
+        Integer myChoiceId =
+                myBet != null && myBet.getChoice() != null
+                        ? myBet.getChoice().getId()
+                        : null;
 
-        // ✅ 해당 option에 속한 bets만
-        List<VoteUserEntity> optionBets = bets.stream()
-                .filter(v -> v.getOption() != null
-                        && Objects.equals(v.getOption().getId(), opt.getId()))
+        List<VoteDetailOptionResponse> options =
+                myChoiceId == null || shared.getOptions() == null
+                        ? shared.getOptions()
+                        : shared.getOptions().stream()
+                                .map(o -> o.toBuilder()
+                                        .choices(
+                                                o.getChoices().stream()
+                                                        .map(c -> myChoiceId.equals(c.getChoiceId())
+                                                                ? c.toBuilder().isMyChoice(true).build()
+                                                                : c)
+                                                        .toList()
+                                        )
+                                        .build())
+                                .toList();
+
+        return shared.toBuilder()
+                .options(options)
+                .myParticipation(myParticipation)
+                .expectedOdds(myParticipation.getExpectedOdds())
+                .expectedReward(myParticipation.getExpectedReward())
+                .build();
+    }
 
-                .toList();
+    /* =======================================================
+     * Read Model Util
+     * ======================================================= */
+    private long pointsOf(VoteChoiceStatDTO st) {
+        return st == null || st.getPointsTotal() == null ? 0 : st.getPointsTotal();
+    }
 
-        int totalParticipants = (int) optionBets.stream()
-                .map(v -> v.getUser().getId())
-                .distinct()
-                .count();
+    private long participantsOf(VoteChoiceStatDTO st) {
+        return st == null || st.getParticipants() == null ? 0 : st.getParticipants();
+    }
 
-        long totalPoints = optionBets.stream()
-                .mapToLong(v -> v.getPointsBet() == null ? 0 : v.getPointsBet())
-                .sum();
+    private long sumPoints(List<VoteOptionChoiceEntity> choices, Map<Integer, VoteChoiceStatDTO> stats) {
+        return choices.stream().mapToLong(c -> pointsOf(stats.get(c.getId()))).sum();
+    }
 
-        // ✅ choice별 집계 (participantsCount, pointsTotal)
-        Map<Long, Long> choicePoints =
-        optionBets.stream()
-                .filter(v -> v.getChoice() != null)
-                .collect(Collectors.groupingBy(
-                        v -> v.getChoice().getId().longValue(), // 🔥 핵심
-                        Collectors.summingLong(
-                                v -> v.getPointsBet() == null ? 0 : v.getPointsBet()
-                        )
-                ));
-
-        Map<Long, Long> choiceUsers =
-        optionBets.stream()
-                .filter(v -> v.getChoice() != null)
-                .collect(Collectors.groupingBy(
-                        v -> v.getChoice().getId().longValue(), // 🔥 Long 통일
-                        Collectors.mapping(
-                                v -> v.getUser().getId(),          // Integer OK
-                                Collectors.toSet()
-                        )
-                ))
-                .entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> (long) e.getValue().size()
-                ));
-
-        final double optionOdds = Math.max(
-        1.0,
-        Math.min(
-                MAX_ODDS,
-                opt.getVote().getStatus() == VoteEntity.Status.REWARDED
-                        ? (opt.getOdds() != null ? opt.getOdds() : 1.0)
-                        : optionOddsMap.getOrDefault(opt.getId().longValue(), 1.0)
-        )
-);
+    private long sumParticipants(List<VoteOptionChoiceEntity> choices, Map<Integer, VoteChoiceStatDTO> stats) {
+        return choices.stream().mapToLong(c -> participantsOf(stats.get(c.getId()))).sum();
+    }
+
+    /* =======================================================
+     * Odds (Option 기준)
+     * ======================================================= */
+    private List<VoteDetailOptionResponse> loadOptions(
+        List<VoteOptionEntity> options,
+        Map<Integer, VoteChoiceStatDTO> choiceStats,
+        double feeRate
+) {
+    return options.stream().map(opt -> {
 
-        double feeRate = Optional.ofNullable(opt.getVote().getFeeRate()).orElse(0.0);
+        int totalParticipants = (int) sumParticipants(opt.getChoices(), choiceStats);
+        long totalPoints = sumPoints(opt.getChoices(), choiceStats);
 
         List<VoteDetailChoiceResponse> choices = opt.getChoices().stream().map(c -> {
 
-            long cParticipants =
-                choiceUsers.getOrDefault(c.getId().longValue(), 0L);
-            long cPoints =
-                choicePoints.getOrDefault(c.getId().longValue(), 0L);
+            VoteChoiceStatDTO st = choiceStats.get(c.getId());
+            long cParticipants = participantsOf(st);
+            long cPoints = pointsOf(st);
 
             double percent = totalParticipants == 0
                     ? 0.0
                     : Math.round(cParticipants * 1000.0 / totalParticipants) / 10.0;
-        
+
                 // ✅ 🔥 여기서 choiceOdds 계산
     final double choiceOdds =
             cPoints > 0
@@ -291,7 +296,7 @@ public class VoteDetailService {
                     .percent(percent)
                     .marketShare(percent)
                     .odds(choiceOdds) // ✅ ONGOING에서도 실시간 odds 주입
-                    .isMyChoice(myChoiceId != null && myChoiceId.equals(c.getId().intValue()))
+                    .isMyChoice(false) // 🔥 유저별 값은 overlayMyParticipation 에서 반영
                     .isCorrect(null)
                     .build();
         }).toList();
@@ -314,8 +319,9 @@ public class VoteDetailService {
      * ======================================================= */
     private VoteDetailStatisticsResponse loadStatistics(Integer voteId) {
 
+        // 🔥 VoteTrendRecorder 가 버킷 단위로 기록/압축 → 행 수가 시간에 비례해 bounded
         List<VoteTrendHistoryEntity> history =
-                trendRepository.findByVoteId(voteId);
+                trendRepository.findSeriesByVoteId(voteId);
 
         if (history.isEmpty()) {
             return VoteDetailStatisticsResponse.builder()
@@ -323,14 +329,12 @@ public class VoteDetailService {
                     .build();
         }
 
-        history.sort(Comparator.comparing(VoteTrendHistoryEntity::getRecordedAt));
-
         Map<LocalDateTime, List<VoteTrendHistoryEntity>> grouped =
-                history.stream().collect(Collectors.groupingBy(
+                limitSeries(history.stream().collect(Collectors.groupingBy(
                         VoteTrendHistoryEntity::getRecordedAt,
                         LinkedHashMap::new,
                         Collectors.toList()
-                ));
+                )));
 
         List<VoteDetailStatisticsResponse.TrendSnapshot> snapshots = new ArrayList<>();
 
@@ -372,86 +376,70 @@ public class VoteDetailService {
      * My Participation
      * ======================================================= */
     private VoteDetailParticipationResponse loadMyParticipation(
-            List<VoteUserEntity> bets,
+            VoteUserEntity myBet,
             Integer userId
     ) {
-        if (userId == null) {
+        if (userId == null || myBet == null) {
             return VoteDetailParticipationResponse.builder()
                     .hasParticipated(false)
                     .build();
         }
 
-        return bets.stream()
-                .filter(v -> v.getUser().getId().equals(userId))
-                .findFirst()
-                .map(v ->
-                        VoteDetailParticipationResponse.builder()
-                                .hasParticipated(true)
-                                .optionId(v.getOption().getId().intValue())
-                                .choiceId(
-                                        v.getChoice() != null
-                                                ? v.getChoice().getId().intValue()
-                                                : null
-                                )
-                                .pointsBet(v.getPointsBet())
-                                .votedAt(v.getCreatedAt())
-                                .expectedOdds(v.getOddsAtBet())
-                                .expectedReward(
-                                        v.getOddsAtBet() != null && v.getPointsBet() != null
-                                                ? (int) Math.floor(
-                                                        v.getPointsBet() * v.getOddsAtBet()
-                                                )
-                                                : null
+        return VoteDetailParticipationResponse.builder()
+                .hasParticipated(true)
+                .optionId(myBet.getOption().getId().intValue())
+                .choiceId(
+                        myBet.getChoice() != null
+                                ? myBet.getChoice().getId().intValue()
+                                : null
+                )
+                .pointsBet(myBet.getPointsBet())
+                .votedAt(myBet.getCreatedAt())
+                .expectedOdds(myBet.getOddsAtBet())
+                .expectedReward(
+                        myBet.getOddsAtBet() != null && myBet.getPointsBet() != null
+                                ? (int) Math.floor(
+                                        myBet.getPointsBet() * myBet.getOddsAtBet()
                                 )
-                                .build()
+                                : null
                 )
-                .orElse(
-                        VoteDetailParticipationResponse.builder()
-                                .hasParticipated(false)
-                                .build()
-                );
+                .build();
     }
 
     /* =======================================================
      * Settlement Summary
      * ======================================================= */
     private VoteDetailSettlementSummaryResponse buildSettlementSummary(
-            List<VoteUserEntity> bets,
-            VoteEntity vote
+            List<VoteOptionEntity> options,
+            Map<Integer, VoteChoiceStatDTO> choiceStats,
+            long totalPoints,
+            int totalBets,
+            double feeRate
     ) {
 
-        int totalPool = bets.stream()
-                .mapToInt(v -> v.getPointsBet() == null ? 0 : v.getPointsBet())
-                .sum();
+        int totalPool = (int) totalPoints;
 
-        Set<Integer> correctChoiceIds =
-                vote.getOptions().stream()
+        List<VoteChoiceStatDTO> winners =
+                options.stream()
                         .filter(o -> o.getCorrectChoice() != null)
-                        .map(o -> o.getCorrectChoice().getId())
-                        .collect(Collectors.toSet());
-
-        List<VoteUserEntity> winners =
-                bets.stream()
-                        .filter(v ->
-                                v.getChoice() != null &&
-                                correctChoiceIds.contains(v.getChoice().getId())
-                        )
+                        .map(o -> choiceStats.get(o.getCorrectChoice().getId()))
+                        .filter(Objects::nonNull)
                         .toList();
 
-        int winnerPool = winners.stream()
-                .mapToInt(v -> v.getPointsBet() == null ? 0 : v.getPointsBet())
+        int winnerPool = (int) winners.stream()
+                .mapToLong(this::pointsOf)
                 .sum();
 
-        int winnerCount = winners.size();
-        int loserCount = Math.max(0, bets.size() - winnerCount);
+        int winnerCount = (int) winners.stream()
+                .mapToLong(this::participantsOf)
+                .sum();
+        int loserCount = Math.max(0, totalBets - winnerCount);
 
         Double averageOdds =
                 winnerPool > 0
                         ? Math.round(((double) totalPool / winnerPool) * 100.0) / 100.0
                         : null;
 
-        double feeRate = Optional.ofNullable(vote.getFeeRate()).orElse(0.0);
-
         int distributedPoints =
                 totalPool > 0
                         ? (int) Math.floor(totalPool * (1 - feeRate))
@@ -469,6 +457,7 @@ public class VoteDetailService {
 
     /* =======================================================
      * Article
+     * - findDetailById 에서 feed / aiTitle / categories 까지 fetch 완료
      * ======================================================= */
     private VoteDetailArticleResponse loadArticle(VoteEntity vote) {
 
@@ -477,9 +466,9 @@ public class VoteDetailService {
 
         RssArticleEntity article = vote.getIssue().getArticle();
 
-        String aiTitle = aiTitleRepository.findByArticle(article)
-                .map(ArticleAiTitleEntity::getAiTitle)
-                .orElse(null);
+        String aiTitle = article.getAiTitle() != null
+                ? article.getAiTitle().getAiTitle()
+                : null;
 
         return VoteDetailArticleResponse.builder()
                 .articleId(article.getId())
@@ -507,12 +496,12 @@ public class VoteDetailService {
      * ======================================================= */
     private List<VoteDetailCommentResponse> loadComments(Integer voteId) {
 
-        List<VoteCommentEntity> roots =
-                voteCommentRepository.findByVote_IdAndParentIsNull(voteId);
-
-        return roots.stream()
-                .map(this::convertCommentTree)
-                .toList();
+        // 댓글 + 작성자 1회 조회 → 메모리 트리 (getChildren / getUser 지연 로딩 없음)
+        return CommentTree.of(
+                        voteCommentRepository.findTreeByVoteId(voteId),
+                        VoteCommentEntity::getCommentId,
+                        VoteCommentEntity::parentCommentId)
+                .render(this::toCommentResponse);
     }
 
     @Transactional
@@ -534,6 +523,11 @@ public class VoteDetailService {
 
         voteCommentRepository.save(comment);
 
+        if (comment.getVote() != null) {
+            eventPublisher.publishEvent(new VoteDetailChangedEvent(
+                    comment.getVote().getId(), VoteDetailChangedEvent.Reason.COMMENT));
+        }
+
         return convertCommentTree(comment);
     }
 
@@ -546,6 +540,15 @@ public class VoteDetailService {
                         .map(this::convertCommentTree)
                         .toList();
 
+        return toCommentResponse(c, children, children.size());
+    }
+
+    private VoteDetailCommentResponse toCommentResponse(
+            VoteCommentEntity c,
+            List<VoteDetailCommentResponse> children,
+            int replyCount
+    ) {
+
         return VoteDetailCommentResponse.builder()
                 .commentId(c.getCommentId().intValue())
                 .voteId(c.getVote().getId())
@@ -562,6 +565,7 @@ public class VoteDetailService {
                                 : null
                 )
                 .children(children)
+                .replyCount(replyCount)
                 .likeCount(Optional.ofNullable(c.getLikeCount()).orElse(0))
                 .dislikeCount(Optional.ofNullable(c.getDislikeCount()).orElse(0))
                 .myLike(false)
@@ -621,12 +625,12 @@ public class VoteDetailService {
 public VoteTrendChartResponse loadTrendChart(Integer voteId) {
 
     List<VoteTrendHistoryEntity> histories =
-        trendRepository.findByVote_IdOrderByRecordedAtAsc(voteId);
+        trendRepository.findSeriesByVoteId(voteId);
 
     // optionId 기준 → recordedAt 기준 그룹화
     Map<Integer, Map<LocalDateTime, List<VoteTrendHistoryEntity>>> grouped =
     histories.stream().collect(Collectors.groupingBy(
-        (VoteTrendHistoryEntity h) -> h.getChoice().getOption().getId(), // ✅ 타입 고정
+        (VoteTrendHistoryEntity h) -> h.getOption().getId(), // ✅ 타입 고정
         LinkedHashMap::new,
         Collectors.groupingBy(
             VoteTrendHistoryEntity::getRecordedAt,
@@ -642,7 +646,7 @@ public VoteTrendChartResponse loadTrendChart(Integer voteId) {
 
         Integer optionId = optionEntry.getKey();
         Map<LocalDateTime, List<VoteTrendHistoryEntity>> timeMap =
-            optionEntry.getValue();
+            limitSeries(optionEntry.getValue());
 
         List<Map<String, Object>> chart = new ArrayList<>();
         int step = 1;
@@ -665,7 +669,7 @@ public VoteTrendChartResponse loadTrendChart(Integer voteId) {
             timeMap.values().stream()
                 .flatMap(List::stream)
                 .findFirst()
-                .map(h -> h.getChoice().getOption().getOptionTitle())
+                .map(h -> h.getOption().getOptionTitle())
                 .orElse(null);
 
         optionCharts.add(
@@ -683,47 +687,27 @@ public VoteTrendChartResponse loadTrendChart(Integer voteId) {
         .build();
 }
 
+    /* =======================================================
+     * 시계열 포인트 수 제한
+     * - 시간순 그룹에서 균등 간격으로 최대 MAX_SERIES_POINTS 개만 남김
+     * - 마지막(최신) 포인트는 항상 포함
+     * ======================================================= */
+    private <T> Map<LocalDateTime, T> limitSeries(Map<LocalDateTime, T> series) {
 
+        if (series.size() <= MAX_SERIES_POINTS) return series;
 
-    @Transactional
-public void recordSnapshot(VoteEntity vote) {
-
-    LocalDateTime now = LocalDateTime.now();
-
-    for (VoteOptionEntity option : vote.getOptions()) {
-
-        int optionTotal =
-            Optional.ofNullable(option.getParticipantsCount()).orElse(0);
-
-        for (VoteOptionChoiceEntity choice : option.getChoices()) {
-
-            int choiceCount =
-                Optional.ofNullable(choice.getParticipantsCount()).orElse(0);
-
-            double percent =
-                optionTotal == 0
-                    ? 0
-                    : (choiceCount * 100.0 / optionTotal);
-
-            double odds =
-                oddsService.calculateChoiceOdds(vote, option, choice);
-
-            VoteTrendHistoryEntity history =
-                VoteTrendHistoryEntity.builder()
-                    .vote(vote)
-                    .option(option)          // 🔥 핵심
-                    .choice(choice)
-                    .percent(percent)
-                    .odds(odds)
-                    .totalPoints(
-                        Optional.ofNullable(choice.getPointsTotal()).orElse(0)
-                    )
-                    .recordedAt(now)
-                    .build();
+        int step = (int) Math.ceil((double) series.size() / MAX_SERIES_POINTS);
+        Map<LocalDateTime, T> limited = new LinkedHashMap<>();
 
-            trendRepository.save(history);
+        int i = 0;
+        int last = series.size() - 1;
+        for (var entry : series.entrySet()) {
+            if (i % step == 0 || i == last) {
+                limited.put(entry.getKey(), entry.getValue());
+            }
+            i++;
         }
+        return limited;
     }
-}
 
 }
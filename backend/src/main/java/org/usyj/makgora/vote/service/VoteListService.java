@@ -1,6 +1,5 @@
 package org.usyj.makgora.vote.service;
 
-import java.util.Comparator;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
@@ -10,6 +9,7 @@ import org.usyj.makgora.article.entity.ArticleAiTitleEntity;
 import org.usyj.makgora.article.entity.ArticleCategoryEntity;
 import org.usyj.makgora.article.entity.RssArticleEntity;
 import org.usyj.makgora.article.repository.ArticleAiTitleRepository;
+import org.usyj.makgora.global.comment.CommentTree;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailArticleResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailChoiceResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailCommentResponse;
@@ -210,9 +210,7 @@ public class VoteListService {
     private VoteDetailStatisticsResponse loadStatistics(Integer voteId) {
 
         List<VoteTrendHistoryEntity> history =
-                trendRepository.findByVoteId(voteId);
-
-        history.sort(Comparator.comparing(VoteTrendHistoryEntity::getRecordedAt));
+                trendRepository.findSeriesByVoteId(voteId);
 
         return VoteDetailStatisticsResponse.builder()
                 .changes(
@@ -265,13 +263,19 @@ public class VoteListService {
      * ======================================================= */
     private List<VoteDetailCommentResponse> loadComments(Integer voteId) {
 
-        return voteCommentRepository.findByVote_IdAndParentIsNull(voteId)
-                .stream()
-                .map(this::convertComment)
-                .toList();
+        // 댓글 + 작성자 1회 조회 → 메모리 트리
+        return CommentTree.of(
+                        voteCommentRepository.findTreeByVoteId(voteId),
+                        VoteCommentEntity::getCommentId,
+                        VoteCommentEntity::parentCommentId)
+                .render(this::convertComment);
     }
 
-    private VoteDetailCommentResponse convertComment(VoteCommentEntity c) {
+    private VoteDetailCommentResponse convertComment(
+            VoteCommentEntity c,
+            List<VoteDetailCommentResponse> children,
+            int replyCount
+    ) {
 
         return VoteDetailCommentResponse.builder()
                 .commentId(c.getCommentId().intValue())
@@ -284,11 +288,8 @@ public class VoteListService {
                 .createdAt(c.getCreatedAt())
                 .updatedAt(c.getUpdatedAt())
                 .parentId(c.getParent() != null ? c.getParent().getCommentId().intValue() : null)
-                .children(
-                        c.getChildren().stream()
-                                .map(this::convertComment)
-                                .toList()
-                )
+                .children(children)
+                .replyCount(replyCount)
                 .build();
     }
 }
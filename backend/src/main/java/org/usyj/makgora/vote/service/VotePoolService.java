@@ -0,0 +1,375 @@
+package org.usyj.makgora.vote.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.usyj.makgora.vote.entity.VoteEntity;
+import org.usyj.makgora.vote.event.VoteDetailChangedEvent;
+import org.usyj.makgora.vote.repository.VoteRepository;
+import org.usyj.makgora.vote.repository.VoteUserRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🎰 AI 투표 배당 풀 엔진 (In-Memory)
+ *
+ * - vote / option / choice 단위 포인트 합계, 참여자 수를 메모리 카운터로 유지
+ * - 베팅/취소 시 DB 집계 쿼리(SUM) 없이 카운터만 갱신
+ * - Votes / Vote_Options / Vote_Option_Choices 의 통계 컬럼은
+ *   스케줄러가 누적 delta 를 모아 JDBC batch UPDATE 로 비동기 반영
+ *
+ * ⚠️ 풀은 "더 이상 쓰기가 없는" 투표만 제거한다.
+ *    (베팅 트랜잭션이 INSERT 전에 풀을 먼저 로딩하기 때문에,
+ *     진행중 투표의 풀을 지우면 "DB 시딩 + 메모리 delta" 가 중복 집계될 수 있다)
+ *    - 정산 완료(SETTLEMENT) → 다음 flush 에서 delta 반영 후 제거
+ *    - 조회로만 올라온 종료 투표 풀 → 유휴 시간 경과 후 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VotePoolService {
+
+    private static final int SEED_CHUNK_SIZE = 500;
+
+    private static final String FLUSH_CHOICE_SQL =
+            "UPDATE vote_option_choices SET points_total = points_total + ?, participants_count = participants_count + ? WHERE choice_id = ?";
+    private static final String FLUSH_OPTION_SQL =
+            "UPDATE vote_options SET points_total = points_total + ?, participants_count = participants_count + ? WHERE option_id = ?";
+    private static final String FLUSH_VOTE_SQL =
+            "UPDATE votes SET total_points = total_points + ?, total_participants = total_participants + ? WHERE vote_id = ?";
+
+    private final VoteRepository voteRepository;
+    private final VoteUserRepository voteUserRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${vote.pool.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${vote.pool.idle-evict-ms:600000}")
+    private long idleEvictMs;
+
+    /** voteId → 풀 */
+    private final Map<Integer, VotePool> pools = new ConcurrentHashMap<>();
+
+    /** DB 반영 대기 중인 voteId */
+    private final Set<Integer> dirtyVotes = ConcurrentHashMap.newKeySet();
+
+    /** 정산 완료 → 제거 대기 중인 voteId */
+    private final Set<Integer> settledVotes = ConcurrentHashMap.newKeySet();
+
+    /* =========================================================
+       1️⃣ 시딩 (서버 시작 시 진행중 투표 미리 로딩)
+       ========================================================= */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        List<Integer> voteIds = voteRepository.findIdsByStatus(VoteEntity.Status.ONGOING);
+        if (voteIds.isEmpty()) {
+            log.info("[VotePool] 시딩 대상 투표 없음");
+            return;
+        }
+
+        for (int from = 0; from < voteIds.size(); from += SEED_CHUNK_SIZE) {
+            List<Integer> chunk = voteIds.subList(from, Math.min(from + SEED_CHUNK_SIZE, voteIds.size()));
+            loadPools(chunk).forEach(pools::putIfAbsent);
+        }
+
+        log.info("[VotePool] 시딩 완료 votes={}", voteIds.size());
+    }
+
+    private VotePool loadPool(Integer voteId) {
+        return loadPools(List.of(voteId)).getOrDefault(voteId, new VotePool());
+    }
+
+    private Map<Integer, VotePool> loadPools(Collection<Integer> voteIds) {
+
+        Map<Integer, VotePool> loaded = new HashMap<>();
+        for (Integer voteId : voteIds) {
+            loaded.put(voteId, new VotePool());
+        }
+
+        // [voteId, optionId, choiceId, sum(points), count]
+        for (Object[] row : voteUserRepository.aggregatePoolsByVoteIds(voteIds)) {
+            Integer voteId = (Integer) row[0];
+            Integer optionId = (Integer) row[1];
+            Integer choiceId = (Integer) row[2];
+            long points = ((Number) row[3]).longValue();
+            long participants = ((Number) row[4]).longValue();
+
+            VotePool pool = loaded.get(voteId);
+            pool.total.seed(points, participants);
+            if (optionId != null) pool.option(optionId).seed(points, participants);
+            if (choiceId != null) pool.choice(choiceId).seed(points, participants);
+        }
+        return loaded;
+    }
+
+    private VotePool pool(Integer voteId) {
+        VotePool pool = pools.computeIfAbsent(voteId, this::loadPool);
+        pool.lastAccessAt = System.currentTimeMillis();
+        return pool;
+    }
+
+    /**
+     * 🔒 쓰기 전 풀 로딩
+     * - 베팅 / 취소 트랜잭션은 vote_users 를 쓰기 "전에" 반드시 호출
+     * - 쓰기 후에 처음 로딩하면 방금 flush 된 행이 DB 집계에 포함되고,
+     *   recordBet / recordCancel 의 delta 가 한 번 더 더해진다
+     */
+    public void preload(Integer voteId) {
+        pool(voteId);
+    }
+
+    /* =========================================================
+       2️⃣ 조회 (배당/참여 통계)
+       ========================================================= */
+    public long getVotePoints(Integer voteId) {
+        return pool(voteId).total.points.sum();
+    }
+
+    public long getVoteParticipants(Integer voteId) {
+        return pool(voteId).total.participants.sum();
+    }
+
+    public long getOptionPoints(Integer voteId, Integer optionId) {
+        return pool(voteId).option(optionId).points.sum();
+    }
+
+    public long getOptionParticipants(Integer voteId, Integer optionId) {
+        return pool(voteId).option(optionId).participants.sum();
+    }
+
+    public long getChoicePoints(Integer voteId, Integer choiceId) {
+        return pool(voteId).choice(choiceId).points.sum();
+    }
+
+    public long getChoiceParticipants(Integer voteId, Integer choiceId) {
+        return pool(voteId).choice(choiceId).participants.sum();
+    }
+
+    /* =========================================================
+       3️⃣ 베팅 / 취소 반영
+       - 즉시 메모리에 반영하고, 트랜잭션이 롤백되면 되돌린다
+       ========================================================= */
+    public void recordBet(Integer voteId, Integer optionId, Integer choiceId, int points) {
+        apply(voteId, optionId, choiceId, points, 1);
+    }
+
+    public void recordCancel(Integer voteId, Integer optionId, Integer choiceId, int points) {
+        apply(voteId, optionId, choiceId, -points, -1);
+    }
+
+    private void apply(Integer voteId, Integer optionId, Integer choiceId, long points, long participants) {
+
+        add(voteId, optionId, choiceId, points, participants);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        add(voteId, optionId, choiceId, -points, -participants);
+                    }
+                }
+            });
+        }
+    }
+
+    private void add(Integer voteId, Integer optionId, Integer choiceId, long points, long participants) {
+        VotePool pool = pool(voteId);
+        pool.total.add(points, participants);
+        if (optionId != null) pool.option(optionId).add(points, participants);
+        if (choiceId != null) pool.choice(choiceId).add(points, participants);
+        dirtyVotes.add(voteId);
+    }
+
+    /* =========================================================
+       4️⃣ DB 반영 (Write-Behind)
+       - 누적 delta 만 batch UPDATE → 같은 row 에 대한 경합 제거
+       - 실패 시 delta 를 되돌려 다음 주기에 재시도
+       ========================================================= */
+    @Scheduled(fixedDelayString = "${vote.pool.flush-interval-ms:1000}")
+    public void flush() {
+
+        if (dirtyVotes.isEmpty()) return;
+
+        List<Drained> drained = new ArrayList<>();
+        List<Object[]> voteArgs = new ArrayList<>();
+        List<Object[]> optionArgs = new ArrayList<>();
+        List<Object[]> choiceArgs = new ArrayList<>();
+
+        for (Integer voteId : List.copyOf(dirtyVotes)) {
+            dirtyVotes.remove(voteId);
+            VotePool pool = pools.get(voteId);
+            if (pool == null) continue;
+
+            drain(pool.total, voteId, voteId, voteArgs, drained);
+            pool.options.forEach((optionId, c) -> drain(c, voteId, optionId, optionArgs, drained));
+            pool.choices.forEach((choiceId, c) -> drain(c, voteId, choiceId, choiceArgs, drained));
+        }
+
+        if (drained.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchUpdate(FLUSH_CHOICE_SQL, choiceArgs);
+                batchUpdate(FLUSH_OPTION_SQL, optionArgs);
+                batchUpdate(FLUSH_VOTE_SQL, voteArgs);
+            });
+        } catch (Exception e) {
+            log.error("[VotePool] DB 반영 실패 → 다음 주기에 재시도 rows={}", drained.size(), e);
+            for (Drained d : drained) {
+                d.counter.restore(d.points, d.participants);
+            }
+            drained.stream().map(d -> d.voteId).forEach(dirtyVotes::add);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void drain(Counter counter, Integer voteId, Integer rowId, List<Object[]> args, List<Drained> drained) {
+        long points = counter.pendingPoints.getAndSet(0);
+        long participants = counter.pendingParticipants.getAndSet(0);
+        if (points == 0 && participants == 0) return;
+
+        args.add(new Object[] { points, participants, rowId });
+        drained.add(new Drained(counter, voteId, points, participants));
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        for (int from = 0; from < args.size(); from += flushBatchSize) {
+            jdbcTemplate.batchUpdate(sql, args.subList(from, Math.min(from + flushBatchSize, args.size())));
+        }
+    }
+
+    /* =========================================================
+       5️⃣ 풀 정리 (메모리 상한)
+       - 정산 완료 / 유휴 종료 투표의 풀을 제거
+       - 미반영 delta 가 남은 풀은 건드리지 않는다 (다음 flush 이후 재시도)
+       ========================================================= */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteChanged(VoteDetailChangedEvent event) {
+        if (event.reason() == VoteDetailChangedEvent.Reason.SETTLEMENT) {
+            settledVotes.add(event.voteId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vote.pool.evict-interval-ms:60000}")
+    public void evict() {
+
+        for (Integer voteId : List.copyOf(settledVotes)) {
+            if (evictIfClean(voteId)) settledVotes.remove(voteId);
+        }
+
+        long idleBefore = System.currentTimeMillis() - idleEvictMs;
+        List<Integer> idle = pools.entrySet().stream()
+                .filter(e -> e.getValue().lastAccessAt < idleBefore)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (idle.isEmpty()) return;
+
+        // 진행중 투표는 베팅/취소가 계속 들어오므로 유휴여도 유지
+        int evicted = 0;
+        for (int from = 0; from < idle.size(); from += SEED_CHUNK_SIZE) {
+            List<Integer> chunk = idle.subList(from, Math.min(from + SEED_CHUNK_SIZE, idle.size()));
+            for (Integer voteId : voteRepository.findIdsByIdInAndStatusNot(chunk, VoteEntity.Status.ONGOING)) {
+                if (evictIfClean(voteId)) evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            log.info("[VotePool] 유휴 풀 정리 evicted={} remaining={}", evicted, pools.size());
+        }
+    }
+
+    private boolean evictIfClean(Integer voteId) {
+        if (dirtyVotes.contains(voteId)) return false;
+
+        pools.computeIfPresent(voteId, (id, pool) -> pool.hasPending() ? pool : null);
+        return !pools.containsKey(voteId);
+    }
+
+    /* =========================================================
+       🔹 내부 자료구조
+       ========================================================= */
+    private static final class VotePool {
+
+        private final Counter total = new Counter();
+        private final Map<Integer, Counter> options = new ConcurrentHashMap<>();
+        private final Map<Integer, Counter> choices = new ConcurrentHashMap<>();
+
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        private Counter option(Integer optionId) {
+            return options.computeIfAbsent(optionId, id -> new Counter());
+        }
+
+        private Counter choice(Integer choiceId) {
+            return choices.computeIfAbsent(choiceId, id -> new Counter());
+        }
+
+        private boolean hasPending() {
+            if (total.hasPending()) return true;
+            for (Counter c : options.values()) if (c.hasPending()) return true;
+            for (Counter c : choices.values()) if (c.hasPending()) return true;
+            return false;
+        }
+    }
+
+    /**
+     * 합계는 LongAdder(경합 분산), DB 미반영 delta 는 AtomicLong(getAndSet 으로 정확히 회수)
+     */
+    private static final class Counter {
+
+        private final LongAdder points = new LongAdder();
+        private final LongAdder participants = new LongAdder();
+        private final AtomicLong pendingPoints = new AtomicLong();
+        private final AtomicLong pendingParticipants = new AtomicLong();
+
+        private void seed(long p, long c) {
+            points.add(p);
+            participants.add(c);
+        }
+
+        private void add(long p, long c) {
+            points.add(p);
+            participants.add(c);
+            pendingPoints.addAndGet(p);
+            pendingParticipants.addAndGet(c);
+        }
+
+        private void restore(long p, long c) {
+            pendingPoints.addAndGet(p);
+            pendingParticipants.addAndGet(c);
+        }
+
+        private boolean hasPending() {
+            return pendingPoints.get() != 0 || pendingParticipants.get() != 0;
+        }
+    }
+
+    private record Drained(Counter counter, Integer voteId, long points, long participants) {}
+}
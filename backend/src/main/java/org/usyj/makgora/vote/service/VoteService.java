@@ -2,9 +2,15 @@ package org.usyj.makgora.vote.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.usyj.makgora.article.entity.RssArticleEntity;
@@ -13,19 +19,25 @@ import org.usyj.makgora.issue.entity.IssueEntity;
 import org.usyj.makgora.issue.repository.IssueRepository;
 import org.usyj.makgora.user.entity.UserEntity;
 import org.usyj.makgora.user.repository.UserRepository;
+import org.usyj.makgora.vote.dto.MyVoteRowDTO;
+import org.usyj.makgora.vote.dto.VoteListChoiceDTO;
+import org.usyj.makgora.vote.dto.VoteListRowDTO;
 import org.usyj.makgora.vote.dto.voteDetailResponse.ExpectedOddsResponse;
 import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailMainResponse;
 import org.usyj.makgora.vote.dto.voteRequest.UserVoteCreateRequest;
 import org.usyj.makgora.vote.dto.voteRequest.VoteAiCreateRequest;
 import org.usyj.makgora.vote.dto.voteRequest.VoteParticipateRequest;
 import org.usyj.makgora.vote.dto.voteResponse.MyVoteListResponse;
+import org.usyj.makgora.vote.dto.voteResponse.MyVotePageResponse;
 import org.usyj.makgora.vote.dto.voteResponse.VoteListItemResponse;
+import org.usyj.makgora.vote.dto.voteResponse.VoteListPageResponse;
 import org.usyj.makgora.vote.dto.voteResponse.VoteResponse;
 import org.usyj.makgora.vote.dto.voteResponse.VoteStatisticsResponse;
 import org.usyj.makgora.vote.entity.VoteEntity;
 import org.usyj.makgora.vote.entity.VoteOptionChoiceEntity;
 import org.usyj.makgora.vote.entity.VoteOptionEntity;
 import org.usyj.makgora.vote.entity.VoteUserEntity;
+import org.usyj.makgora.vote.event.VoteDetailChangedEvent;
 import org.usyj.makgora.vote.repository.VoteOptionChoiceRepository;
 import org.usyj.makgora.vote.repository.VoteOptionRepository;
 import org.usyj.makgora.vote.repository.VoteRepository;
@@ -47,6 +59,13 @@ public class VoteService {
     private final VoteDetailService voteDetailService;
     private final OddsService oddsService;
     private final IssueRepository issueRepository;
+    private final VotePoolService votePoolService;
+    private final VoteTrendRecorder voteTrendRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserBetStatsService betStatsService;
+
+    private static final int MAX_LIST_PAGE_SIZE = 50;
+    private static final String COMMUNITY_CATEGORY = "커뮤니티";
 
     /* =========================================================
        1️⃣ 투표 목록 조회
@@ -116,6 +135,92 @@ public List<VoteListItemResponse> getVoteList() {
     }).toList();
 }
 
+    /* =========================================================
+       1️⃣-2 투표 목록 조회 (cursor 페이지네이션)
+       - 카드 컬럼만 Projection 1회 + 옵션/선택지 IN 1회 → 페이지당 쿼리 2개
+       - cursor = 이전 페이지 마지막 voteId (voteId 내림차순)
+       ========================================================= */
+    @Transactional(readOnly = true)
+    public VoteListPageResponse getVoteListPage(
+            Integer cursor,
+            int size,
+            VoteEntity.Status status,
+            String category,
+            LocalDateTime endFrom,
+            LocalDateTime endTo
+    ) {
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_PAGE_SIZE));
+
+        // 🔹 카테고리: "커뮤니티" 는 커뮤니티 이슈, 그 외는 피드 출처명
+        boolean communityOnly = COMMUNITY_CATEGORY.equals(category);
+        String sourceName = (communityOnly || category == null || category.isBlank()) ? null : category;
+
+        List<VoteListRowDTO> rows = voteRepository.findListPage(
+                cursor, status, sourceName, communityOnly, endFrom, endTo,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        Map<Integer, List<VoteListItemResponse.OptionItem>> optionsByVote = loadListOptions(
+                rows.stream().map(VoteListRowDTO::getVoteId).toList());
+
+        List<VoteListItemResponse> items = rows.stream().map(row ->
+                VoteListItemResponse.builder()
+                        .id(row.getVoteId())
+                        .title(row.getTitle())
+                        .category(row.getSourceName() != null ? row.getSourceName()
+                                : Boolean.TRUE.equals(row.getFromCommunity()) ? COMMUNITY_CATEGORY : "기타")
+                        .description(row.getAiSummary())
+                        .thumbnail(row.getThumbnailUrl())
+                        .url(row.getLink())
+                        .endAt(row.getEndAt())
+                        .status(row.getStatus().name())
+                        .totalPoints(row.getTotalPoints())
+                        .totalParticipants(row.getTotalParticipants())
+                        .createdAt(row.getCreatedAt())
+                        .options(optionsByVote.getOrDefault(row.getVoteId(), List.of()))
+                        .build()
+        ).toList();
+
+        return VoteListPageResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? rows.get(rows.size() - 1).getVoteId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Map<Integer, List<VoteListItemResponse.OptionItem>> loadListOptions(List<Integer> voteIds) {
+
+        if (voteIds.isEmpty()) return Map.of();
+
+        // voteId → (optionId → OptionItem), 옵션 순서 유지
+        Map<Integer, Map<Integer, VoteListItemResponse.OptionItem>> grouped = new HashMap<>();
+
+        for (VoteListChoiceDTO row : optionRepository.findListChoicesByVoteIds(voteIds)) {
+            VoteListItemResponse.OptionItem option = grouped
+                    .computeIfAbsent(row.getVoteId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.getOptionId(), id ->
+                            VoteListItemResponse.OptionItem.builder()
+                                    .optionId(row.getOptionId())
+                                    .title(row.getOptionTitle())
+                                    .choices(new ArrayList<>())
+                                    .build());
+
+            if (row.getChoiceId() != null) {
+                option.getChoices().add(
+                        VoteListItemResponse.ChoiceItem.builder()
+                                .choiceId(row.getChoiceId())
+                                .text(row.getChoiceText())
+                                .build());
+            }
+        }
+
+        Map<Integer, List<VoteListItemResponse.OptionItem>> result = new HashMap<>();
+        grouped.forEach((voteId, options) -> result.put(voteId, new ArrayList<>(options.values())));
+        return result;
+    }
+
     /* =========================================================
        2️⃣ 투표 참여
        ========================================================= */
@@ -170,6 +275,9 @@ public VoteDetailMainResponse participateVote(
                     req.getPoints()
             );
 
+    // 🔒 풀 시딩은 INSERT 전에 (이후 로딩 시 이번 베팅이 중복 집계됨)
+    votePoolService.preload(voteId);
+
     // ===============================
     // 4️⃣ VoteUser 생성
     // ===============================
@@ -196,54 +304,34 @@ public VoteDetailMainResponse participateVote(
 
     int betPoints = req.getPoints();
 
-    // ===============================
-    // 5️⃣ 🔥 선택지 통계 누적 (핵심)
-    // ===============================
-    choice.setParticipantsCount(
-            (choice.getParticipantsCount() == null ? 0 : choice.getParticipantsCount()) + 1
-    );
-    choice.setPointsTotal(
-            (choice.getPointsTotal() == null ? 0 : choice.getPointsTotal()) + betPoints
-    );
-    choiceRepository.save(choice);
-
-    // ===============================
-    // 6️⃣ 🔥 옵션 통계 누적
-    // ===============================
-    option.setParticipantsCount(
-            (option.getParticipantsCount() == null ? 0 : option.getParticipantsCount()) + 1
-    );
-    option.setPointsTotal(
-            (option.getPointsTotal() == null ? 0 : option.getPointsTotal()) + betPoints
-    );
-    optionRepository.save(option);
+    // 🔥 유저 베팅 집계 (같은 트랜잭션)
+    betStatsService.recordBet(userId);
 
     // ===============================
-    // 7️⃣ 🔥 투표 전체 통계 누적
+    // 5️⃣ 🔥 선택지 / 옵션 / 투표 통계 누적
+    // - 배당 풀 엔진(메모리)에 반영
+    // - DB 통계 컬럼은 VotePoolService 가 batch 로 비동기 반영
     // ===============================
-    vote.setTotalParticipants(
-            (vote.getTotalParticipants() == null ? 0 : vote.getTotalParticipants()) + 1
-    );
-    vote.setTotalPoints(
-            (vote.getTotalPoints() == null ? 0 : vote.getTotalPoints()) + betPoints
-    );
-    voteRepository.save(vote);
+    votePoolService.recordBet(voteId, option.getId(), choice.getId(), betPoints);
 
     // ===============================
-    // 8️⃣ 유저 포인트 차감 (기존 로직 유지)
+    // 6️⃣ 유저 포인트 차감 (기존 로직 유지)
     // ===============================
     user.setPoints(user.getPoints() - betPoints);
     userRepository.save(user);
 
     // ===============================
-// 8.5️⃣ 🔥 트렌드 스냅샷 저장 (여기!)
-// - 누적값 반영된 최신 상태로 기록됨
-// - recordSnapshot 내부에서 options/choices의 pointsTotal/participantsCount를 읽어서 odds/percent 계산
-// ===============================
-        voteDetailService.recordSnapshot(vote);
+    // 6.5️⃣ 🔥 트렌드 기록 대상 표시
+    // - 실제 스냅샷은 VoteTrendRecorder 가 1분 버킷으로 모아서 batch INSERT
+    // ===============================
+    voteTrendRecorder.markDirty(voteId);
+
+    // 🔔 상세 캐시 무효화 (커밋 이후)
+    eventPublisher.publishEvent(
+            new VoteDetailChangedEvent(voteId, VoteDetailChangedEvent.Reason.PARTICIPATE));
 
     // ===============================
-    // 9️⃣ 최신 상세 응답 반환
+    // 7️⃣ 최신 상세 응답 반환
     // ===============================
     return voteDetailService.getVoteDetail(voteId, userId);
 }
@@ -279,12 +367,16 @@ public VoteDetailMainResponse cancelMyVote(Long voteUserId, Integer userId) {
         throw new RuntimeException("진행 중 투표만 취소 가능");
     }
 
+    // 🔒 풀 시딩은 취소 반영 전에 (이후 로딩 시 이번 취소가 중복 차감됨)
+    votePoolService.preload(vote.getId());
+
     // ===============================
     // 1️⃣ 취소 처리 (기존 로직)
     // ===============================
     vu.setIsCancelled(true);
     vu.setUpdatedAt(LocalDateTime.now());
     voteUserRepository.save(vu);
+    betStatsService.recordCancel(userId);
 
     // ===============================
     // 2️⃣ 유저 포인트 환급 (기존 로직)
@@ -295,43 +387,22 @@ public VoteDetailMainResponse cancelMyVote(Long voteUserId, Integer userId) {
     userRepository.save(user);
 
     // ===============================
-    // 3️⃣ 🔥 통계 되돌리기 (추가)
+    // 3️⃣ 🔥 통계 되돌리기 (배당 풀 엔진)
     // ===============================
     VoteOptionChoiceEntity choice = vu.getChoice();
-    VoteOptionEntity option = choice.getOption();
 
-    // choice
-    choice.setParticipantsCount(
-            Math.max(0,
-                    (choice.getParticipantsCount() == null ? 0 : choice.getParticipantsCount()) - 1)
+    votePoolService.recordCancel(
+            vote.getId(),
+            vu.getOption() != null ? vu.getOption().getId() : null,
+            choice != null ? choice.getId() : null,
+            betPoints
     );
-    choice.setPointsTotal(
-            Math.max(0,
-                    (choice.getPointsTotal() == null ? 0 : choice.getPointsTotal()) - betPoints)
-    );
-    choiceRepository.save(choice);
 
-    // option
-    option.setParticipantsCount(
-            Math.max(0,
-                    (option.getParticipantsCount() == null ? 0 : option.getParticipantsCount()) - 1)
-    );
-    option.setPointsTotal(
-            Math.max(0,
-                    (option.getPointsTotal() == null ? 0 : option.getPointsTotal()) - betPoints)
-    );
-    optionRepository.save(option);
+    voteTrendRecorder.markDirty(vote.getId());
 
-    // vote
-    vote.setTotalParticipants(
-            Math.max(0,
-                    (vote.getTotalParticipants() == null ? 0 : vote.getTotalParticipants()) - 1)
-    );
-    vote.setTotalPoints(
-            Math.max(0,
-                    (vote.getTotalPoints() == null ? 0 : vote.getTotalPoints()) - betPoints)
-    );
-    voteRepository.save(vote);
+    // 🔔 상세 캐시 무효화 (커밋 이후)
+    eventPublisher.publishEvent(
+            new VoteDetailChangedEvent(vote.getId(), VoteDetailChangedEvent.Reason.CANCEL));
 
     // ===============================
     // 4️⃣ 최신 상세 반환
@@ -341,51 +412,62 @@ public VoteDetailMainResponse cancelMyVote(Long voteUserId, Integer userId) {
 
     /* =========================================================
        5️⃣ 내 투표 목록
+       - vote / issue / choice / 정답을 조인한 Projection 1회 (행마다 lazy 로딩 없음)
        ========================================================= */
     @Transactional(readOnly = true)
-public List<MyVoteListResponse> getMyVotes(Integer userId) {
+    public List<MyVoteListResponse> getMyVotes(Integer userId) {
+        return voteUserRepository.findMyVoteRows(userId, null, Pageable.unpaged())
+                .stream()
+                .map(this::toMyVote)
+                .toList();
+    }
 
-    List<VoteUserEntity> myVotes =
-            voteUserRepository.findByUserId(userId);
+    /* =========================================================
+       5️⃣-2 내 투표 목록 (cursor 페이지네이션)
+       - cursor = 이전 페이지 마지막 voteUserId (voteUserId 내림차순)
+       ========================================================= */
+    @Transactional(readOnly = true)
+    public MyVotePageResponse getMyVotesPage(Integer userId, Long cursor, int size) {
 
-    return myVotes.stream().map(vu -> {
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_PAGE_SIZE));
 
-        VoteEntity vote = vu.getVote();
-        VoteOptionChoiceEntity choice = vu.getChoice();
-        IssueEntity issue = vote.getIssue();
+        List<MyVoteRowDTO> rows =
+                voteUserRepository.findMyVoteRows(userId, cursor, PageRequest.of(0, pageSize + 1));
 
-        String issueTitle =
-                issue != null ? issue.getTitle() : null;
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        return MyVotePageResponse.builder()
+                .items(rows.stream().map(this::toMyVote).toList())
+                .nextCursor(hasNext ? rows.get(rows.size() - 1).getVoteUserId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private MyVoteListResponse toMyVote(MyVoteRowDTO row) {
 
         String result;
         Integer rewardAmount = null;
 
         // 1️⃣ 취소
-        if (Boolean.TRUE.equals(vu.getIsCancelled())) {
+        if (Boolean.TRUE.equals(row.getCancelled())) {
             result = "CANCELLED";
             rewardAmount = 0;
         }
 
         // 2️⃣ 정산 완료
-        else if (vote.getStatus() == VoteEntity.Status.REWARDED) {
-
-            boolean win =
-                choice != null &&
-                choice.getOption() != null &&
-                choice.getOption().getCorrectChoice() != null &&
-                choice.getId().equals(
-                choice.getOption().getCorrectChoice().getId()
-            );
+        else if (row.getVoteStatus() == VoteEntity.Status.REWARDED) {
+
+            boolean win = row.getChoiceId() != null
+                    && row.getChoiceId().equals(row.getCorrectChoiceId());
 
             if (win) {
                 result = "WIN";
                 // 👉 이미 정산 시 지급된 값 기준
-                rewardAmount = vu.getRewardPoints() != null
-                        ? vu.getRewardPoints()
-                        : 0;
+                rewardAmount = row.getRewardPoints() != null ? row.getRewardPoints() : 0;
             } else {
                 result = "LOSE";
-                rewardAmount = -vu.getPointsBet();
+                rewardAmount = -row.getPointsBet();
             }
         }
 
@@ -395,59 +477,27 @@ public List<MyVoteListResponse> getMyVotes(Integer userId) {
         }
 
         return MyVoteListResponse.builder()
-                .voteUserId(vu.getId())
-                .voteId(vote.getId())
-                .voteTitle(vote.getTitle())
-                .issueTitle(issueTitle)
-                .choiceId(choice != null ? choice.getId() : null)
-                .choiceText(choice != null ? choice.getChoiceText() : null)
-                .pointsBet(vu.getPointsBet())
+                .voteUserId(row.getVoteUserId())
+                .voteId(row.getVoteId())
+                .voteTitle(row.getVoteTitle())
+                .issueTitle(row.getIssueTitle())
+                .choiceId(row.getChoiceId())
+                .choiceText(row.getChoiceText())
+                .pointsBet(row.getPointsBet())
                 .rewardAmount(rewardAmount)
                 .result(result)
-                .voteCreatedAt(vote.getCreatedAt())
-                .voteEndAt(vote.getEndAt())
-                .voteStatus(vote.getStatus().name())
+                .voteCreatedAt(row.getVoteCreatedAt())
+                .voteEndAt(row.getVoteEndAt())
+                .voteStatus(row.getVoteStatus().name())
                 .build();
-
-    }).toList();
-}
+    }
 
     /* =========================================================
-       6️⃣ 내 통계
+       6️⃣ 내 통계 (user_bet_stats 1행)
        ========================================================= */
     @Transactional(readOnly = true)
     public VoteStatisticsResponse getMyStatistics(Integer userId) {
-
-        List<VoteUserEntity> list = voteUserRepository.findByUserId(userId);
-
-        int wins = 0, losses = 0, pending = 0;
-
-        for (VoteUserEntity vu : list) {
-
-            VoteEntity vote = vu.getVote();
-
-            if (Boolean.TRUE.equals(vu.getIsCancelled())) {
-                pending++;
-                continue;
-            }
-
-            if (vote.getStatus() == VoteEntity.Status.REWARDED) {
-                boolean win = vu.getChoice() != null &&
-                        vu.getChoice().equals(vu.getOption().getCorrectChoice());
-                if (win) wins++;
-                else losses++;
-            } else {
-                pending++;
-            }
-        }
-
-        return VoteStatisticsResponse.builder()
-                .wins(wins)
-                .losses(losses)
-                .pending(pending)
-                .totalBets(list.size())
-                .winRate((wins + losses) > 0 ? (double) wins / (wins + losses) : 0.0)
-                .build();
+        return betStatsService.getStatistics(userId);
     }
 
     /* =========================================================
@@ -586,6 +636,9 @@ public void finishVote(Integer voteId) {
 
     voteRepository.save(vote);
 
+    eventPublisher.publishEvent(
+            new VoteDetailChangedEvent(voteId, VoteDetailChangedEvent.Reason.STATUS));
+
     log.info("[VoteService] 투표 자동 마감 완료 voteId={}", voteId);
 }
 }
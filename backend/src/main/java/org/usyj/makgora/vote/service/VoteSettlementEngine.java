@@ -0,0 +1,380 @@
+package org.usyj.makgora.vote.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.usyj.makgora.vote.dto.voteDetailResponse.VoteDetailSettlementResponse;
+import org.usyj.makgora.vote.entity.VoteEntity;
+import org.usyj.makgora.vote.entity.VoteSettlementCheckpointEntity;
+import org.usyj.makgora.vote.event.BetSettledEvent;
+import org.usyj.makgora.vote.event.VoteDetailChangedEvent;
+import org.usyj.makgora.vote.repository.VoteOptionRepository;
+import org.usyj.makgora.vote.repository.VoteRepository;
+import org.usyj.makgora.vote.repository.VoteSettlementCheckpointRepository;
+import org.usyj.makgora.vote.repository.VoteUserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 💰 스트리밍 정산 엔진
+ *
+ * - 베팅 내역을 엔티티로 한 번에 올리지 않고 vote_user_id keyset 페이지로 순회
+ *   1차 순회: 옵션별 전체 풀 / 정답 풀 / 마지막 정답자 ID 를 primitive 배열에 누적
+ *   2차 순회: 보상 계산 → 청크마다 JDBC batch UPDATE (users, vote_users) + 체크포인트 갱신을 한 트랜잭션으로 커밋
+ * - 체크포인트 이하의 행은 "계산만" 다시 하고 쓰지 않는다
+ *   → 도중에 죽어도 다시 settle 하면 이어서 정산되고, 잔여 포인트(마지막 정답자) 계산도 동일하게 재현된다
+ * - 체크포인트 갱신은 CAS(last_vote_user_id = 기대값) 로 수행 → 동시 정산 시 한쪽 청크는 롤백
+ * - 청크마다 베팅별 승/패를 user_bet_stats 에 같은 트랜잭션으로 누적하고,
+ *   BetSettledEvent 로 발행 (커밋된 청크만 랭킹 집계에 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteSettlementEngine {
+
+    private static final double MAX_ODDS = 10.0;
+
+    private static final String CREDIT_USER_SQL =
+            "UPDATE users SET points = points + ?, level = COALESCE(level, 0) + 1, updated_at = ? WHERE user_id = ?";
+    private static final String MARK_BET_SQL =
+            "UPDATE vote_users SET reward_points = ?, is_win = ?, updated_at = ? WHERE vote_user_id = ?";
+    private static final String ADVANCE_CHECKPOINT_SQL =
+            "UPDATE vote_settlement_checkpoints SET last_vote_user_id = ?, updated_at = ? WHERE vote_id = ? AND last_vote_user_id = ? AND status = 'RUNNING'";
+    private static final String FINISH_CHECKPOINT_SQL =
+            "UPDATE vote_settlement_checkpoints SET status = 'DONE', updated_at = ? WHERE vote_id = ? AND status = 'RUNNING'";
+    private static final String FIX_ODDS_SQL =
+            "UPDATE vote_options SET odds = ? WHERE option_id = ? AND (odds IS NULL OR odds <= 0)";
+
+    private final VoteRepository voteRepository;
+    private final VoteOptionRepository optionRepository;
+    private final VoteUserRepository voteUserRepository;
+    private final VoteSettlementCheckpointRepository checkpointRepository;
+    private final VoteStatusHistoryService historyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserBetStatsService betStatsService;
+
+    @Value("${vote.settlement.chunk-size:1000}")
+    private int chunkSize;
+
+    /* =========================================================
+       1️⃣ 정산 실행 (체크포인트 기반, 재시작 가능)
+       ========================================================= */
+    public VoteDetailSettlementResponse settle(Integer voteId, double feeRate) {
+
+        long resumeAfter = openCheckpoint(voteId);
+        OptionPools pools = scanPools(voteId, feeRate);
+
+        if (resumeAfter > 0) {
+            log.warn("[Settlement] 중단된 정산 재개 voteId={} after={}", voteId, resumeAfter);
+        }
+
+        long[] distributed = new long[pools.size()];
+        int[] paidWinners = new int[pools.size()];
+
+        long checkpoint = resumeAfter;
+        long afterId = 0L;
+
+        while (true) {
+            List<Object[]> page = nextPage(voteId, afterId);
+            if (page.isEmpty()) break;
+
+            List<Object[]> userArgs = new ArrayList<>();
+            List<Object[]> betArgs = new ArrayList<>();
+            List<BetSettledEvent.Outcome> outcomes = new ArrayList<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            for (Object[] row : page) {
+                long voteUserId = (Long) row[0];
+                int idx = pools.indexOf((Integer) row[1]);
+                afterId = voteUserId;
+
+                if (idx < 0) continue;
+
+                // 정답자 없는 옵션: 지급 / 마킹 없이 통계상 패배로만 집계
+                if (pools.winnerPool[idx] == 0) {
+                    if (voteUserId > resumeAfter) {
+                        outcomes.add(new BetSettledEvent.Outcome(
+                                voteUserId, (Integer) row[3], false, pointsOf(row[4]), 0));
+                    }
+                    continue;
+                }
+
+                boolean win = row[2] != null && row[2].equals(pools.correctChoiceIds[idx]);
+                int reward = 0;
+
+                if (win) {
+                    reward = pools.rewardOf(idx, voteUserId, pointsOf(row[4]), distributed[idx]);
+                    distributed[idx] += reward;
+                    paidWinners[idx]++;
+                }
+
+                // 체크포인트 이하 = 이미 커밋된 행 → 계산만 재현
+                if (voteUserId <= resumeAfter) continue;
+
+                if (win) {
+                    userArgs.add(new Object[] { reward, now, row[3] });
+                }
+                betArgs.add(new Object[] { reward, win, now, voteUserId });
+                outcomes.add(new BetSettledEvent.Outcome(
+                        voteUserId, (Integer) row[3], win, pointsOf(row[4]), reward));
+            }
+
+            if (afterId > resumeAfter) {
+                applyChunk(voteId, checkpoint, afterId, userArgs, betArgs, outcomes);
+                checkpoint = afterId;
+            }
+        }
+
+        VoteDetailSettlementResponse response = toResponse(voteId, pools, distributed, paidWinners);
+        complete(voteId, response);
+        return response;
+    }
+
+    /* =========================================================
+       2️⃣ 미리보기 (DB 반영 없음, 풀 집계만)
+       ========================================================= */
+    public VoteDetailSettlementResponse preview(Integer voteId, double feeRate) {
+        OptionPools pools = scanPools(voteId, feeRate);
+        return toResponse(voteId, pools, new long[pools.size()], new int[pools.size()]);
+    }
+
+    /* =========================================================
+       3️⃣ 1차 순회: 옵션별 풀 집계 (primitive 누적)
+       ========================================================= */
+    private OptionPools scanPools(Integer voteId, double feeRate) {
+
+        OptionPools pools = new OptionPools(optionRepository.findSettlementTargetsByVoteId(voteId), feeRate);
+
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> page = nextPage(voteId, afterId);
+            if (page.isEmpty()) break;
+
+            for (Object[] row : page) {
+                long voteUserId = (Long) row[0];
+                afterId = voteUserId;
+
+                int idx = pools.indexOf((Integer) row[1]);
+                if (idx < 0) continue;
+
+                int bet = pointsOf(row[4]);
+                pools.optionPool[idx] += bet;
+
+                if (row[2] != null && row[2].equals(pools.correctChoiceIds[idx])) {
+                    pools.winnerPool[idx] += bet;
+                    pools.winnerCount[idx]++;
+                    pools.lastWinnerId[idx] = voteUserId;
+                }
+            }
+        }
+
+        pools.close();
+        return pools;
+    }
+
+    private List<Object[]> nextPage(Integer voteId, long afterId) {
+        return voteUserRepository.findSettlementPage(voteId, afterId, PageRequest.of(0, chunkSize));
+    }
+
+    /* =========================================================
+       4️⃣ 청크 반영 (한 트랜잭션 = 보상 + 체크포인트 + 베팅 집계 + 결과 이벤트)
+       ========================================================= */
+    private void applyChunk(Integer voteId, long expected, long lastId,
+                            List<Object[]> userArgs, List<Object[]> betArgs,
+                            List<BetSettledEvent.Outcome> outcomes) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            // 체크포인트 먼저 (행 잠금 + CAS) → 다른 정산이 앞서 갔다면 여기서 중단
+            int advanced = jdbcTemplate.update(ADVANCE_CHECKPOINT_SQL, lastId, now, voteId, expected);
+            if (advanced == 0) {
+                throw new IllegalStateException("정산 체크포인트 충돌 voteId=" + voteId + " expected=" + expected);
+            }
+
+            if (!userArgs.isEmpty()) jdbcTemplate.batchUpdate(CREDIT_USER_SQL, userArgs);
+            if (!betArgs.isEmpty()) jdbcTemplate.batchUpdate(MARK_BET_SQL, betArgs);
+            betStatsService.recordOutcomes(outcomes);
+
+            // 🔔 커밋 이후 랭킹 집계 (롤백된 청크는 전달되지 않음)
+            if (!outcomes.isEmpty()) eventPublisher.publishEvent(new BetSettledEvent(voteId, outcomes));
+        });
+
+        log.debug("[Settlement] 청크 반영 voteId={} lastId={} credits={} bets={}",
+                voteId, lastId, userArgs.size(), betArgs.size());
+    }
+
+    /* =========================================================
+       5️⃣ 체크포인트 열기 / 마무리
+       ========================================================= */
+    private long openCheckpoint(Integer voteId) {
+        return transactionTemplate.execute(status -> {
+            VoteSettlementCheckpointEntity checkpoint = checkpointRepository.findById(voteId)
+                    .orElseGet(() -> checkpointRepository.save(
+                            VoteSettlementCheckpointEntity.builder().voteId(voteId).build()));
+
+            if (checkpoint.getStatus() == VoteSettlementCheckpointEntity.Status.DONE) {
+                throw new RuntimeException("이미 정산이 완료된 투표입니다.");
+            }
+            return checkpoint.getLastVoteUserId();
+        });
+    }
+
+    private void complete(Integer voteId, VoteDetailSettlementResponse response) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            if (jdbcTemplate.update(FINISH_CHECKPOINT_SQL, now, voteId) == 0) {
+                throw new IllegalStateException("정산 체크포인트가 이미 종료됨 voteId=" + voteId);
+            }
+
+            // 🔥 배당률 확정 (표시용, 미확정 옵션만)
+            for (VoteDetailSettlementResponse.OptionSettlementResult r : response.getOptions()) {
+                jdbcTemplate.update(FIX_ODDS_SQL, r.getOdds(), r.getOptionId());
+            }
+
+            VoteEntity vote = voteRepository.findById(voteId)
+                    .orElseThrow(() -> new RuntimeException("Vote not found"));
+            vote.setRewarded(true);
+            vote.setStatus(VoteEntity.Status.REWARDED);
+            vote.setUpdatedAt(LocalDateTime.now());
+            voteRepository.save(vote);
+            historyService.recordStatus(vote, VoteEntity.Status.REWARDED);
+            eventPublisher.publishEvent(new VoteDetailChangedEvent(voteId, VoteDetailChangedEvent.Reason.SETTLEMENT));
+        });
+
+        log.info("[Settlement] 정산 완료 voteId={} distributed={} winners={}",
+                voteId, response.getTotalDistributed(), response.getTotalWinnerCount());
+    }
+
+    /* =========================================================
+       6️⃣ 결과 DTO
+       ========================================================= */
+    private VoteDetailSettlementResponse toResponse(Integer voteId, OptionPools pools,
+                                                    long[] distributed, int[] paidWinners) {
+
+        List<VoteDetailSettlementResponse.OptionSettlementResult> results = new ArrayList<>();
+        long totalDistributed = 0;
+        int totalWinnerCount = 0;
+
+        for (int i = 0; i < pools.size(); i++) {
+            if (pools.correctChoiceIds[i] == null) continue;
+
+            totalDistributed += distributed[i];
+            totalWinnerCount += paidWinners[i];
+
+            results.add(VoteDetailSettlementResponse.OptionSettlementResult.builder()
+                    .optionId(pools.optionIds[i])
+                    .correctChoiceId(pools.correctChoiceIds[i])
+                    .odds(pools.odds[i])
+                    .optionPool((int) pools.optionPool[i])
+                    .winnerPool((int) pools.winnerPool[i])
+                    .winnerCount(pools.winnerCount[i])
+                    .distributedSum((int) distributed[i])
+                    .build());
+        }
+
+        return VoteDetailSettlementResponse.builder()
+                .voteId(voteId)
+                .totalDistributed((int) totalDistributed)
+                .totalWinnerCount(totalWinnerCount)
+                .options(results)
+                .build();
+    }
+
+    private static int pointsOf(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+
+    /* =========================================================
+       🔹 옵션별 누적기 (optionId → 배열 인덱스)
+       ========================================================= */
+    private static final class OptionPools {
+
+        private final Map<Integer, Integer> indexes = new HashMap<>();
+        private final double feeRate;
+
+        private final Integer[] optionIds;
+        private final Integer[] correctChoiceIds;
+        private final Double[] odds;
+        private final long[] optionPool;
+        private final long[] winnerPool;
+        private final int[] winnerCount;
+        private final long[] lastWinnerId;
+        private final long[] distributable;
+
+        private OptionPools(List<Object[]> targets, double feeRate) {
+            int n = targets.size();
+            this.feeRate = feeRate;
+            this.optionIds = new Integer[n];
+            this.correctChoiceIds = new Integer[n];
+            this.odds = new Double[n];
+            this.optionPool = new long[n];
+            this.winnerPool = new long[n];
+            this.winnerCount = new int[n];
+            this.lastWinnerId = new long[n];
+            this.distributable = new long[n];
+
+            // [optionId, correctChoiceId, odds]
+            for (int i = 0; i < n; i++) {
+                Object[] row = targets.get(i);
+                optionIds[i] = (Integer) row[0];
+                correctChoiceIds[i] = (Integer) row[1];
+                odds[i] = (Double) row[2];
+                if (correctChoiceIds[i] != null) indexes.put(optionIds[i], i);
+            }
+        }
+
+        private int size() {
+            return optionIds.length;
+        }
+
+        /** 정답이 확정된 옵션만 인덱스 반환 (그 외 -1) */
+        private int indexOf(Integer optionId) {
+            Integer idx = optionId == null ? null : indexes.get(optionId);
+            return idx == null ? -1 : idx;
+        }
+
+        /** 1차 순회 종료 후 분배 가능 풀 / 미확정 배당률 계산 */
+        private void close() {
+            for (int i = 0; i < size(); i++) {
+                distributable[i] = (long) Math.floor(optionPool[i] * (1.0 - feeRate));
+
+                if (odds[i] == null || odds[i] <= 0) {
+                    double rawOdds = winnerPool[i] == 0 ? 1.0 : (double) distributable[i] / winnerPool[i];
+                    odds[i] = Math.min(MAX_ODDS, Math.max(1.0, round(rawOdds)));
+                }
+            }
+        }
+
+        /**
+         * 정답자 보상 = floor(분배풀 × 베팅/정답풀)
+         * 🔒 마지막 정답자(vote_user_id 최대)는 잔여 몰아주기
+         */
+        private int rewardOf(int idx, long voteUserId, int bet, long distributedSoFar) {
+            if (voteUserId == lastWinnerId[idx]) {
+                return (int) (distributable[idx] - distributedSoFar);
+            }
+            double ratio = (double) bet / winnerPool[idx];
+            return (int) Math.floor(distributable[idx] * ratio);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.usyj.makgora.vote.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.usyj.makgora.vote.repository.VoteOptionChoiceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 📈 투표 트렌드 기록기 (베팅 트랜잭션 밖, 백그라운드)
+ *
+ * - 베팅/취소 시에는 voteId 를 dirty 로 표시만 한다
+ * - 1분마다 dirty 투표의 현재 상태(배당 풀 기준)를 1분 버킷 1행/choice 로 batch INSERT
+ *   → vote_trend_history 는 "베팅 수 × 선택지" 가 아니라 "시간 버킷 × 선택지" 로 증가
+ * - 오래된 촘촘한 행은 더 큰 버킷으로 압축 (버킷 내 마지막 스냅샷만 남김)
+ *     1분 버킷  → 1일 경과 시 10분 버킷
+ *     10분 버킷 → 7일 경과 시 1시간 버킷
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteTrendRecorder {
+
+    private static final double MAX_ODDS = 10.0;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO vote_trend_history
+                (vote_id, option_id, choice_id, odds, percent, total_points, recorded_at, bucket_minutes)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * 버킷 내 마지막 스냅샷을 더 큰 버킷 1행으로 복사
+     * - 파라미터: toMinutes(초 단위 버킷 크기 계산용) x3, cutoff, fromMinutes
+     */
+    private static final String COMPACT_INSERT_SQL = """
+            INSERT INTO vote_trend_history
+                (vote_id, option_id, choice_id, odds, percent, total_points, recorded_at, bucket_minutes)
+            SELECT h.vote_id, h.option_id, h.choice_id, h.odds, h.percent, h.total_points,
+                   FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(h.recorded_at) / (? * 60)) * (? * 60)), ?
+            FROM vote_trend_history h
+            JOIN (
+                SELECT MAX(trend_id) AS last_id
+                FROM vote_trend_history
+                WHERE recorded_at < ?
+                  AND COALESCE(bucket_minutes, 0) < ?
+                GROUP BY choice_id, FLOOR(UNIX_TIMESTAMP(recorded_at) / (? * 60))
+            ) last ON last.last_id = h.trend_id
+            """;
+
+    private static final String COMPACT_DELETE_SQL = """
+            DELETE FROM vote_trend_history
+            WHERE recorded_at < ?
+              AND COALESCE(bucket_minutes, 0) < ?
+            """;
+
+    private final VotePoolService votePoolService;
+    private final VoteOptionChoiceRepository choiceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${vote.trend.batch-size:500}")
+    private int batchSize;
+
+    /** 마지막 기록 이후 베팅/취소가 있었던 voteId */
+    private final Set<Integer> dirtyVotes = ConcurrentHashMap.newKeySet();
+
+    /* =========================================================
+       1️⃣ 베팅 경로: dirty 표시만 (O(1))
+       ========================================================= */
+    public void markDirty(Integer voteId) {
+        dirtyVotes.add(voteId);
+    }
+
+    /* =========================================================
+       2️⃣ 1분 버킷 기록 (매 분 0초)
+       ========================================================= */
+    @Scheduled(cron = "0 * * * * *")
+    public void recordBuckets() {
+
+        if (dirtyVotes.isEmpty()) return;
+
+        List<Integer> voteIds = new ArrayList<>();
+        for (Integer voteId : List.copyOf(dirtyVotes)) {
+            dirtyVotes.remove(voteId);
+            voteIds.add(voteId);
+        }
+
+        LocalDateTime bucket = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+        try {
+            List<Object[]> rows = buildRows(voteIds, bucket);
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + batchSize, rows.size())));
+            }
+            log.debug("[VoteTrend] 버킷 기록 bucket={} votes={} rows={}", bucket, voteIds.size(), rows.size());
+        } catch (Exception e) {
+            log.error("[VoteTrend] 버킷 기록 실패 → 다음 주기 재시도 votes={}", voteIds.size(), e);
+            dirtyVotes.addAll(voteIds);
+        }
+    }
+
+    private List<Object[]> buildRows(List<Integer> voteIds, LocalDateTime bucket) {
+
+        // voteId → optionId → [choiceId...], voteId → feeRate
+        Map<Integer, Map<Integer, List<Integer>>> structure = new HashMap<>();
+        Map<Integer, Double> feeRates = new HashMap<>();
+
+        for (Object[] row : choiceRepository.findChoiceKeysByVoteIds(voteIds)) {
+            Integer voteId = (Integer) row[0];
+            Integer optionId = (Integer) row[1];
+            Integer choiceId = (Integer) row[2];
+            feeRates.put(voteId, row[3] != null ? (Double) row[3] : 0.0);
+
+            structure.computeIfAbsent(voteId, id -> new HashMap<>())
+                    .computeIfAbsent(optionId, id -> new ArrayList<>())
+                    .add(choiceId);
+        }
+
+        Timestamp recordedAt = Timestamp.valueOf(bucket);
+        List<Object[]> rows = new ArrayList<>();
+
+        structure.forEach((voteId, options) -> {
+            double feeRate = feeRates.getOrDefault(voteId, 0.0);
+
+            options.forEach((optionId, choiceIds) -> {
+                long optionParticipants = votePoolService.getOptionParticipants(voteId, optionId);
+                long optionPoints = votePoolService.getOptionPoints(voteId, optionId);
+
+                for (Integer choiceId : choiceIds) {
+                    long choiceParticipants = votePoolService.getChoiceParticipants(voteId, choiceId);
+                    long choicePoints = votePoolService.getChoicePoints(voteId, choiceId);
+
+                    double percent = optionParticipants == 0
+                            ? 0
+                            : choiceParticipants * 100.0 / optionParticipants;
+
+                    double odds = choicePoints == 0
+                            ? MAX_ODDS
+                            : Math.min(MAX_ODDS, Math.max(1.0, optionPoints * (1.0 - feeRate) / choicePoints));
+
+                    rows.add(new Object[] {
+                            voteId, optionId, choiceId, odds, percent, (int) choicePoints, recordedAt, 1
+                    });
+                }
+            });
+        });
+        return rows;
+    }
+
+    /* =========================================================
+       3️⃣ 압축 (매 시 5분)
+       ========================================================= */
+    @Scheduled(cron = "0 5 * * * *")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        compact(10, now.minusDays(1));
+        compact(60, now.minusDays(7));
+    }
+
+    /**
+     * cutoff 이전, toMinutes 보다 작은 버킷의 행을 toMinutes 버킷으로 합친다.
+     * cutoff 는 toMinutes 경계로 내림 → 버킷이 반쯤만 압축되는 일이 없음
+     */
+    private void compact(int toMinutes, LocalDateTime olderThan) {
+
+        long bucketSeconds = toMinutes * 60L;
+        long epoch = Timestamp.valueOf(olderThan).getTime() / 1000;
+        Timestamp cutoff = new Timestamp((epoch - Math.floorMod(epoch, bucketSeconds)) * 1000);
+
+        try {
+            Integer inserted = transactionTemplate.execute(status -> {
+                int added = jdbcTemplate.update(COMPACT_INSERT_SQL,
+                        toMinutes, toMinutes, toMinutes, cutoff, toMinutes, toMinutes);
+                jdbcTemplate.update(COMPACT_DELETE_SQL, cutoff, toMinutes);
+                return added;
+            });
+            log.info("[VoteTrend] 압축 완료 → {}분 버킷 cutoff={} rows={}", toMinutes, cutoff, inserted);
+        } catch (Exception e) {
+            log.error("[VoteTrend] 압축 실패 → {}분 버킷", toMinutes, e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.usyj.makgora.global.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 🧪 InMemoryWorkQueue 규약 (RedisStreamWorkQueue 와 동일해야 하는 의미)
+ *
+ * - enqueue / 중복 제거 / 깊이 상한 거절 / poll → ack / idle reclaim / 메트릭
+ */
+class InMemoryWorkQueueTest {
+
+    private static final String QUEUE = WorkQueue.ISSUE_TRIGGER_QUEUE;
+
+    private InMemoryWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new InMemoryWorkQueue();
+        ReflectionTestUtils.setField(queue, "maxDepth", 3L);
+        ReflectionTestUtils.setField(queue, "idempotencyTtlSec", 600L);
+    }
+
+    @Test
+    void enqueueThenPollAndAck() {
+        assertThat(queue.enqueue(article(1))).isTrue();
+
+        List<WorkQueue.Delivery> polled = queue.poll(QUEUE, "c1", 10, Duration.ZERO);
+        assertThat(polled).hasSize(1);
+        assertThat(polled.get(0).message().payload()).isEqualTo("article:1");
+
+        queue.ack(QUEUE, polled.get(0));
+
+        WorkQueue.QueueStats stats = queue.stats(QUEUE);
+        assertThat(stats.depth()).isZero();
+        assertThat(stats.pending()).isZero();
+        assertThat(stats.enqueued()).isEqualTo(1);
+        assertThat(stats.acked()).isEqualTo(1);
+    }
+
+    @Test
+    void duplicateKeyIsDroppedWithinTtl() {
+        assertThat(queue.enqueue(article(1))).isTrue();
+        assertThat(queue.enqueue(article(1))).isFalse();
+
+        // ack 이후에도 TTL 안이면 같은 키는 다시 들어오지 않는다
+        queue.ack(QUEUE, queue.poll(QUEUE, "c1", 10, Duration.ZERO).get(0));
+        assertThat(queue.enqueue(article(1))).isFalse();
+
+        WorkQueue.QueueStats stats = queue.stats(QUEUE);
+        assertThat(stats.enqueued()).isEqualTo(1);
+        assertThat(stats.deduplicated()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsBeyondMaxDepthIncludingPending() {
+        int added = queue.enqueueAll(List.of(article(1), article(2), article(3), article(4)));
+        assertThat(added).isEqualTo(3);
+
+        // poll 된(ack 전) 메시지도 깊이에 포함
+        queue.poll(QUEUE, "c1", 1, Duration.ZERO);
+        assertThat(queue.enqueue(article(5))).isFalse();
+
+        WorkQueue.QueueStats stats = queue.stats(QUEUE);
+        assertThat(stats.depth()).isEqualTo(3);
+        assertThat(stats.pending()).isEqualTo(1);
+        assertThat(stats.rejected()).isEqualTo(2);
+    }
+
+    @Test
+    void unackedDeliveryIsReclaimedAfterIdle() {
+        queue.enqueue(article(1));
+        WorkQueue.Delivery first = queue.poll(QUEUE, "c1", 10, Duration.ZERO).get(0);
+
+        assertThat(queue.reclaim(QUEUE, "c2", Duration.ofMinutes(5), 10)).isEmpty();
+
+        List<WorkQueue.Delivery> reclaimed = queue.reclaim(QUEUE, "c2", Duration.ZERO, 10);
+        assertThat(reclaimed).extracting(WorkQueue.Delivery::id).containsExactly(first.id());
+
+        queue.ack(QUEUE, reclaimed.get(0));
+        assertThat(queue.stats(QUEUE).pending()).isZero();
+    }
+
+    @Test
+    void pollTimesOutOnEmptyQueue() {
+        long started = System.currentTimeMillis();
+        assertThat(queue.poll(QUEUE, "c1", 10, Duration.ofMillis(50))).isEmpty();
+        assertThat(System.currentTimeMillis() - started).isGreaterThanOrEqualTo(40);
+    }
+
+    private static WorkMessage article(int id) {
+        return WorkMessage.of(QUEUE, WorkType.ARTICLE, id);
+    }
+}
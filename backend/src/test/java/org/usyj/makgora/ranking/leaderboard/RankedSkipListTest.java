@@ -0,0 +1,76 @@
+package org.usyj.makgora.ranking.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 🧪 RankedSkipList
+ *
+ * - 무작위 put / remove 를 정렬 리스트(brute force) 와 비교 → rank / range / score 일치
+ */
+class RankedSkipListTest {
+
+    /** ZREVRANGE 와 같은 순서: 점수 내림차순, 동점이면 member 문자열 내림차순 */
+    private static final Comparator<Map.Entry<Integer, Double>> ORDER =
+            Comparator.<Map.Entry<Integer, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                    .thenComparing(e -> String.valueOf(e.getKey()), Comparator.reverseOrder());
+
+    @Test
+    void matchesBruteForceUnderRandomUpdates() {
+        Random random = new Random(42);
+        RankedSkipList list = new RankedSkipList();
+        Map<Integer, Double> expected = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int member = random.nextInt(500);
+            if (random.nextInt(5) == 0) {
+                assertThat(list.remove(member)).isEqualTo(expected.remove(member) != null);
+            } else {
+                // 좁은 점수 범위 → 동점 정렬도 검증
+                double score = random.nextInt(50);
+                list.put(member, score);
+                expected.put(member, score);
+            }
+
+            if (step % 500 == 0) assertSameOrder(list, expected);
+        }
+        assertSameOrder(list, expected);
+    }
+
+    @Test
+    void rangeHandlesBoundaries() {
+        RankedSkipList list = new RankedSkipList();
+        for (int i = 1; i <= 10; i++) list.put(i, i * 10);
+
+        assertThat(list.range(0, 3)).extracting(Leaderboard.Entry::userId).containsExactly(10, 9, 8);
+        assertThat(list.range(8, 5)).extracting(Leaderboard.Entry::rank).containsExactly(9L, 10L);
+        assertThat(list.range(10, 5)).isEmpty();
+        assertThat(list.range(0, 0)).isEmpty();
+        assertThat(list.rank(42)).isZero();
+    }
+
+    private static void assertSameOrder(RankedSkipList list, Map<Integer, Double> expected) {
+        List<Map.Entry<Integer, Double>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(ORDER);
+
+        assertThat(list.size()).isEqualTo(sorted.size());
+
+        List<Leaderboard.Entry> all = list.range(0, sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<Integer, Double> e = sorted.get(i);
+            assertThat(all.get(i).userId()).isEqualTo(e.getKey());
+            assertThat(all.get(i).score()).isEqualTo(e.getValue());
+            assertThat(all.get(i).rank()).isEqualTo(i + 1L);
+            assertThat(list.rank(e.getKey())).isEqualTo(i + 1L);
+            assertThat(list.score(e.getKey())).isEqualTo(e.getValue());
+        }
+    }
+}
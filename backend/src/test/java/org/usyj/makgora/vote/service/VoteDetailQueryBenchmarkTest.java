@@ -0,0 +1,161 @@
+package org.usyj.makgora.vote.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.usyj.makgora.issue.entity.IssueEntity;
+import org.usyj.makgora.issue.repository.IssueRepository;
+import org.usyj.makgora.vote.entity.VoteEntity;
+import org.usyj.makgora.vote.entity.VoteOptionChoiceEntity;
+import org.usyj.makgora.vote.entity.VoteOptionEntity;
+import org.usyj.makgora.vote.repository.VoteOptionChoiceRepository;
+import org.usyj.makgora.vote.repository.VoteOptionRepository;
+import org.usyj.makgora.vote.repository.VoteRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 📏 투표 상세 조회 벤치마크 (쿼리 수)
+ *
+ * - 베팅 10k → 100k 로 늘려도 getVoteDetail 의 JPA statement 수가 같아야 한다
+ * - 테스트 트랜잭션 안에서 시딩하고 끝나면 롤백
+ * - MySQL 이 필요하므로 "benchmark" 태그로 기본 빌드에서 제외
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class VoteDetailQueryBenchmarkTest {
+
+    private static final int SMALL = 10_000;
+    private static final int LARGE = 100_000;
+    private static final int SEED_BATCH = 2_000;
+
+    /** vote graph / options+choices / 집계 projection / 통계 / 댓글 + 여유 */
+    private static final long MAX_STATEMENTS = 10;
+
+    @Autowired private VoteDetailService voteDetailService;
+    @Autowired private VoteDetailCache voteDetailCache;
+    @Autowired private IssueRepository issueRepository;
+    @Autowired private VoteRepository voteRepository;
+    @Autowired private VoteOptionRepository optionRepository;
+    @Autowired private VoteOptionChoiceRepository choiceRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void detailQueryCountDoesNotGrowWithBets() {
+
+        Fixture fixture = createVote();
+
+        seedBets(fixture, 0, SMALL);
+        long small = countStatements(fixture.voteId());
+
+        seedBets(fixture, SMALL, LARGE);
+        long large = countStatements(fixture.voteId());
+
+        assertThat(small).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(large).isEqualTo(small);
+    }
+
+    /* =========================================================
+       측정
+       ========================================================= */
+    private long countStatements(Integer voteId) {
+
+        entityManager.flush();
+        entityManager.clear();
+        voteDetailCache.evict(voteId);
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        voteDetailService.getVoteDetail(voteId, null);
+
+        return stats.getPrepareStatementCount();
+    }
+
+    /* =========================================================
+       시딩: 투표 1 / 옵션 1 / 선택지 2 + 유저 N / 베팅 N (JDBC batch)
+       ========================================================= */
+    private Fixture createVote() {
+
+        IssueEntity issue = issueRepository.save(IssueEntity.builder()
+                .title("benchmark issue")
+                .build());
+
+        VoteEntity vote = voteRepository.save(VoteEntity.builder()
+                .issue(issue)
+                .title("benchmark vote")
+                .endAt(LocalDateTime.now().plusDays(1))
+                .build());
+
+        VoteOptionEntity option = optionRepository.save(VoteOptionEntity.builder()
+                .vote(vote)
+                .optionTitle("benchmark option")
+                .build());
+
+        VoteOptionChoiceEntity yes = choiceRepository.save(VoteOptionChoiceEntity.builder()
+                .option(option)
+                .choiceText("YES")
+                .build());
+        VoteOptionChoiceEntity no = choiceRepository.save(VoteOptionChoiceEntity.builder()
+                .option(option)
+                .choiceText("NO")
+                .build());
+
+        entityManager.flush();
+        return new Fixture(vote.getId(), option.getId(), yes.getId(), no.getId(), "bm" + System.nanoTime() + "_");
+    }
+
+    private void seedBets(Fixture f, int from, int to) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long lastUserId = maxUserId();
+
+        for (int start = from; start < to; start += SEED_BATCH) {
+            int end = Math.min(start + SEED_BATCH, to);
+
+            List<Object[]> users = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                String key = f.prefix() + i;
+                users.add(new Object[] { key, "x", key, now, now });
+            }
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO users (login_id, password, nickname, role, status, points, level, created_at, updated_at)
+                    VALUES (?, ?, ?, 'USER', 'ACTIVE', 0, 1, ?, ?)
+                    """, users);
+
+            jdbcTemplate.update("""
+                    INSERT INTO vote_users (vote_id, user_id, option_id, choice_id, points_bet, is_cancelled, created_at, updated_at)
+                    SELECT ?, u.user_id, ?, IF(MOD(u.user_id, 2) = 0, ?, ?), 100, FALSE, ?, ?
+                    FROM users u
+                    WHERE u.user_id > ? AND u.login_id LIKE ?
+                    """,
+                    f.voteId(), f.optionId(), f.yesChoiceId(), f.noChoiceId(), now, now,
+                    lastUserId, f.prefix() + "%");
+
+            lastUserId = maxUserId();
+        }
+    }
+
+    private long maxUserId() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(user_id), 0) FROM users", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private record Fixture(Integer voteId, Integer optionId, Integer yesChoiceId, Integer noChoiceId, String prefix) {}
+}
@@ -671,11 +671,12 @@ def run_vote_for_issue(session, issue_id):
 
 
 # ============================================================
-# Redis Worker (ISSUE_TRIGGER_QUEUE)
+# Redis Worker (queue:ISSUE_TRIGGER_QUEUE / queue:VOTE_TRIGGER_QUEUE 스트림)
 #
 #  - "article:{id}"       → 기사 → 이슈 생성
 #  - "cp:{id}"            → 커뮤니티 글 → 이슈 생성
 #  - "issueApprove:{id}"  → 승인된 이슈 → Vote 생성
+#  - "issue:{id}"         → 승인된 이슈 → Vote 생성 (VOTE_TRIGGER_QUEUE)
 #
 #  + 처리 성공 시 Redis 플래그 세팅:
 #    - article:{id}:triggered
@@ -716,80 +717,171 @@ def create_redis_client():
     return r
 
 r = create_redis_client()
-QUEUE = "ISSUE_TRIGGER_QUEUE"
+
+# ---------------------------------------------
+# Redis Streams 작업 큐 (Java WorkQueue 와 동일 규약)
+#  - 스트림 키: queue:{큐이름}, 필드 payload = "article:12"
+#  - 컨슈머 그룹으로 읽고 처리 후 XACK + XDEL → 처리 중 죽어도 pending 으로 남음
+#  - RECLAIM_IDLE_MS 이상 ack 안 된 pending 은 XAUTOCLAIM 으로 회수해 재처리
+#  - 전달 횟수(XPENDING)가 MAX_DELIVERIES 를 넘으면 queue:{큐이름}:dead 로 옮기고 ack
+# ---------------------------------------------
+QUEUES = ["ISSUE_TRIGGER_QUEUE", "VOTE_TRIGGER_QUEUE"]
+STREAMS = {f"queue:{q}": ">" for q in QUEUES}
+GROUP = os.getenv("QUEUE_CONSUMER_GROUP", "workers")
+CONSUMER = os.getenv("QUEUE_CONSUMER_NAME", f"issue-worker-{os.getpid()}")
+RECLAIM_IDLE_MS = int(os.getenv("QUEUE_RECLAIM_IDLE_MS", "300000"))
+RECLAIM_INTERVAL_SEC = 60
+# 이 횟수 이상 전달돼도 ack 못 한 메시지는 dead-letter 스트림으로 옮기고 ack (poison message 차단)
+MAX_DELIVERIES = int(os.getenv("QUEUE_MAX_DELIVERIES", "5"))
+DEAD_LETTER_SUFFIX = ":dead"
+
+
+def ensure_groups():
+    for stream in STREAMS:
+        try:
+            r.xgroup_create(stream, GROUP, id="0", mkstream=True)
+        except redis.exceptions.ResponseError as e:
+            if "BUSYGROUP" not in str(e):
+                raise
+
+
+def handle(raw):
+    """payload 1건 처리. 처리 완료(성공/무시)면 True → ack"""
+    print(f"📌 Queue Received: {raw}")
+
+    # 🔥 매 job마다 새로운 DB 세션 생성
+    session = Session()
+    session.expire_all()
+
+    try:
+        # -----------------------------------------------------------
+        # ARTICLE → ISSUE
+        # -----------------------------------------------------------
+        if raw.startswith("article:"):
+            article_id = int(raw.split(":")[1])
+            print(f"➡ Processing Article Issue: {article_id}")
+
+            result = run_issue_for_article(session, article_id)
+            print("📝 Result:", result)
+
+            if result.get("status") in ["success", "ignored", "ignored_vote_exists"]:
+                r.set(f"article:{article_id}:triggered", "1")
+
+        # -----------------------------------------------------------
+        # COMMUNITY → ISSUE
+        # -----------------------------------------------------------
+        elif raw.startswith("cp:"):
+            post_id = int(raw.split(":")[1])
+            print(f"➡ Processing Community Issue: {post_id}")
+
+            result = run_issue_for_community(session, post_id)
+            print("📝 Result:", result)
+
+            if result.get("status") in ["success", "ignored", "ignored_vote_exists"]:
+                r.set(f"cp:{post_id}:triggered", "1")
+
+        # -----------------------------------------------------------
+        # ISSUE APPROVE → VOTE 생성
+        #  - issueApprove:{id} (ISSUE_TRIGGER_QUEUE) / issue:{id} (VOTE_TRIGGER_QUEUE)
+        # -----------------------------------------------------------
+        elif raw.startswith("issueApprove:") or raw.startswith("issue:"):
+            issue_id = int(raw.split(":")[1])
+            print(f"🔥 Issue 승인 감지 → Vote 생성 시작 (issue_id={issue_id})")
+
+            result = run_vote_for_issue(session, issue_id)
+            print("📝 Result:", result)
+
+            if result.get("status") in ["success", "ignored_vote_exists", "ignored"]:
+                r.set(f"issue:{issue_id}:voteCreated", "1")
+
+        else:
+            print(f"⚠️ 알 수 없는 payload → 폐기: {raw}")
+
+        # 처리 시도가 끝난 메시지는 ack (실패 상태는 Java 쪽 idempotency TTL 이후 재enqueue)
+        return True
+
+    finally:
+        session.close()
+
+
+def ack(stream, msg_id):
+    r.xack(stream, GROUP, msg_id)
+    r.xdel(stream, msg_id)
+
+
+def dead_letter(stream, msg_id, fields, deliveries):
+    """재시도 한도 초과 → queue:<name>:dead 로 옮기고 원본 ack"""
+    r.xadd(stream + DEAD_LETTER_SUFFIX, {
+        "payload": (fields or {}).get("payload", ""),
+        "source_id": msg_id,
+        "deliveries": str(deliveries),
+    })
+    ack(stream, msg_id)
+    print(f"☠️ Dead-lettered {stream} {msg_id} (deliveries={deliveries})")
+
+
+def delivery_counts(stream, messages):
+    """XPENDING 으로 회수한 메시지들의 전달 횟수 조회 (XAUTOCLAIM 이 이미 +1 한 값)"""
+    if not messages:
+        return {}
+    ids = [msg_id for msg_id, _ in messages]
+    pending = r.xpending_range(stream, GROUP, min=ids[0], max=ids[-1], count=len(ids), consumername=CONSUMER)
+    return {p["message_id"]: p["times_delivered"] for p in pending}
+
+
+def reclaim():
+    """죽은 컨슈머의 pending 메시지 회수 후 처리 (메시지 하나의 실패가 나머지를 막지 않음)"""
+    for stream in STREAMS:
+        try:
+            _, messages, *_ = r.xautoclaim(stream, GROUP, CONSUMER, RECLAIM_IDLE_MS, start_id="0-0", count=50)
+            counts = delivery_counts(stream, messages)
+        except Exception as e:
+            print(f"❌ Reclaim Error ({stream}):", e)
+            traceback.print_exc()
+            continue
+
+        for msg_id, fields in messages:
+            try:
+                deliveries = counts.get(msg_id, 0)
+                if not fields or deliveries > MAX_DELIVERIES:
+                    # 본문이 사라졌거나 반복 실패 → 다시 돌지 않도록 격리
+                    dead_letter(stream, msg_id, fields, deliveries)
+                elif handle(fields.get("payload", "")):
+                    ack(stream, msg_id)
+            except Exception as e:
+                # ack 안 함 → pending 유지, 다음 회수 때 전달 횟수 증가
+                print(f"❌ Reclaim Job Error ({msg_id}):", e)
+                traceback.print_exc()
 
 
 def worker():
     print("🔄 Makgora Issue/Vote Worker started. Listening for jobs...")
+    ensure_groups()
+    last_reclaim = 0.0
 
     while True:
         try:
-            # -----------------------------------------------------------
-            # 🔥 변경된 부분: r.rpop → r.brpop
-            # brpop은 (queue_name, value) 튜플을 반환함.
-            # timeout=30 동안 메시지가 없으면 None 반환.
-            # -----------------------------------------------------------
-            raw = r.brpop(QUEUE, timeout=30)
-
-            # -----------------------------------------------------------
-            # 🔥 변경된 부분: timeout일 때는 None 반환 → 쉬고 loop 재개
-            # -----------------------------------------------------------
-            if raw is None:
-                time.sleep(1)
+            if time.time() - last_reclaim > RECLAIM_INTERVAL_SEC:
+                try:
+                    reclaim()
+                finally:
+                    # 회수가 실패해도 다음 회수는 주기를 지켜서 (매 루프 재시도로 xreadgroup 을 굶기지 않음)
+                    last_reclaim = time.time()
+
+            # 최대 30초 대기, 메시지 없으면 None/빈 리스트
+            resp = r.xreadgroup(GROUP, CONSUMER, STREAMS, count=10, block=30000)
+            if not resp:
                 continue
 
-            # -----------------------------------------------------------
-            # 🔥 변경된 부분: raw는 (queue, value) 형태이므로 value만 추출
-            # 예: ("ISSUE_TRIGGER_QUEUE", "article:12")
-            # -----------------------------------------------------------
-            raw = raw[1]
-            print(f"📌 Queue Received: {raw}")
-
-            # 🔥 매 job마다 새로운 DB 세션 생성
-            session = Session()
-            session.expire_all()
-
-            # -----------------------------------------------------------
-            # ARTICLE → ISSUE
-            # -----------------------------------------------------------
-            if raw.startswith("article:"):
-                # 🔥 brpop 이후 raw는 문자열이라 그대로 split 가능
-                article_id = int(raw.split(":")[1])
-                print(f"➡ Processing Article Issue: {article_id}")
-
-                result = run_issue_for_article(session, article_id)
-                print("📝 Result:", result)
-
-                if result.get("status") in ["success", "ignored", "ignored_vote_exists"]:
-                    r.set(f"article:{article_id}:triggered", "1")
-
-            # -----------------------------------------------------------
-            # COMMUNITY → ISSUE
-            # -----------------------------------------------------------
-            elif raw.startswith("cp:"):
-                post_id = int(raw.split(":")[1])
-                print(f"➡ Processing Community Issue: {post_id}")
-
-                result = run_issue_for_community(session, post_id)
-                print("📝 Result:", result)
-
-                if result.get("status") in ["success", "ignored", "ignored_vote_exists"]:
-                    r.set(f"cp:{post_id}:triggered", "1")
-
-            # -----------------------------------------------------------
-            # ISSUE APPROVE → VOTE 생성
-            # -----------------------------------------------------------
-            elif raw.startswith("issueApprove:"):
-                issue_id = int(raw.split(":")[1])
-                print(f"🔥 Issue 승인 감지 → Vote 생성 시작 (issue_id={issue_id})")
-
-                result = run_vote_for_issue(session, issue_id)
-                print("📝 Result:", result)
-
-                if result.get("status") in ["success", "ignored_vote_exists", "ignored"]:
-                    r.set(f"issue:{issue_id}:voteCreated", "1")
-
-            session.close()
+            for stream, messages in resp:
+                for msg_id, fields in messages:
+                    try:
+                        if handle(fields.get("payload", "")):
+                            ack(stream, msg_id)
+                    except Exception as e:
+                        # ack 안 함 → pending 유지, RECLAIM_IDLE_MS 후 재처리
+                        print(f"❌ Job Error ({msg_id}):", e)
+                        traceback.print_exc()
 
         except Exception as e:
             print("❌ Worker Error:", e)